@@ -1,6 +1,10 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkconcurrency;
+import benchmarkobservability;
+import benchmarkhttp;
+import benchmarktransactions;
 import ballerina/io;
 
 map<function()> functions;
@@ -13,10 +17,18 @@ function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
     addFloatFunctions();
+    addDecimalFunctions();
     addTimeFunctions();
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addConcurrencyFunctions();
+    addMapFunctions();
+    addTypeCheckFunctions();
+    addXmlFunctions();
+    addObservabilityFunctions();
+    addHttpFunctions();
+    addTransactionFunctions();
 }
 
 function addJSONFunctions() {
@@ -48,6 +60,9 @@ function addJSONFunctions() {
     functions["benchmarkConstrainedJsonWithFunctions"] = benchmarktypes:benchmarkConstrainedJsonWithFunctions;
     functions["benchmarkConstrainedJsonWithFunctionGetKeys"] = benchmarktypes:
     benchmarkConstrainedJsonWithFunctionGetKeys;
+    functions["benchmarkJsonParseFromString"] = benchmarktypes:benchmarkJsonParseFromString;
+    functions["benchmarkJsonParseFromBytes"] = benchmarktypes:benchmarkJsonParseFromBytes;
+    functions["benchmarkJsonParseFromBytesAndReadField"] = benchmarktypes:benchmarkJsonParseFromBytesAndReadField;
 }
 
 function addIntFunctions() {
@@ -77,6 +92,14 @@ function addFloatFunctions() {
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
 }
 
+function addDecimalFunctions() {
+    functions["benchmarkDecimalAddition"] = benchmarktypes:benchmarkDecimalAddition;
+    functions["benchmarkDecimalMultiplication"] = benchmarktypes:benchmarkDecimalMultiplication;
+    functions["benchmarkDecimalSubtraction"] = benchmarktypes:benchmarkDecimalSubtraction;
+    functions["benchmarkDecimalDivision"] = benchmarktypes:benchmarkDecimalDivision;
+    functions["benchmarkDecimalSumInLoop"] = benchmarktypes:benchmarkDecimalSumInLoop;
+}
+
 function addTimeFunctions() {
     functions["benchmarkCurrentTimeFunction"] = benchmarktypes:benchmarkCurrentTimeFunction;
     functions["benchmarkCreateTimeWithZoneIDFunction"] = benchmarktypes:benchmarkCreateTimeWithZoneIDFunction;
@@ -113,12 +136,17 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadCsvRecords"] = benchmarkio:benchmarkReadCsvRecords;
+    functions["benchmarkReadCsvRecordsInParallel"] = benchmarkio:benchmarkReadCsvRecordsInParallel;
+    functions["benchmarkReadTextRecords"] = benchmarkio:benchmarkReadTextRecords;
 }
 
 function addStringFunctions() {
     functions["benchmarkStringContains"] = benchmarktypes:benchmarkStringContains;
     functions["benchmarkStringEqualsIgnoreCase"] = benchmarktypes:benchmarkStringEqualsIgnoreCase;
     functions["benchmarkStringConcat"] = benchmarktypes:benchmarkStringConcat;
+    functions["benchmarkStringConcatInLoop"] = benchmarktypes:benchmarkStringConcatInLoop;
+    functions["benchmarkStringConcatInLoopWithIndexAccess"] = benchmarktypes:benchmarkStringConcatInLoopWithIndexAccess;
     functions["benchmarkStringHasPrefix"] = benchmarktypes:benchmarkStringHasPrefix;
     functions["benchmarkStringHasSuffix"] = benchmarktypes:benchmarkStringHasSuffix;
     functions["benchmarkStringIndexOf"] = benchmarktypes:benchmarkStringIndexOf;
@@ -140,3 +168,48 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addConcurrencyFunctions() {
+    functions["benchmarkStrandFanOut"] = benchmarkconcurrency:benchmarkStrandFanOut;
+    functions["benchmarkNestedStrandFanOut"] = benchmarkconcurrency:benchmarkNestedStrandFanOut;
+    functions["benchmarkWorkerInteraction"] = benchmarkconcurrency:benchmarkWorkerInteraction;
+    functions["benchmarkWorkerPingPong"] = benchmarkconcurrency:benchmarkWorkerPingPong;
+}
+
+function addMapFunctions() {
+    functions["benchmarkMapPut"] = benchmarktypes:benchmarkMapPut;
+    functions["benchmarkMapGet"] = benchmarktypes:benchmarkMapGet;
+    functions["benchmarkMapCopy"] = benchmarktypes:benchmarkMapCopy;
+    functions["benchmarkRecordCreate"] = benchmarktypes:benchmarkRecordCreate;
+    functions["benchmarkRecordFieldAccess"] = benchmarktypes:benchmarkRecordFieldAccess;
+}
+
+function addTypeCheckFunctions() {
+    functions["benchmarkRecordTypeTest"] = benchmarktypes:benchmarkRecordTypeTest;
+    functions["benchmarkUnionTypeTest"] = benchmarktypes:benchmarkUnionTypeTest;
+    functions["benchmarkRecordCast"] = benchmarktypes:benchmarkRecordCast;
+}
+
+function addXmlFunctions() {
+    functions["benchmarkXmlParseFromString"] = benchmarktypes:benchmarkXmlParseFromString;
+    functions["benchmarkXmlParseAndReadElements"] = benchmarktypes:benchmarkXmlParseAndReadElements;
+    functions["benchmarkXmlElementChildren"] = benchmarktypes:benchmarkXmlElementChildren;
+    functions["benchmarkXmlGetName"] = benchmarktypes:benchmarkXmlGetName;
+    functions["benchmarkXmlFromJson"] = benchmarktypes:benchmarkXmlFromJson;
+}
+
+function addObservabilityFunctions() {
+    functions["benchmarkObservedRemoteCall"] = benchmarkobservability:benchmarkObservedRemoteCall;
+}
+
+function addHttpFunctions() {
+    functions["benchmarkBasePathDispatch1Service"] = benchmarkhttp:benchmarkBasePathDispatch1Service;
+    functions["benchmarkBasePathDispatch10Services"] = benchmarkhttp:benchmarkBasePathDispatch10Services;
+    functions["benchmarkBasePathDispatch100Services"] = benchmarkhttp:benchmarkBasePathDispatch100Services;
+    functions["benchmarkBasePathDispatch1000Services"] = benchmarkhttp:benchmarkBasePathDispatch1000Services;
+}
+
+function addTransactionFunctions() {
+    functions["benchmarkLocalTransactions"] = benchmarktransactions:benchmarkLocalTransactions;
+    functions["benchmarkConcurrentLocalTransactions"] = benchmarktransactions:benchmarkConcurrentLocalTransactions;
+}
@@ -0,0 +1,83 @@
+public function benchmarkStrandFanOut() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < 100) {
+        futures[i] = start square(i);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkNestedStrandFanOut() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < 10) {
+        futures[i] = start fanOut(10);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkWorkerInteraction() {
+    worker w1 {
+        int i = 0;
+        while (i < 10) {
+            i -> w2;
+            i = i + 1;
+        }
+    }
+    worker w2 returns int {
+        int sum = 0;
+        int i = 0;
+        while (i < 10) {
+            int value = <- w1;
+            sum = sum + value;
+            i = i + 1;
+        }
+        return sum;
+    }
+    int result = wait w2;
+}
+
+function fanOut(int count) returns int {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures[i] = start square(i);
+        i = i + 1;
+    }
+    int sum = 0;
+    foreach var f in futures {
+        int result = wait f;
+        sum = sum + result;
+    }
+    return sum;
+}
+
+function square(int value) returns int {
+    return value * value;
+}
+
+public function benchmarkWorkerPingPong() {
+    worker ping {
+        int i = 0;
+        while (i < 100) {
+            () sent = i ->> pong;
+            int reply = <- pong;
+            i = i + 1;
+        }
+    }
+    worker pong {
+        int i = 0;
+        while (i < 100) {
+            int request = <- ping;
+            request -> ping;
+            i = i + 1;
+        }
+    }
+    wait pong;
+}
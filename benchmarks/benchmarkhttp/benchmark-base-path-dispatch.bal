@@ -0,0 +1,66 @@
+import ballerina/java;
+
+const int REQUEST_PATH_COUNT = 100;
+
+type BasePaths record {|
+    handle trie;
+    handle[] requestPaths;
+|};
+
+// Base paths of the services of a listener, as matched by the HTTP dispatcher for each request
+final BasePaths basePathsOf1Service = createBasePaths(1);
+final BasePaths basePathsOf10Services = createBasePaths(10);
+final BasePaths basePathsOf100Services = createBasePaths(100);
+final BasePaths basePathsOf1000Services = createBasePaths(1000);
+
+public function benchmarkBasePathDispatch1Service() {
+    findBasePaths(basePathsOf1Service);
+}
+
+public function benchmarkBasePathDispatch10Services() {
+    findBasePaths(basePathsOf10Services);
+}
+
+public function benchmarkBasePathDispatch100Services() {
+    findBasePaths(basePathsOf100Services);
+}
+
+public function benchmarkBasePathDispatch1000Services() {
+    findBasePaths(basePathsOf1000Services);
+}
+
+function findBasePaths(BasePaths basePaths) {
+    foreach handle requestPath in basePaths.requestPaths {
+        handle basePath = findTheMostSpecificBasePath(basePaths.trie, requestPath);
+    }
+}
+
+function createBasePaths(int serviceCount) returns BasePaths {
+    handle trie = newBasePathTrie();
+    int i = 0;
+    while (i < serviceCount) {
+        addBasePath(trie, java:fromString("/api/service" + i.toString()));
+        i = i + 1;
+    }
+    handle[] requestPaths = [];
+    i = 0;
+    while (i < REQUEST_PATH_COUNT) {
+        int service = (i * 7919) % serviceCount;
+        requestPaths.push(java:fromString("/api/service" + service.toString() + "/resource/" + i.toString()));
+        i = i + 1;
+    }
+    return {trie: trie, requestPaths: requestPaths};
+}
+
+function newBasePathTrie() returns handle = @java:Constructor {
+    class: "org.ballerinalang.net.http.BasePathTrie"
+} external;
+
+function addBasePath(handle trie, handle basePath) = @java:Method {
+    name: "add",
+    class: "org.ballerinalang.net.http.BasePathTrie"
+} external;
+
+function findTheMostSpecificBasePath(handle trie, handle requestPath) returns handle = @java:Method {
+    class: "org.ballerinalang.net.http.BasePathTrie"
+} external;
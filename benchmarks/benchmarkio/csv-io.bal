@@ -0,0 +1,50 @@
+import ballerina/io;
+
+const string CSV_RECORDS_PATH = "benchmarkio/resources/records.csv";
+
+final int csvRecordCount = writeCsvRecords(20000);
+
+public function benchmarkReadCsvRecords() {
+    io:ReadableCSVChannel|io:Error csvChannel = io:openReadableCsvFile(CSV_RECORDS_PATH, skipHeaders = 1);
+    if (csvChannel is io:ReadableCSVChannel) {
+        while (csvChannel.hasNext()) {
+            string[]|io:Error? csvRecord = csvChannel.getNext();
+        }
+        var result = csvChannel.close();
+    }
+}
+
+public function benchmarkReadCsvRecordsInParallel() {
+    stream<string[], io:Error>|io:Error csvRecords = io:readCsvRecords(CSV_RECORDS_PATH, skipHeaders = 1);
+    if (csvRecords is stream<string[], io:Error>) {
+        record {| string[] value; |}|io:Error? csvRecord = csvRecords.next();
+        while (csvRecord is record {| string[] value; |}) {
+            csvRecord = csvRecords.next();
+        }
+    }
+}
+
+public function benchmarkReadTextRecords() {
+    io:ReadableByteChannel|io:Error byteChannel = io:openReadableFile(CSV_RECORDS_PATH);
+    if (byteChannel is io:ReadableByteChannel) {
+        io:ReadableCharacterChannel charChannel = new(byteChannel, "UTF-8");
+        io:ReadableTextRecordChannel recordChannel = new(charChannel, fs = ",", rs = "\n");
+        while (recordChannel.hasNext()) {
+            string[]|io:Error textRecord = recordChannel.getNext();
+        }
+        var result = recordChannel.close();
+    }
+}
+
+function writeCsvRecords(int count) returns int {
+    io:WritableCSVChannel|io:Error csvChannel = io:openWritableCsvFile(CSV_RECORDS_PATH);
+    if (csvChannel is io:WritableCSVChannel) {
+        var header = csvChannel.write(["id", "name", "city", "amount", "active"]);
+        foreach int i in 0 ..< count {
+            var result = csvChannel.write([i.toString(), "Name " + i.toString(), "Colombo", (i * 3).toString(),
+                "true"]);
+        }
+        var result = csvChannel.close();
+    }
+    return count;
+}
@@ -0,0 +1,15 @@
+type EchoClient client object {
+    public remote function echo(int value) returns int {
+        return value;
+    }
+};
+
+EchoClient echoClient = new;
+
+public function benchmarkObservedRemoteCall() {
+    int i = 0;
+    while (i < 100) {
+        int result = echoClient->echo(i);
+        i = i + 1;
+    }
+}
@@ -0,0 +1,38 @@
+import ballerina/java;
+
+const int TRANSACTIONS_PER_STRAND = 10;
+const int RESOURCES_PER_TRANSACTION = 2;
+
+public function benchmarkLocalTransactions() {
+    runTransactions(0);
+}
+
+public function benchmarkConcurrentLocalTransactions() {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < 16) {
+        futures[i] = start runTransactions(i);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        wait f;
+    }
+}
+
+// Half of the transactions are committed and the other half are aborted
+function runTransactions(int strand) {
+    handle transactionId = java:fromString("benchmark-trx-" + strand.toString());
+    int i = 0;
+    while (i < TRANSACTIONS_PER_STRAND) {
+        boolean completed = runLocalTransaction(transactionId, i, RESOURCES_PER_TRANSACTION, i % 2 == 0);
+        if (!completed) {
+            panic error("transaction " + i.toString() + " of strand " + strand.toString() + " failed");
+        }
+        i = i + 1;
+    }
+}
+
+function runLocalTransaction(handle transactionId, int transactionBlock, int resourceCount, boolean commit)
+        returns boolean = @java:Method {
+    class: "org.ballerinalang.benchmarks.transactions.InMemoryXAResource"
+} external;
@@ -0,0 +1,38 @@
+type Location record {
+    string street;
+    string city;
+};
+
+type Visitor record {
+    string name;
+    int age;
+    Location location;
+};
+
+type Manager record {
+    string name;
+    int age;
+    Location location;
+    string department;
+};
+
+type Party Visitor|Manager|Location;
+
+public function benchmarkRecordTypeTest() {
+    anydata value = getManager();
+    boolean isVisitor = value is Visitor;
+}
+
+public function benchmarkUnionTypeTest() {
+    anydata value = getManager();
+    boolean isParty = value is Party;
+}
+
+public function benchmarkRecordCast() {
+    anydata value = getManager();
+    Visitor visitor = <Visitor> value;
+}
+
+function getManager() returns Manager {
+    return { name: "John", age: 30, location: { street: "Main Street", city: "Colombo" }, department: "Engineering" };
+}
@@ -0,0 +1,30 @@
+public function benchmarkDecimalAddition() {
+    decimal a = 10.15;
+    decimal b = 9.95;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal price = 12.99;
+    decimal quantity = 3;
+    decimal c = price * quantity;
+}
+
+public function benchmarkDecimalSubtraction() {
+    decimal a = 25.50;
+    decimal b = 15.25;
+    decimal c = a - b;
+}
+
+public function benchmarkDecimalDivision() {
+    decimal a = 25.50;
+    decimal b = 3;
+    decimal c = a / b;
+}
+
+public function benchmarkDecimalSumInLoop() {
+    decimal total = 0;
+    foreach int i in 0 ..< 100 {
+        total = total + 0.15;
+    }
+}
@@ -0,0 +1,45 @@
+import ballerina/mime;
+
+final string orderPayload = "{\"orderId\":\"ORD-2020-000153\",\"status\":\"CONFIRMED\"," +
+    "\"createdAt\":\"2020-03-02T10:15:30Z\"," +
+    "\"customer\":{\"id\":40213,\"name\":\"Jane Perera\",\"email\":\"jane.perera@example.com\",\"vip\":true," +
+    "\"address\":{\"street\":\"No 20, Palm Grove\",\"city\":\"Colombo\",\"zip\":\"00300\",\"country\":\"LK\"}}," +
+    "\"items\":[{\"sku\":\"BK-1021\",\"name\":\"Ballerina in Action\",\"quantity\":2,\"unitPrice\":39.99," +
+    "\"tags\":[\"book\",\"programming\"]},{\"sku\":\"MG-0007\",\"name\":\"Coffee Mug\",\"quantity\":1," +
+    "\"unitPrice\":12.5,\"tags\":[\"kitchen\"]},{\"sku\":\"ST-3310\",\"name\":\"Sticker Pack \\u00e9dition\"," +
+    "\"quantity\":5,\"unitPrice\":1.25,\"tags\":[]}],\"payment\":{\"method\":\"CARD\",\"last4\":\"4242\"," +
+    "\"amount\":98.73,\"currency\":\"USD\"},\"notes\":null}";
+
+final byte[] orderPayloadBytes = orderPayload.toBytes();
+
+final byte[] orderBatchPayloadBytes = createOrderBatchPayload(50).toBytes();
+
+public function benchmarkJsonParseFromString() {
+    json|error order = orderPayload.fromJsonString();
+}
+
+public function benchmarkJsonParseFromBytes() {
+    mime:Entity entity = new;
+    entity.setByteArray(orderPayloadBytes, mime:APPLICATION_JSON);
+    json|error order = entity.getJson();
+}
+
+public function benchmarkJsonParseFromBytesAndReadField() {
+    mime:Entity entity = new;
+    entity.setByteArray(orderBatchPayloadBytes, mime:APPLICATION_JSON);
+    json|error batch = entity.getJson();
+    if (batch is map<json>) {
+        json batchId = batch["batchId"];
+    }
+}
+
+function createOrderBatchPayload(int count) returns string {
+    string payload = "{\"batchId\":\"BATCH-0001\",\"orders\":[";
+    foreach int i in 0 ..< count {
+        if (i > 0) {
+            payload = payload + ",";
+        }
+        payload = payload + orderPayload;
+    }
+    return payload + "]}";
+}
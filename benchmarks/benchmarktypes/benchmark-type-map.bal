@@ -0,0 +1,37 @@
+type Customer record {
+    string name;
+    int age;
+    string city;
+};
+
+public function benchmarkMapPut() {
+    map<int> m = {};
+    int i = 0;
+    while (i < 16) {
+        m["key" + i.toString()] = i;
+        i = i + 1;
+    }
+}
+
+public function benchmarkMapGet() {
+    map<string> m = { name: "John", city: "Colombo", country: "Sri Lanka" };
+    string? name = m["name"];
+    string? city = m["city"];
+    string? country = m["country"];
+}
+
+public function benchmarkMapCopy() {
+    map<string> m = { name: "John", city: "Colombo", country: "Sri Lanka" };
+    map<string> copy = m.clone();
+}
+
+public function benchmarkRecordCreate() {
+    Customer c = { name: "John", age: 30, city: "Colombo" };
+}
+
+public function benchmarkRecordFieldAccess() {
+    Customer c = { name: "John", age: 30, city: "Colombo" };
+    string name = c.name;
+    int age = c.age;
+    string city = c.city;
+}
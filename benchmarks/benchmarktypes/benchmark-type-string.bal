@@ -16,6 +16,21 @@ public function benchmarkStringConcat() {
     string s3 = s2 + s2;
 }
 
+public function benchmarkStringConcatInLoop() {
+    string payload = "";
+    foreach int i in 0 ..< 100 {
+        payload = payload + "item-" + i.toString() + ",";
+    }
+}
+
+public function benchmarkStringConcatInLoopWithIndexAccess() {
+    string payload = "";
+    foreach int i in 0 ..< 100 {
+        payload = payload + "h😀llo";
+    }
+    string c = payload[payload.length() - 1];
+}
+
 public function benchmarkStringHasPrefix() {
     string name = "randomPerson";
     string prefix = "Mr";
@@ -0,0 +1,74 @@
+import ballerina/lang.'xml as xmllib;
+import ballerina/xmlutils;
+
+final string catalogPayload = createCatalogPayload(100);
+
+final xml catalog = createCatalog();
+
+final json catalogJson = createCatalogJson(100);
+
+public function benchmarkXmlParseFromString() {
+    xml|error parsedCatalog = xmllib:fromString(catalogPayload);
+}
+
+public function benchmarkXmlParseAndReadElements() {
+    xml|error parsedCatalog = xmllib:fromString(catalogPayload);
+    if (parsedCatalog is xml) {
+        int count = 0;
+        foreach var book in parsedCatalog.elementChildren("book") {
+            if (book is xmllib:Element) {
+                map<string> attributes = book.getAttributes();
+                count = count + 1;
+            }
+        }
+    }
+}
+
+public function benchmarkXmlElementChildren() {
+    xml titles = catalog.elementChildren("book").elementChildren("title");
+}
+
+public function benchmarkXmlGetName() {
+    foreach var book in catalog.elementChildren() {
+        if (book is xmllib:Element) {
+            string name = book.getName();
+        }
+    }
+}
+
+public function benchmarkXmlFromJson() {
+    xml|error convertedCatalog = xmlutils:fromJSON(catalogJson);
+}
+
+function createCatalog() returns xml {
+    xml|error parsedCatalog = xmllib:fromString(catalogPayload);
+    if (parsedCatalog is xml) {
+        return parsedCatalog;
+    }
+    return xml `<catalog/>`;
+}
+
+function createCatalogPayload(int count) returns string {
+    string payload = "<catalog xmlns:p=\"http://example.com/price\">";
+    foreach int i in 0 ..< count {
+        payload = payload + "<book id=\"bk" + i.toString() + "\" lang=\"en\"><title>Ballerina in Action</title>" +
+            "<author>Jane Perera</author><p:price p:currency=\"USD\">39.99</p:price>" +
+            "<published>2020-03-02</published></book>";
+    }
+    return payload + "</catalog>";
+}
+
+function createCatalogJson(int count) returns json {
+    json[] books = [];
+    foreach int i in 0 ..< count {
+        books[i] = {
+            "@id": "bk" + i.toString(),
+            "@lang": "en",
+            title: "Ballerina in Action",
+            author: "Jane Perera",
+            price: 39.99,
+            published: "2020-03-02"
+        };
+    }
+    return {catalog: {book: books}};
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks.transactions;
+
+import org.ballerinalang.jvm.transactions.BallerinaTransactionContext;
+import org.ballerinalang.jvm.transactions.TransactionResourceManager;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * In-memory XA resource, which stands in for a database in the local transaction benchmarks. The benchmarks call
+ * {@link #runLocalTransaction(String, long, long, boolean)} through Java interop, so that only the transaction
+ * handling of the {@link TransactionResourceManager} is measured.
+ */
+public class InMemoryXAResource implements XAResource, BallerinaTransactionContext {
+
+    private Xid xid;
+    private boolean prepared;
+
+    /**
+     * Runs a local transaction over the given number of in-memory XA resources, as a transaction block which uses
+     * XA data sources does.
+     *
+     * @param transactionId    id of the transaction
+     * @param transactionBlock id of the transaction block, unique within the transaction
+     * @param resourceCount    number of resources which participate in the transaction
+     * @param commit           whether the transaction is committed or aborted
+     * @return true if every resource was committed or rolled back, false otherwise
+     */
+    public static boolean runLocalTransaction(String transactionId, long transactionBlock, long resourceCount,
+                                              boolean commit) {
+        TransactionResourceManager transactionResourceManager = TransactionResourceManager.getInstance();
+        String transactionBlockId = String.valueOf(transactionBlock);
+        for (int i = 0; i < resourceCount; i++) {
+            InMemoryXAResource resource = new InMemoryXAResource();
+            transactionResourceManager.beginXATransaction(transactionId, transactionBlockId, resource);
+            transactionResourceManager.register(transactionId, transactionBlockId, resource);
+        }
+        if (!commit) {
+            return transactionResourceManager.notifyAbort(transactionId, transactionBlockId);
+        }
+        return transactionResourceManager.prepare(transactionId, transactionBlockId) &&
+                transactionResourceManager.notifyCommit(null, transactionId, transactionBlockId);
+    }
+
+    @Override
+    public void start(Xid xid, int flags) throws XAException {
+        if (this.xid != null) {
+            throw new XAException(XAException.XAER_DUPID);
+        }
+        this.xid = xid;
+    }
+
+    @Override
+    public void end(Xid xid, int flags) throws XAException {
+        verifyXid(xid);
+    }
+
+    @Override
+    public int prepare(Xid xid) throws XAException {
+        verifyXid(xid);
+        prepared = true;
+        return XA_OK;
+    }
+
+    @Override
+    public void commit(Xid xid, boolean onePhase) throws XAException {
+        verifyXid(xid);
+        if (!prepared) {
+            throw new XAException(XAException.XAER_PROTO);
+        }
+    }
+
+    @Override
+    public void rollback(Xid xid) throws XAException {
+        verifyXid(xid);
+    }
+
+    @Override
+    public void forget(Xid xid) {
+    }
+
+    @Override
+    public Xid[] recover(int flag) {
+        return new Xid[0];
+    }
+
+    @Override
+    public boolean isSameRM(XAResource xaResource) {
+        return xaResource == this;
+    }
+
+    @Override
+    public int getTransactionTimeout() {
+        return 0;
+    }
+
+    @Override
+    public boolean setTransactionTimeout(int seconds) {
+        return false;
+    }
+
+    private void verifyXid(Xid xid) throws XAException {
+        if (this.xid == null || this.xid != xid) {
+            throw new XAException(XAException.XAER_NOTA);
+        }
+    }
+
+    @Override
+    public void commit() {
+        throw new IllegalStateException("XA resources are committed through the XA protocol");
+    }
+
+    @Override
+    public void rollback() {
+        throw new IllegalStateException("XA resources are rolled back through the XA protocol");
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public XAResource getXAResource() {
+        return this;
+    }
+}
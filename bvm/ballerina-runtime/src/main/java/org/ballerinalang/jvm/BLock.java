@@ -33,18 +33,58 @@ public class BLock {
 
     private ArrayDeque<Strand> waitingForLock;
 
+    /**
+     * Store this lock belongs to, if created through a {@link BLockStore}.
+     */
+    final BLockStore lockStore;
+
+    /**
+     * Lock metrics, only available if lock metrics were enabled when creating the lock.
+     */
+    private final BLockMetrics metrics;
+
+    private ArrayDeque<Long> waitStartTimes;
+
+    private long acquiredTime;
+
     public BLock() {
+        this(null, (BLockMetrics) null);
+    }
+
+    BLock(String lockName, BLockStore lockStore) {
+        this(lockStore, lockName != null && BLockMetrics.isEnabled() ? new BLockMetrics(lockName) : null);
+    }
+
+    BLock(BLockStore lockStore, BLockMetrics metrics) {
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.lockStore = lockStore;
+        this.metrics = metrics;
+        if (metrics != null) {
+            this.waitStartTimes = new ArrayDeque<>();
+        }
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+        if (isLockFree()) {
+            this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
+            if (metrics != null) {
+                this.acquiredTime = System.nanoTime();
+            }
+            return true;
+        }
+
+        if (lockedBySameContext(strand)) {
             this.current.offerLast(strand);
             return true;
         }
 
         this.waitingForLock.offerLast(strand);
+        if (metrics != null) {
+            metrics.recordContention();
+            this.waitStartTimes.offerLast(System.nanoTime());
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -54,9 +94,24 @@ public class BLock {
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+        Strand owner = this.current.removeLast();
+        if (!isLockFree()) {
+            // still held by an outer lock statement of the same strand
+            return;
+        }
+
+        owner.removeAcquiredLock(this);
+        long now = 0;
+        if (metrics != null) {
+            now = System.nanoTime();
+            metrics.recordHoldTime(now - this.acquiredTime);
+        }
+
         if (!waitingForLock.isEmpty()) {
             Strand strand = this.waitingForLock.removeFirst();
+            if (metrics != null) {
+                metrics.recordWaitTime(now - this.waitStartTimes.removeFirst());
+            }
             strand.scheduler.unblockStrand(strand);
         }
     }
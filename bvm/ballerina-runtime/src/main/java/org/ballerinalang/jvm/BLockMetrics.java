@@ -0,0 +1,93 @@
+/*
+ *   Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *   WSO2 Inc. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.Gauge;
+import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
+
+import java.time.Duration;
+
+/**
+ * Records acquisition wait time, hold time and contention count of a {@link BLock}.
+ *
+ * @since 2.0.0
+ */
+public class BLockMetrics {
+
+    private static final String TAG_KEY_LOCK = "lock";
+    private static final StatisticConfig STATISTIC_CONFIG = StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(1))
+            .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+            .build();
+
+    private static volatile boolean enabled = false;
+
+    private final Gauge waitTime;
+    private final Gauge holdTime;
+    private final Counter contentions;
+
+    BLockMetrics(String lockName) {
+        this(Gauge.builder("ballerina_lock_wait_time_seconds")
+                     .description("Time strands waited to acquire the lock")
+                     .tag(TAG_KEY_LOCK, lockName)
+                     .summarize(STATISTIC_CONFIG)
+                     .register(),
+             Gauge.builder("ballerina_lock_hold_time_seconds")
+                     .description("Time the lock was held by a strand")
+                     .tag(TAG_KEY_LOCK, lockName)
+                     .summarize(STATISTIC_CONFIG)
+                     .register(),
+             Counter.builder("ballerina_lock_contentions_total")
+                     .description("Number of times a strand had to wait for the lock")
+                     .tag(TAG_KEY_LOCK, lockName)
+                     .register());
+    }
+
+    BLockMetrics(Gauge waitTime, Gauge holdTime, Counter contentions) {
+        this.waitTime = waitTime;
+        this.holdTime = holdTime;
+        this.contentions = contentions;
+    }
+
+    /**
+     * Enable recording lock metrics for locks created afterwards.
+     *
+     * @param enabled whether lock metrics are recorded
+     */
+    public static void setEnabled(boolean enabled) {
+        BLockMetrics.enabled = enabled;
+    }
+
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    void recordContention() {
+        contentions.increment();
+    }
+
+    void recordWaitTime(long nanos) {
+        waitTime.setValue(nanos / 1E9);
+    }
+
+    void recordHoldTime(long nanos) {
+        holdTime.setValue(nanos / 1E9);
+    }
+}
@@ -0,0 +1,855 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.LazyJsonValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parses JSON documents encoded in UTF-8 directly from the bytes, without decoding the whole document to characters
+ * first. Only string contents are decoded, and field names which are repeated within and across documents are
+ * decoded once.
+ * <p>
+ * This parser only accepts the documents which the {@link JSONParser} state machine parses to the same value. It
+ * rejects every other document, which is then parsed again by the state machine to report the error with its
+ * location, so that both parsers behave the same.
+ * <p>
+ * Objects can also be parsed lazily, where the document is only validated and indexed upfront, and the members of
+ * each object are parsed when the object is first accessed. See {@link LazyJsonValue}.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+class JSONByteParser {
+
+    private static final int FIELD_NAME_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_FIELD_NAME_LENGTH = 32;
+    private static final int MAX_FAST_LONG_DIGITS = 18;
+
+    private static final InvalidJSONException INVALID_JSON = new InvalidJSONException();
+
+    // field names by the hash of their bytes, replaced on collision
+    private final String[] fieldNameCache = new String[FIELD_NAME_CACHE_SIZE];
+
+    private byte[] buff;
+    private int index;
+    private int end;
+
+    // enclosing structures of the structure being parsed, with the field names they are assigned to
+    private Object[] parents = new Object[16];
+    private String[] parentFieldNames = new String[16];
+    private int depth;
+
+    private char[] charBuff = new char[256];
+
+    // index of the document being materialized, whose nested objects are created as lazy values
+    private JSONDocumentIndex document;
+
+    /**
+     * Parses the given UTF-8 encoded JSON document.
+     *
+     * @param bytes  bytes of the document
+     * @param length number of bytes of the document
+     * @return the JSON value
+     * @throws InvalidJSONException if the document is not accepted by this parser
+     */
+    Object parse(byte[] bytes, int length) throws InvalidJSONException {
+        this.buff = bytes;
+        this.index = 0;
+        this.end = length;
+        try {
+            skipWhitespace();
+            if (index == end) {
+                throw INVALID_JSON;
+            }
+
+            Object value;
+            byte b = buff[index];
+            if (b == '{' || b == '[') {
+                value = parseStructure(newStructure(buff[index++]));
+            } else if (b == '"' || b == '\'') {
+                value = parseString();
+            } else {
+                value = parseTopLevelToken();
+            }
+
+            skipWhitespace();
+            if (index != end) {
+                throw INVALID_JSON;
+            }
+            return value;
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Validates and indexes the given UTF-8 encoded JSON object, which is parsed lazily. Documents which would not be
+     * written out as strict JSON from the bytes, such as the ones with single quoted strings, are not accepted.
+     *
+     * @param bytes  bytes of the document
+     * @param length number of bytes of the document
+     * @return the lazily parsed JSON object
+     * @throws InvalidJSONException if the document is not accepted by this parser
+     */
+    LazyJsonValue parseLazily(byte[] bytes, int length) throws InvalidJSONException {
+        this.buff = bytes;
+        this.index = 0;
+        this.end = length;
+        try {
+            skipWhitespace();
+            if (next() != '{') {
+                throw INVALID_JSON;
+            }
+            JSONDocumentIndex document = indexStructure();
+            skipWhitespace();
+            if (index != end) {
+                throw INVALID_JSON;
+            }
+            return new LazyJsonValue(document, 0);
+        } finally {
+            this.buff = null;
+        }
+    }
+
+    /**
+     * Parses the members of an object of an indexed document into the given map. Objects nested in the object are
+     * added as lazy values.
+     *
+     * @param document index of the document
+     * @param ordinal  ordinal of the object in the index
+     * @param target   map to add the members to
+     * @throws InvalidJSONException if the document is not accepted by this parser, which is not expected as it is
+     *                              validated when indexed
+     */
+    void materialize(JSONDocumentIndex document, int ordinal, MapValueImpl<String, Object> target)
+            throws InvalidJSONException {
+        this.document = document;
+        this.buff = document.bytes;
+        this.index = document.startOf(ordinal) + 1;
+        this.end = document.endOf(ordinal) + 1;
+        try {
+            parseStructure(target);
+        } finally {
+            this.document = null;
+            release();
+        }
+    }
+
+    private void release() {
+        // Need to release the parsed values before leaving, since the parser instance is reused.
+        this.buff = null;
+        for (int i = 0; i < depth; i++) {
+            parents[i] = null;
+            parentFieldNames[i] = null;
+        }
+        this.depth = 0;
+    }
+
+    /**
+     * Parses the members of a JSON object or array into the given structure, and the structures nested in it, without
+     * recursion.
+     */
+    private Object parseStructure(Object root) throws InvalidJSONException {
+        Object current = root;
+        boolean firstMember = true;
+        while (true) {
+            skipWhitespace();
+            boolean isObject = current instanceof MapValueImpl;
+            byte b = next();
+            // an empty structure is closed below
+            if (!firstMember || b != closingBracketOf(isObject)) {
+                String fieldName = null;
+                if (isObject) {
+                    if (b != '"' && b != '\'') {
+                        throw INVALID_JSON;
+                    }
+                    fieldName = parseFieldName();
+                    skipWhitespace();
+                    if (next() != ':') {
+                        throw INVALID_JSON;
+                    }
+                    index++;
+                    skipWhitespace();
+                    b = next();
+                }
+
+                Object value;
+                if (b == '{' && document != null) {
+                    value = skipLazyObject();
+                } else if (b == '{' || b == '[') {
+                    pushParent(current, fieldName);
+                    current = newStructure(b);
+                    index++;
+                    firstMember = true;
+                    continue;
+                } else {
+                    value = (b == '"' || b == '\'') ? parseString() : parseToken();
+                }
+                addMember(current, fieldName, value);
+            }
+
+            // close the structures which end after this member
+            while (true) {
+                skipWhitespace();
+                b = next();
+                index++;
+                if (b == ',') {
+                    break;
+                }
+                if (b != closingBracketOf(current instanceof MapValueImpl)) {
+                    throw INVALID_JSON;
+                }
+                if (depth == 0) {
+                    return current;
+                }
+
+                Object child = current;
+                depth--;
+                current = parents[depth];
+                String fieldName = parentFieldNames[depth];
+                parents[depth] = null;
+                parentFieldNames[depth] = null;
+                addMember(current, fieldName, child);
+            }
+            firstMember = false;
+        }
+    }
+
+    private LazyJsonValue skipLazyObject() {
+        int ordinal = document.ordinalOf(index);
+        this.index = document.endOf(ordinal) + 1;
+        return new LazyJsonValue(document, ordinal);
+    }
+
+    /**
+     * Validates the object starting at the current index, and records the extent of it and of the objects nested in
+     * it, without recursion. Objects are also recorded as canonical when their bytes are exactly what the
+     * {@link JSONGenerator} writes for their parsed value, so that they can be written out from the bytes.
+     */
+    private JSONDocumentIndex indexStructure() throws InvalidJSONException {
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        boolean[] canonical = new boolean[16];
+        int count = 0;
+        // ordinals of the enclosing objects, or -1 for arrays, with the state of each of them
+        int[] enclosing = new int[16];
+        int[] enclosingKeyBases = new int[16];
+        boolean[] enclosingCanonical = new boolean[16];
+        int enclosingDepth = 0;
+        // field names of the open objects, as the hash of the bytes and the offset of the name
+        long[] keys = new long[16];
+        int keyCount = 0;
+
+        int current = count;
+        starts[count++] = index++;
+        int keyBase = keyCount;
+        boolean isCanonical = true;
+        boolean firstMember = true;
+        while (true) {
+            isCanonical &= skipSpaces(0);
+            boolean isObject = current >= 0;
+            byte b = next();
+            if (!firstMember || b != closingBracketOf(isObject)) {
+                if (isObject) {
+                    if (b != '"') {
+                        throw INVALID_JSON;
+                    }
+                    int keyStart = index + 1;
+                    if (skipString()) {
+                        if (keyCount == keys.length) {
+                            keys = Arrays.copyOf(keys, keyCount * 2);
+                        }
+                        keys[keyCount++] = ((long) hash(keyStart, index - 1) << 32) | keyStart;
+                    } else {
+                        isCanonical = false;
+                    }
+                    isCanonical &= skipSpaces(0);
+                    if (next() != ':') {
+                        throw INVALID_JSON;
+                    }
+                    index++;
+                    isCanonical &= skipSpaces(0);
+                    b = next();
+                }
+
+                if (b == '{' || b == '[') {
+                    if (enclosingDepth == enclosing.length) {
+                        enclosing = Arrays.copyOf(enclosing, enclosingDepth * 2);
+                        enclosingKeyBases = Arrays.copyOf(enclosingKeyBases, enclosingDepth * 2);
+                        enclosingCanonical = Arrays.copyOf(enclosingCanonical, enclosingDepth * 2);
+                    }
+                    enclosing[enclosingDepth] = current;
+                    enclosingKeyBases[enclosingDepth] = keyBase;
+                    enclosingCanonical[enclosingDepth++] = isCanonical;
+                    if (b == '{') {
+                        if (count == starts.length) {
+                            starts = Arrays.copyOf(starts, count * 2);
+                            ends = Arrays.copyOf(ends, count * 2);
+                            canonical = Arrays.copyOf(canonical, count * 2);
+                        }
+                        current = count;
+                        starts[count++] = index;
+                    } else {
+                        current = -1;
+                    }
+                    keyBase = keyCount;
+                    isCanonical = true;
+                    index++;
+                    firstMember = true;
+                    continue;
+                }
+
+                if (b == '"') {
+                    isCanonical &= skipString();
+                } else {
+                    isCanonical &= skipToken();
+                }
+            }
+
+            while (true) {
+                isCanonical &= skipSpaces(0);
+                b = next();
+                index++;
+                if (b == ',') {
+                    isCanonical &= skipSpaces(1);
+                    break;
+                }
+                if (b != closingBracketOf(current >= 0)) {
+                    throw INVALID_JSON;
+                }
+                if (current >= 0) {
+                    ends[current] = index - 1;
+                    // duplicate field names are merged when parsed, so the object is written out from its members
+                    canonical[current] = isCanonical && !hasDuplicateKeys(keys, keyBase, keyCount);
+                    isCanonical = canonical[current];
+                    keyCount = keyBase;
+                }
+                if (enclosingDepth == 0) {
+                    return new JSONDocumentIndex(buff, starts, ends, canonical, count);
+                }
+                current = enclosing[--enclosingDepth];
+                keyBase = enclosingKeyBases[enclosingDepth];
+                isCanonical &= enclosingCanonical[enclosingDepth];
+            }
+            firstMember = false;
+        }
+    }
+
+    /**
+     * Skips the whitespace at the current index, and returns whether it is the given number of spaces, which is how
+     * the {@link JSONGenerator} separates the tokens.
+     */
+    private boolean skipSpaces(int count) {
+        int start = index;
+        skipWhitespace();
+        if (index - start != count) {
+            return false;
+        }
+        for (int i = start; i < index; i++) {
+            if (buff[i] != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buff[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Checks the given field names of an object for duplicates. The names are sorted in place by their hash.
+     */
+    private boolean hasDuplicateKeys(long[] keys, int from, int to) {
+        if (to - from < 2) {
+            return false;
+        }
+        Arrays.sort(keys, from, to);
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i - 1; j >= from && (keys[j] >>> 32) == (keys[i] >>> 32); j--) {
+                if (isSameKey((int) keys[i], (int) keys[j])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isSameKey(int start, int otherStart) {
+        for (int i = start, j = otherStart; ; i++, j++) {
+            if (buff[i] != buff[j]) {
+                return false;
+            }
+            if (buff[i] == '"') {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Skips a double quoted string, accepting only the strings which are valid as they are in a strict JSON document.
+     * Returns whether the string has no escape sequences, in which case it is written out as it is.
+     */
+    private boolean skipString() throws InvalidJSONException {
+        boolean escaped = false;
+        for (int i = index + 1; i < end; i++) {
+            byte b = buff[i];
+            if (b == '"') {
+                this.index = i + 1;
+                return !escaped;
+            }
+            if (b >= 0 && b < ' ') {
+                // unescaped control characters are escaped when the parsed string is written out
+                throw INVALID_JSON;
+            }
+            if (b != '\\') {
+                continue;
+            }
+
+            escaped = true;
+            if (i + 1 == end) {
+                throw INVALID_JSON;
+            }
+            switch (buff[i + 1]) {
+                case '"':
+                case '\\':
+                case '/':
+                case 'b':
+                case 'f':
+                case 'n':
+                case 'r':
+                case 't':
+                    i++;
+                    break;
+                case 'u':
+                    parseUnicodeEscape(i + 2);
+                    i += 5;
+                    break;
+                default:
+                    throw INVALID_JSON;
+            }
+        }
+        throw INVALID_JSON;
+    }
+
+    /**
+     * Skips a number, boolean or null token, accepting only the tokens which are parsed by the {@link JSONParser} state
+     * machine and which are valid as they are in a strict JSON document. Returns whether the token is written out as
+     * it is, which is not the case for numbers such as {@code -0} and {@code 1.50}.
+     */
+    private boolean skipToken() throws InvalidJSONException {
+        int start = index;
+        Object value = parseToken();
+        byte b = buff[start];
+        if ((b == '-' || (b >= '0' && b <= '9')) && !isStrictNumber(start, index)) {
+            throw INVALID_JSON;
+        }
+        if (value instanceof Double) {
+            return isSameAscii(Double.toString((Double) value), start, index - start);
+        }
+        return !(value instanceof Long) || (Long) value != 0 || b != '-';
+    }
+
+    private boolean isStrictNumber(int start, int end) {
+        int i = start;
+        if (buff[i] == '-') {
+            i++;
+        }
+        int digitsStart = i;
+        i = skipDigits(i, end);
+        if (i == digitsStart || (buff[digitsStart] == '0' && i - digitsStart > 1)) {
+            return false;
+        }
+        if (i < end && buff[i] == '.') {
+            int fractionStart = ++i;
+            i = skipDigits(i, end);
+            if (i == fractionStart) {
+                return false;
+            }
+        }
+        if (i < end && (buff[i] == 'e' || buff[i] == 'E')) {
+            i++;
+            if (i < end && (buff[i] == '+' || buff[i] == '-')) {
+                i++;
+            }
+            int exponentStart = i;
+            i = skipDigits(i, end);
+            if (i == exponentStart) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private int skipDigits(int i, int end) {
+        while (i < end && buff[i] >= '0' && buff[i] <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    private static Object newStructure(byte bracket) {
+        if (bracket == '{') {
+            return new MapValueImpl<String, Object>(new BMapType(BTypes.typeJSON));
+        }
+        return new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+    }
+
+    private static byte closingBracketOf(boolean isObject) {
+        return isObject ? (byte) '}' : (byte) ']';
+    }
+
+    private static void addMember(Object structure, String fieldName, Object value) {
+        if (fieldName != null) {
+            ((MapValueImpl<String, Object>) structure).put(fieldName, value);
+        } else {
+            ((ArrayValue) structure).append(value);
+        }
+    }
+
+    private void pushParent(Object parent, String fieldName) {
+        if (depth == parents.length) {
+            Object[] newParents = new Object[depth * 2];
+            System.arraycopy(parents, 0, newParents, 0, depth);
+            parents = newParents;
+            String[] newFieldNames = new String[depth * 2];
+            System.arraycopy(parentFieldNames, 0, newFieldNames, 0, depth);
+            parentFieldNames = newFieldNames;
+        }
+        parents[depth] = parent;
+        parentFieldNames[depth] = fieldName;
+        depth++;
+    }
+
+    private byte next() throws InvalidJSONException {
+        if (index == end) {
+            throw INVALID_JSON;
+        }
+        return buff[index];
+    }
+
+    private void skipWhitespace() {
+        while (index < end) {
+            byte b = buff[index];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            index++;
+        }
+    }
+
+    private String parseFieldName() throws InvalidJSONException {
+        byte quote = buff[index];
+        int start = index + 1;
+        int hash = 0;
+        int i = start;
+        // field names are mostly short and ascii, which are looked up in the cache without decoding them
+        for (; i < end; i++) {
+            byte b = buff[i];
+            if (b == quote) {
+                break;
+            }
+            if (b < 0 || b == '\\') {
+                return parseString();
+            }
+            hash = 31 * hash + b;
+        }
+        if (i == end) {
+            throw INVALID_JSON;
+        }
+
+        int length = i - start;
+        this.index = i + 1;
+        if (length > MAX_CACHED_FIELD_NAME_LENGTH) {
+            return new String(buff, start, length, StandardCharsets.ISO_8859_1);
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+        String fieldName = fieldNameCache[slot];
+        if (fieldName == null || !isSameAscii(fieldName, start, length)) {
+            fieldName = new String(buff, start, length, StandardCharsets.ISO_8859_1);
+            fieldNameCache[slot] = fieldName;
+        }
+        return fieldName;
+    }
+
+    private boolean isSameAscii(String str, int start, int length) {
+        if (str.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != buff[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String parseString() throws InvalidJSONException {
+        byte quote = buff[index];
+        int start = index + 1;
+        boolean ascii = true;
+        for (int i = start; i < end; i++) {
+            byte b = buff[i];
+            if (b == quote) {
+                this.index = i + 1;
+                return new String(buff, start, i - start,
+                                  ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                return parseEscapedString(quote, start, i);
+            }
+            if (b < 0) {
+                ascii = false;
+            }
+        }
+        throw INVALID_JSON;
+    }
+
+    /**
+     * Parses the rest of a string from its first escape sequence. Only the bytes between escape sequences are decoded,
+     * as the quote and escape characters never occur within a multi-byte UTF-8 sequence.
+     */
+    private String parseEscapedString(byte quote, int start, int escapeIndex) throws InvalidJSONException {
+        int length = 0;
+        int i = escapeIndex;
+        int segmentStart = start;
+        while (i < end) {
+            byte b = buff[i];
+            if (b == quote) {
+                length = appendDecoded(segmentStart, i, length);
+                this.index = i + 1;
+                return new String(charBuff, 0, length);
+            }
+            if (b != '\\') {
+                i++;
+                continue;
+            }
+
+            length = appendDecoded(segmentStart, i, length);
+            if (i + 1 == end) {
+                throw INVALID_JSON;
+            }
+            char ch;
+            switch (buff[i + 1]) {
+                case '"':
+                    ch = '"';
+                    break;
+                case '\\':
+                    ch = '\\';
+                    break;
+                case '/':
+                    ch = '/';
+                    break;
+                case 'b':
+                    ch = '\b';
+                    break;
+                case 'f':
+                    ch = '\f';
+                    break;
+                case 'n':
+                    ch = '\n';
+                    break;
+                case 'r':
+                    ch = '\r';
+                    break;
+                case 't':
+                    ch = '\t';
+                    break;
+                case 'u':
+                    ch = parseUnicodeEscape(i + 2);
+                    i += 4;
+                    break;
+                default:
+                    throw INVALID_JSON;
+            }
+            length = append(ch, length);
+            i += 2;
+            segmentStart = i;
+        }
+        throw INVALID_JSON;
+    }
+
+    private char parseUnicodeEscape(int start) throws InvalidJSONException {
+        if (start + 4 > end) {
+            throw INVALID_JSON;
+        }
+        int value = 0;
+        for (int i = start; i < start + 4; i++) {
+            int digit = Character.digit(buff[i], 16);
+            if (digit < 0) {
+                throw INVALID_JSON;
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private int appendDecoded(int start, int end, int length) {
+        if (start == end) {
+            return length;
+        }
+        String segment = new String(buff, start, end - start, StandardCharsets.UTF_8);
+        ensureCharBuffCapacity(length + segment.length());
+        segment.getChars(0, segment.length(), charBuff, length);
+        return length + segment.length();
+    }
+
+    private int append(char ch, int length) {
+        ensureCharBuffCapacity(length + 1);
+        charBuff[length] = ch;
+        return length + 1;
+    }
+
+    private void ensureCharBuffCapacity(int capacity) {
+        if (capacity > charBuff.length) {
+            char[] newBuff = new char[Math.max(capacity, charBuff.length * 2)];
+            System.arraycopy(charBuff, 0, newBuff, 0, charBuff.length);
+            charBuff = newBuff;
+        }
+    }
+
+    private Object parseTopLevelToken() throws InvalidJSONException {
+        int start = index;
+        while (index < end) {
+            byte b = buff[index];
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            index++;
+        }
+        return toValue(start, index);
+    }
+
+    private Object parseToken() throws InvalidJSONException {
+        int start = index;
+        while (index < end) {
+            byte b = buff[index];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                break;
+            }
+            index++;
+        }
+        return toValue(start, index);
+    }
+
+    /**
+     * Converts a number, boolean or null token in the same way as the {@link JSONParser} state machine.
+     */
+    private Object toValue(int start, int end) throws InvalidJSONException {
+        int length = end - start;
+        if (length == 0) {
+            throw INVALID_JSON;
+        }
+
+        boolean hasDecimalPoint = false;
+        for (int i = start; i < end; i++) {
+            byte b = buff[i];
+            if (b < 0) {
+                // non ascii digits are left to the state machine
+                throw INVALID_JSON;
+            }
+            if (b == '.') {
+                hasDecimalPoint = true;
+            }
+        }
+
+        if (hasDecimalPoint) {
+            try {
+                return Double.parseDouble(new String(buff, start, length, StandardCharsets.ISO_8859_1));
+            } catch (NumberFormatException e) {
+                throw INVALID_JSON;
+            }
+        }
+
+        switch (buff[start]) {
+            case 't':
+                if (isToken("true", start, length)) {
+                    return Boolean.TRUE;
+                }
+                throw INVALID_JSON;
+            case 'f':
+                if (isToken("false", start, length)) {
+                    return Boolean.FALSE;
+                }
+                throw INVALID_JSON;
+            case 'n':
+                if (isToken("null", start, length)) {
+                    return null;
+                }
+                throw INVALID_JSON;
+            default:
+                return toLong(start, end);
+        }
+    }
+
+    private boolean isToken(String token, int start, int length) {
+        return length == token.length() && isSameAscii(token, start, length);
+    }
+
+    private long toLong(int start, int end) throws InvalidJSONException {
+        int i = buff[start] == '-' ? start + 1 : start;
+        if (i < end && end - i <= MAX_FAST_LONG_DIGITS) {
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = buff[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+            if (i == end) {
+                return buff[start] == '-' ? -value : value;
+            }
+        }
+
+        try {
+            return Long.parseLong(new String(buff, start, end - start, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            throw INVALID_JSON;
+        }
+    }
+
+    /**
+     * Signals that a document is not accepted by the {@link JSONByteParser}. Thrown as a shared instance without a
+     * stack trace, as the document is parsed again to report the error.
+     */
+    static class InvalidJSONException extends Exception {
+
+        private static final long serialVersionUID = -2284535012546101462L;
+
+        InvalidJSONException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.LazyJsonValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Structural index of a validated UTF-8 encoded JSON document, holding the bytes of the document and the extent of
+ * every object in it. Objects are identified by their ordinal, which is their position in the document order. An
+ * object is canonical when its bytes are the same as what {@link JSONGenerator} writes for its parsed value, without
+ * extra whitespace, escape sequences, duplicate field names or numbers which are written differently once parsed.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @see LazyJsonValue
+ * @since 2.0.0
+ */
+public class JSONDocumentIndex {
+
+    final byte[] bytes;
+    // offsets of the opening and closing brackets of the objects, by their ordinal
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean[] canonical;
+    private final int count;
+
+    JSONDocumentIndex(byte[] bytes, int[] starts, int[] ends, boolean[] canonical, int count) {
+        this.bytes = bytes;
+        this.starts = starts;
+        this.ends = ends;
+        this.canonical = canonical;
+        this.count = count;
+    }
+
+    int startOf(int ordinal) {
+        return starts[ordinal];
+    }
+
+    int endOf(int ordinal) {
+        return ends[ordinal];
+    }
+
+    int ordinalOf(int start) {
+        return Arrays.binarySearch(starts, 0, count, start);
+    }
+
+    /**
+     * Returns whether the given object is canonical, in which case it can be written out as it is in the document.
+     *
+     * @param ordinal ordinal of the object
+     * @return true if the object is canonical, false otherwise
+     */
+    public boolean isCanonical(int ordinal) {
+        return canonical[ordinal];
+    }
+
+    /**
+     * Parses the members of the given object into the given map.
+     *
+     * @param ordinal ordinal of the object
+     * @param target  map to add the members to
+     */
+    public void materialize(int ordinal, MapValueImpl<String, Object> target) {
+        try {
+            JSONParser.getByteParser().materialize(this, ordinal, target);
+        } catch (JSONByteParser.InvalidJSONException e) {
+            // not expected, since the document is validated when indexed
+            throw new BallerinaException("error occurred while parsing JSON: invalid indexed document");
+        }
+    }
+
+    /**
+     * Writes the given canonical object to the given {@code JSONGenerator}, as it is in the document.
+     *
+     * @param ordinal ordinal of the object
+     * @param gen     {@code JSONGenerator} to use
+     * @throws IOException if an error occurs while writing
+     */
+    public void serialize(int ordinal, JSONGenerator gen) throws IOException {
+        gen.writeRaw(bytes, starts[ordinal], ends[ordinal] - starts[ordinal] + 1);
+    }
+}
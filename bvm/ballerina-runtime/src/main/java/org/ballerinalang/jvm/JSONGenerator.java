@@ -21,6 +21,7 @@ import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.LazyJsonValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.RefValue;
 import org.ballerinalang.jvm.values.StreamingJsonValue;
@@ -33,6 +34,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
@@ -45,8 +47,14 @@ public class JSONGenerator {
 
     private static final int DEFAULT_DEPTH = 10;
 
+    // same as the buffer size of the writer, beyond which the writer does not buffer the content either
+    private static final int MIN_DIRECT_WRITE_SIZE = 8192;
+
     private Writer writer;
 
+    // underlying stream of the writer, if raw UTF-8 content can be written to it directly
+    private OutputStream utf8Out;
+
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
     private int currentLevel;
@@ -70,6 +78,9 @@ public class JSONGenerator {
 
     public JSONGenerator(OutputStream out, Charset charset) {
         this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.utf8Out = out;
+        }
     }
 
     public JSONGenerator(Writer writer) {
@@ -259,6 +270,24 @@ public class JSONGenerator {
         this.writer.write("null");
     }
 
+    /**
+     * Writes the given UTF-8 encoded JSON value as it is.
+     *
+     * @param bytes  bytes containing the value
+     * @param offset offset of the value
+     * @param length number of bytes of the value
+     * @throws IOException if an error occurs while writing
+     */
+    public void writeRaw(byte[] bytes, int offset, int length) throws IOException {
+        this.processValueInit();
+        if (this.utf8Out != null && length >= MIN_DIRECT_WRITE_SIZE) {
+            this.writer.flush();
+            this.utf8Out.write(bytes, offset, length);
+            return;
+        }
+        this.writer.write(new String(bytes, offset, length, StandardCharsets.UTF_8));
+    }
+
     public void writeStartArray() throws IOException {
         this.processStartLevel();
         this.writer.write("[");
@@ -310,6 +339,11 @@ public class JSONGenerator {
                 break;
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
+                if (json instanceof LazyJsonValue && ((LazyJsonValue) json).isSerializedAsIs()) {
+                    // objects which are not accessed are written out as they were received, if it is the same output
+                    ((LazyJsonValue) json).serialize(this);
+                    break;
+                }
                 this.startObject();
                 if (ArrayValueImpl.USE_BSTRING) {
                     for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
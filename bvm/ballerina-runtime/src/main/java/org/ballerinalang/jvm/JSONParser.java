@@ -36,7 +36,9 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 
 /**
@@ -50,6 +52,11 @@ public class JSONParser {
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
     public static final boolean USE_BSTRING = System.getProperty(IS_STRING_VALUE_PROP) != null;
 
+    private static final int INITIAL_BYTE_BUFF_SIZE = 8192;
+
+    // objects smaller than this are parsed eagerly, since indexing them costs more than it saves
+    private static final int MIN_LAZY_DOCUMENT_SIZE = 4096;
+
     private static ThreadLocal<StateMachine> tlStateMachine = new ThreadLocal<StateMachine>() {
         @Override
         public StateMachine initialValue() {
@@ -57,6 +64,12 @@ public class JSONParser {
         }
     };
 
+    private static ThreadLocal<JSONByteParser> tlByteParser = ThreadLocal.withInitial(JSONByteParser::new);
+
+    static JSONByteParser getByteParser() {
+        return tlByteParser.get();
+    }
+
     /**
      * Parses the contents in the given {@link InputStream} and returns a json.
      *
@@ -79,13 +92,74 @@ public class JSONParser {
      */
     public static Object parse(InputStream in, String charsetName) throws BallerinaException {
         try {
-            Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName));
+            Object jsonObj;
+            if (isUTF8(charsetName)) {
+                jsonObj = parseUTF8(in);
+            } else {
+                jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName));
+            }
             return changeForBString(jsonObj);
         } catch (IOException e) {
             throw BallerinaErrors.createError("Error in parsing JSON data: " + e.getMessage());
         }
     }
 
+    private static boolean isUTF8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // unsupported charsets are reported when the input stream is read
+            return false;
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents of the given {@link InputStream} from the bytes. Large objects are parsed
+     * lazily. Documents which are not accepted by the {@link JSONByteParser} are parsed by the state machine, which
+     * reports the error.
+     */
+    private static Object parseUTF8(InputStream in) throws IOException {
+        byte[] bytes = new byte[INITIAL_BYTE_BUFF_SIZE];
+        int length = 0;
+        int count;
+        while ((count = in.read(bytes, length, bytes.length - length)) != -1) {
+            length += count;
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+        }
+
+        JSONByteParser parser = tlByteParser.get();
+        try {
+            if (isLazyParsingCandidate(bytes, length)) {
+                try {
+                    return parser.parseLazily(bytes, length);
+                } catch (JSONByteParser.InvalidJSONException e) {
+                    // parsed eagerly below, which accepts more documents
+                }
+            }
+            return parser.parse(bytes, length);
+        } catch (JSONByteParser.InvalidJSONException e) {
+            return parse(new StringReader(new String(bytes, 0, length, StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * Large objects are parsed lazily, unless the members are converted to {@link BString} values right away.
+     */
+    private static boolean isLazyParsingCandidate(byte[] bytes, int length) {
+        if (USE_BSTRING || length < MIN_LAZY_DOCUMENT_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -230,6 +304,9 @@ public class JSONParser {
             this.column = 0;
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
+            // content of a value left by a document which failed to parse
+            this.charBuffIndex = 0;
+            this.hexBuilder.setLength(0);
         }
 
         private static boolean isWhitespace(char ch) {
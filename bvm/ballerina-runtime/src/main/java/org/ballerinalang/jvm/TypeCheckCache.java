@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the results of structural type checks done by the {@link TypeChecker}, so that checking the same pair of
+ * types again does not walk the members of the types. Types are compared by identity, since the {@code equals}
+ * implementations of the types only compare the type names.
+ * <p>
+ * The cache is a fixed size table, where each pair of types maps to a set of a few entries. When a set is full, an
+ * entry which has not been hit since it was last considered is replaced, as in the clock algorithm. Types created at
+ * runtime, eg: for iterator results, then replace each other instead of the entries which are hit repeatedly. Types
+ * are weakly referenced, so that the cache does not keep them alive.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private static final int MAX_SIZE = 8192;
+    private static final int WAYS = 4;
+    private static final TypeCheckCache instance = new TypeCheckCache(MAX_SIZE);
+
+    // sets of WAYS entries each. Entries are immutable apart from the referenced flag, and are replaced as a whole
+    private final Entry[] entries;
+    // next entry to consider for eviction, by set
+    private final int[] hands;
+    private final int setMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    TypeCheckCache(int maxSize) {
+        int sets = Integer.highestOneBit(Math.max(1, maxSize / WAYS));
+        this.entries = new Entry[sets * WAYS];
+        this.hands = new int[sets];
+        this.setMask = sets - 1;
+    }
+
+    public static TypeCheckCache getInstance() {
+        return instance;
+    }
+
+    Boolean get(BType sourceType, BType targetType) {
+        int set = setOf(sourceType, targetType);
+        for (int i = set * WAYS; i < (set + 1) * WAYS; i++) {
+            Entry entry = entries[i];
+            if (entry != null && entry.isFor(sourceType, targetType)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hitCount.increment();
+                return entry.result;
+            }
+        }
+        missCount.increment();
+        return null;
+    }
+
+    void put(BType sourceType, BType targetType, boolean result) {
+        int set = setOf(sourceType, targetType);
+        int base = set * WAYS;
+        Entry entry = new Entry(sourceType, targetType, result);
+        for (int i = base; i < base + WAYS; i++) {
+            Entry current = entries[i];
+            if (current == null || current.isCleared() || current.isFor(sourceType, targetType)) {
+                entries[i] = entry;
+                return;
+            }
+        }
+
+        // Entries are given a second chance if hit since the hand passed them. The hand goes around at most twice,
+        // as concurrent hits may set the flags again.
+        int hand = hands[set];
+        for (int i = 0; i < WAYS * 2 - 1; i++) {
+            Entry current = entries[base + hand];
+            if (!current.referenced) {
+                break;
+            }
+            current.referenced = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        entries[base + hand] = entry;
+        hands[set] = (hand + 1) & (WAYS - 1);
+    }
+
+    private int setOf(BType sourceType, BType targetType) {
+        int hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & setMask;
+    }
+
+    /**
+     * @return number of type checks answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return number of type checks which had to be computed
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return ratio of the type checks answered from the cache, or zero if there were no checks
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return number of type pairs in the cache
+     */
+    public int getSize() {
+        int size = 0;
+        for (Entry entry : entries) {
+            if (entry != null && !entry.isCleared()) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Result of checking a pair of types, which refers to the source type through the weak reference itself.
+     */
+    private static class Entry extends WeakReference<BType> {
+        private final WeakReference<BType> targetType;
+        private final boolean result;
+        // set when hit, and cleared when the entry is given a second chance
+        private volatile boolean referenced;
+
+        Entry(BType sourceType, BType targetType, boolean result) {
+            super(sourceType);
+            this.targetType = new WeakReference<>(targetType);
+            this.result = result;
+        }
+
+        boolean isFor(BType sourceType, BType targetType) {
+            return get() == sourceType && this.targetType.get() == targetType;
+        }
+
+        boolean isCleared() {
+            return get() == null || targetType.get() == null;
+        }
+    }
+}
@@ -95,6 +95,7 @@ public class TypeChecker {
 
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
     public static final boolean USE_BSTRING = System.getProperty(IS_STRING_VALUE_PROP) != null;
+    private static final TypeCheckCache TYPE_CHECK_CACHE = TypeCheckCache.getInstance();
 
     public static Object checkCast(Object sourceVal, BType targetType) {
 
@@ -623,8 +624,10 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceType.getTag();
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                return checkIsRecursiveTypeCached(sourceType, targetType);
         }
     }
 
@@ -640,6 +643,19 @@ public class TypeChecker {
         return checkIsType(sourceTypedesc.getConstraint(), targetType.getConstraint(), unresolvedTypes);
     }
 
+    private static boolean checkIsRecursiveTypeCached(BType sourceType, BType targetType) {
+        // only the outermost checks are cached, as the results of the nested checks depend on the pairs which are
+        // assumed to be assignable while they are being resolved
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+        return result;
+    }
+
     private static boolean checkIsRecursiveType(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         switch (targetType.getTag()) {
             case TypeTags.MAP_TAG:
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.XMLValue;
+
+import java.io.Reader;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Pull based reader of the elements at a given depth of an XML document, using {@code XMLStreamReader}. Each element
+ * is built only when it is read, and the content outside of the elements is skipped without building it. Hence the
+ * memory used does not depend on the size of the document, but only on the size of an element.
+ *
+ * @since 2.0.0
+ */
+public class XMLElementReader {
+
+    private final XMLStreamReader xmlStreamReader;
+    private final XMLTreeBuilder treeBuilder;
+    private final int depth;
+    // depth of the element enclosing the current position of the reader, where the root element is at depth 0
+    private int currentDepth = -1;
+
+    /**
+     * Creates a reader of the elements at the given depth of the XML document read from the given reader.
+     *
+     * @param reader XML reader
+     * @param depth  depth of the elements, where the root element is at depth 0
+     */
+    public XMLElementReader(Reader reader, int depth) {
+        if (depth < 0) {
+            throw new BallerinaException("invalid xml element depth: " + depth);
+        }
+        this.xmlStreamReader = XMLTreeBuilder.createXMLStreamReader(reader);
+        this.treeBuilder = new XMLTreeBuilder(xmlStreamReader);
+        this.depth = depth;
+    }
+
+    /**
+     * Reads the next element at the depth of this reader.
+     *
+     * @return the next element, or null if there are no more elements
+     */
+    public XMLValue next() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                int next = xmlStreamReader.next();
+                if (next == START_ELEMENT) {
+                    if (currentDepth + 1 == depth) {
+                        return treeBuilder.parseElement();
+                    }
+                    currentDepth++;
+                } else if (next == END_ELEMENT) {
+                    currentDepth--;
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new BallerinaException("failed to parse xml: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Releases the resources of the reader. The underlying reader is not closed.
+     */
+    public void close() {
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            throw new BallerinaException("failed to close xml reader: " + e.getMessage(), e);
+        }
+    }
+}
@@ -22,7 +22,6 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.XMLComment;
 import org.ballerinalang.jvm.values.XMLItem;
 import org.ballerinalang.jvm.values.XMLPi;
-import org.ballerinalang.jvm.values.XMLQName;
 import org.ballerinalang.jvm.values.XMLSequence;
 import org.ballerinalang.jvm.values.XMLValue;
 import org.ballerinalang.jvm.values.api.BXML;
@@ -72,11 +71,20 @@ public class XMLTreeBuilder {
     private Deque<XMLSequence> seqDeque;
     private Deque<List<BXML>> siblingDeque;
 
+    // names repeated across the elements of the document, shared by the elements instead of being held per element
+    private final Map<QName, QName> elementNames = new HashMap<>();
+    private final Map<QName, String> attributeKeys = new HashMap<>();
+    private final Map<String, String> namespaceKeys = new HashMap<>();
+
     public XMLTreeBuilder(String str) {
         this(new StringReader(str));
     }
 
     public XMLTreeBuilder(Reader stringReader) {
+        this(createXMLStreamReader(stringReader));
+    }
+
+    XMLTreeBuilder(XMLStreamReader xmlStreamReader) {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -85,55 +93,89 @@ public class XMLTreeBuilder {
         siblingDeque.push(siblings);
         seqDeque.push(new XMLSequence(siblings));
 
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    static XMLStreamReader createXMLStreamReader(Reader reader) {
         try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+            return xmlInputFactory.createXMLStreamReader(reader);
         } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
+            throw handleXMLStreamException(e);
         }
     }
 
-    private void handleXMLStreamException(Exception e) {
+    private static BallerinaException handleXMLStreamException(Exception e) {
         // todo: do e.getMessage contain all the information? verify
-        throw new BallerinaException(e.getMessage(), e);
+        return new BallerinaException(e.getMessage(), e);
     }
 
     public XMLValue parse() {
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readEvent(next);
             }
         } catch (Exception e) {
-            handleXMLStreamException(e);
+            throw handleXMLStreamException(e);
         }
 
         return null;
     }
 
+    /**
+     * Builds the element at the current {@code START_ELEMENT} event of the reader, leaving the reader at the matching
+     * {@code END_ELEMENT} event. The element is not retained by the builder.
+     *
+     * @return the element
+     * @throws XMLStreamException if the element is not well-formed
+     */
+    XMLItem parseElement() throws XMLStreamException {
+        List<BXML> siblings = siblingDeque.peek();
+        readElement(xmlStreamReader);
+        XMLItem element = (XMLItem) siblings.remove(siblings.size() - 1);
+
+        int depth = 1;
+        while (depth > 0) {
+            int next = xmlStreamReader.next();
+            if (next == START_ELEMENT) {
+                depth++;
+            } else if (next == END_ELEMENT) {
+                depth--;
+            }
+            readEvent(next);
+        }
+        return element;
+    }
+
+    private void readEvent(int next) {
+        switch (next) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -164,10 +206,9 @@ public class XMLTreeBuilder {
     }
 
     private void readElement(XMLStreamReader xmlStreamReader) {
-        QName elemName = xmlStreamReader.getName();
-        XMLQName name = new XMLQName(elemName.getLocalPart(),
-                elemName.getNamespaceURI(), elemName.getPrefix());
-        XMLItem xmlItem = (XMLItem) XMLFactory.createXMLElement(name, name, (String) null);
+        QName elemName = internElementName(xmlStreamReader.getName());
+        // names read by the parser are well-formed, hence the element is created without validating the name
+        XMLItem xmlItem = new XMLItem(elemName);
 
         seqDeque.push(xmlItem.getChildrenSeq());
 
@@ -180,29 +221,32 @@ public class XMLTreeBuilder {
     // todo: need to write a comment explaining each step
     private void populateAttributeMap(XMLStreamReader xmlStreamReader, XMLItem xmlItem, QName elemName) {
         MapValue<String, String> attributesMap = xmlItem.getAttributesMap();
-        Set<QName> usedNS = new HashSet<>(); // Track namespace prefixes found in this element.
+        Set<QName> usedNS = null; // Track namespace prefixes found in this element.
 
         int count = xmlStreamReader.getAttributeCount();
         for (int i = 0; i < count; i++) {
             QName attributeName = xmlStreamReader.getAttributeName(i);
-            attributesMap.put(attributeName.toString(), xmlStreamReader.getAttributeValue(i));
+            attributesMap.put(getAttributeKey(attributeName), xmlStreamReader.getAttributeValue(i));
             if (!attributeName.getPrefix().isEmpty()) {
+                usedNS = usedNS == null ? new HashSet<>() : usedNS;
                 usedNS.add(attributeName);
             }
         }
 
         if (!elemName.getPrefix().isEmpty()) {
+            usedNS = usedNS == null ? new HashSet<>() : usedNS;
             usedNS.add(elemName);
         }
-        for (QName qName : usedNS) {
-            String prefix = qName.getPrefix();
-            String namespaceURI = qName.getNamespaceURI();
-            if (namespaceURI.isEmpty()) {
-                namespaceURI = namespaces.getOrDefault(prefix, "");
-            }
+        if (usedNS != null) {
+            for (QName qName : usedNS) {
+                String prefix = qName.getPrefix();
+                String namespaceURI = qName.getNamespaceURI();
+                if (namespaceURI.isEmpty()) {
+                    namespaceURI = namespaces.getOrDefault(prefix, "");
+                }
 
-            String xmlnsPrefix = XMLItem.XMLNS_URL_PREFIX + prefix;
-            attributesMap.put(xmlnsPrefix, namespaceURI);
+                attributesMap.put(getNamespaceKey(prefix), namespaceURI);
+            }
         }
 
         int namespaceCount = xmlStreamReader.getNamespaceCount();
@@ -210,10 +254,28 @@ public class XMLTreeBuilder {
             String uri = xmlStreamReader.getNamespaceURI(i);
             String prefix = xmlStreamReader.getNamespacePrefix(i);
             if (prefix == null || prefix.isEmpty()) {
-                attributesMap.put(XMLItem.XMLNS_URL_PREFIX + "xmlns", uri);
+                attributesMap.put(getNamespaceKey(XMLItem.XMLNS), uri);
             } else {
-                attributesMap.put(XMLItem.XMLNS_URL_PREFIX + prefix, uri);
+                attributesMap.put(getNamespaceKey(prefix), uri);
             }
         }
     }
+
+    private QName internElementName(QName name) {
+        QName internedName = elementNames.get(name);
+        // qualified names are equal regardless of the prefix, which is also a part of the element name
+        if (internedName != null && internedName.getPrefix().equals(name.getPrefix())) {
+            return internedName;
+        }
+        elementNames.put(name, name);
+        return name;
+    }
+
+    private String getAttributeKey(QName attributeName) {
+        return attributeKeys.computeIfAbsent(attributeName, QName::toString);
+    }
+
+    private String getNamespaceKey(String prefix) {
+        return namespaceKeys.computeIfAbsent(prefix, key -> XMLItem.XMLNS_URL_PREFIX + key);
+    }
 }
@@ -22,15 +22,22 @@ import org.ballerinalang.jvm.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.PROPERTY_ERROR;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE;
 
 /**
  * Observe the runtime and collect measurements.
+ * <p>
+ * The metrics of each resource and action are resolved from the registry once, and are kept with their tags in
+ * {@link ObservedMetrics}. Hence an observation only looks up the already resolved metrics by the names in the
+ * observer context, without creating tags, metric ids or metric names.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
@@ -58,17 +65,29 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    // Metrics of the resources by the connector name, service name and resource name.
+    private final Map<String, Map<String, Map<String, ObservedMetrics>>> serverMetrics = new ConcurrentHashMap<>();
+    // Metrics of the actions by the connector name and action name.
+    private final Map<String, Map<String, ObservedMetrics>> clientMetrics = new ConcurrentHashMap<>();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        startObservation(observerContext, mainTags);
+        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
+        try {
+            getServerMetrics(observerContext).inprogressGauge.increment();
+        } catch (RuntimeException e) {
+            handleError(observerContext, getServerTags(observerContext), e);
+        }
     }
 
     @Override
     public void startClientObservation(ObserverContext observerContext) {
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        startObservation(observerContext, mainTags);
+        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
+        try {
+            getClientMetrics(observerContext).inprogressGauge.increment();
+        } catch (RuntimeException e) {
+            handleError(observerContext, getClientTags(observerContext), e);
+        }
     }
 
     @Override
@@ -77,9 +96,11 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
-                observerContext.getResourceName()};
-        stopObservation(observerContext, mainTags);
+        try {
+            stopObservation(observerContext, getServerMetrics(observerContext));
+        } catch (RuntimeException e) {
+            handleError(observerContext, getServerTags(observerContext), e);
+        }
     }
 
     @Override
@@ -88,100 +109,196 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             // Do not collect metrics if the observation hasn't started
             return;
         }
-        String[] mainTags = {TAG_KEY_ACTION, observerContext.getActionName()};
-        stopObservation(observerContext, mainTags);
-    }
-
-    private void startObservation(ObserverContext observerContext, String[] mainTags) {
-        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        String connectorName = observerContext.getConnectorName();
-        Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
         try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(mainTagSet, mainTags);
-            getInprogressGauge(connectorName, mainTagSet).increment();
+            stopObservation(observerContext, getClientMetrics(observerContext));
         } catch (RuntimeException e) {
-            handleError(connectorName, mainTagSet, e);
+            handleError(observerContext, getClientTags(observerContext), e);
         }
     }
 
-    private void stopObservation(ObserverContext observerContext, String[] mainTags) {
+    private void stopObservation(ObserverContext observerContext, ObservedMetrics observedMetrics) {
+        Map<String, String> tags = observerContext.getTags();
+        Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
+        long duration = System.nanoTime() - startTime;
+        observedMetrics.inprogressGauge.decrement();
+        ResponseMetrics responseMetrics = observedMetrics.getResponseMetrics(tags);
+        responseMetrics.responseTimeGauge.setValue(duration / 1E9);
+        responseMetrics.requestsCounter.increment();
+        // Check HTTP status code
+        String statusCode = tags.get(TAG_KEY_HTTP_STATUS_CODE);
+        if (statusCode != null) {
+            int httpStatusCode = Integer.parseInt(statusCode);
+            if (httpStatusCode > 0) {
+                observedMetrics.incrementHttpStatusCodeCounter(httpStatusCode);
+            }
+        }
+        Boolean error = (Boolean) observerContext.getProperty(PROPERTY_ERROR);
+        if (error != null && error) {
+            responseMetrics.getFailedRequestsCounter().increment();
+        }
+    }
+
+    private ObservedMetrics getServerMetrics(ObserverContext observerContext) {
         // Connector name must be a part of the metric name to make sure that every metric is unique with
         // the combination of name and tags.
-        String connectorName = observerContext.getConnectorName();
-        Map<String, String> tags = observerContext.getTags();
-        Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.length);
-        try {
-            // Tags are validated (both key and value should not be null)
-            Tags.tags(allTags, observerContext.getTags());
-            Tags.tags(allTags, mainTags);
+        String connectorName = String.valueOf(observerContext.getConnectorName());
+        String serviceName = observerContext.getServiceName();
+        String resourceName = observerContext.getResourceName();
+        Map<String, Map<String, ObservedMetrics>> services = serverMetrics.get(connectorName);
+        if (services == null) {
+            services = serverMetrics.computeIfAbsent(connectorName, name -> new ConcurrentHashMap<>());
+        }
+        Map<String, ObservedMetrics> resources = services.get(serviceName);
+        if (resources == null) {
+            resources = services.computeIfAbsent(serviceName, name -> new ConcurrentHashMap<>());
+        }
+        ObservedMetrics observedMetrics = resources.get(resourceName);
+        if (observedMetrics == null) {
+            observedMetrics = resources.computeIfAbsent(resourceName, name -> new ObservedMetrics(
+                    connectorName, TAG_KEY_SERVICE, serviceName, TAG_KEY_RESOURCE, name));
+        }
+        return observedMetrics;
+    }
+
+    private ObservedMetrics getClientMetrics(ObserverContext observerContext) {
+        String connectorName = String.valueOf(observerContext.getConnectorName());
+        String actionName = observerContext.getActionName();
+        Map<String, ObservedMetrics> actions = clientMetrics.get(connectorName);
+        if (actions == null) {
+            actions = clientMetrics.computeIfAbsent(connectorName, name -> new ConcurrentHashMap<>());
+        }
+        ObservedMetrics observedMetrics = actions.get(actionName);
+        if (observedMetrics == null) {
+            observedMetrics = actions.computeIfAbsent(actionName, name -> new ObservedMetrics(
+                    connectorName, TAG_KEY_ACTION, name));
+        }
+        return observedMetrics;
+    }
+
+    private static String[] getServerTags(ObserverContext observerContext) {
+        return new String[]{TAG_KEY_SERVICE, observerContext.getServiceName(), TAG_KEY_RESOURCE,
+                observerContext.getResourceName()};
+    }
+
+    private static String[] getClientTags(ObserverContext observerContext) {
+        return new String[]{TAG_KEY_ACTION, observerContext.getActionName()};
+    }
+
+    private void handleError(ObserverContext observerContext, String[] mainTags, RuntimeException e) {
+        // Metric Provider may throw exceptions if there is a mismatch in tags.
+        consoleError.println("error: error collecting metrics for " + observerContext.getConnectorName() +
+                " with tags " + Arrays.toString(mainTags) + " " + observerContext.getTags() + ": " + e.getMessage());
+    }
+
+    /**
+     * {@code ObservedMetrics} holds the metrics of a resource or an action, which are resolved once.
+     */
+    private static class ObservedMetrics {
+
+        private final String connectorName;
+        private final Set<Tag> mainTags;
+        private final Gauge inprogressGauge;
+        // Metrics by the tags of the observer context, which only differ by a few values between invocations.
+        private final Map<Map<String, String>, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+        // Counters of the 1xx to 5xx status codes, which are registered once a status code is observed.
+        private volatile Counter[] httpStatusCodeCounters;
+
+        ObservedMetrics(String connectorName, String... mainTags) {
+            this.connectorName = connectorName;
             Set<Tag> mainTagSet = new HashSet<>(mainTags.length);
+            // Tags are validated (both key and value should not be null)
             Tags.tags(mainTagSet, mainTags);
-            Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
-            long duration = System.nanoTime() - startTime;
-            getInprogressGauge(connectorName, mainTagSet).decrement();
-            metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds", "Response Time",
-                    allTags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId(connectorName + "_requests_total",
-                    "Total number of requests", allTags)).increment();
-            // Check HTTP status code
-            String statusCode = tags.get(TAG_KEY_HTTP_STATUS_CODE);
-            if (statusCode != null) {
-                int httpStatusCode = Integer.parseInt(statusCode);
-                if (httpStatusCode > 0) {
-                    incrementHttpStatusCodeCounters(httpStatusCode, connectorName, mainTagSet);
-                }
+            this.mainTags = mainTagSet;
+            this.inprogressGauge = metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
+                    "Inprogress Requests", mainTagSet));
+        }
+
+        ResponseMetrics getResponseMetrics(Map<String, String> tags) {
+            ResponseMetrics metrics = responseMetrics.get(tags);
+            if (metrics == null) {
+                // Tags of the observer context may change after the observation, hence a copy is kept.
+                metrics = responseMetrics.computeIfAbsent(new HashMap<>(tags), this::createResponseMetrics);
             }
-            Boolean error = (Boolean) observerContext.getProperty(PROPERTY_ERROR);
-            if (error != null && error) {
-                metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
-                        "Total number of failed requests", allTags)).increment();
+            return metrics;
+        }
+
+        private ResponseMetrics createResponseMetrics(Map<String, String> tags) {
+            Set<Tag> allTags = new HashSet<>(tags.size() + mainTags.size());
+            // Tags are validated (both key and value should not be null)
+            Tags.tags(allTags, tags);
+            Tags.tags(allTags, mainTags);
+            return new ResponseMetrics(connectorName, allTags);
+        }
+
+        void incrementHttpStatusCodeCounter(int statusCode) {
+            Counter[] counters = httpStatusCodeCounters;
+            if (counters == null) {
+                counters = registerHttpStatusCodeCounters();
+            }
+            if (statusCode >= 100 && statusCode < 200) {
+                counters[0].increment();
+            } else if (statusCode < 300) {
+                counters[1].increment();
+            } else if (statusCode < 400) {
+                counters[2].increment();
+            } else if (statusCode < 500) {
+                counters[3].increment();
+            } else if (statusCode < 600) {
+                counters[4].increment();
             }
-        } catch (RuntimeException e) {
-            handleError(connectorName, allTags, e);
         }
-    }
 
-    private Gauge getInprogressGauge(String connectorName, Set<Tag> tags) {
-        return metricRegistry.gauge(new MetricId(connectorName + "_inprogress_requests",
-                "Inprogress Requests", tags));
+        private synchronized Counter[] registerHttpStatusCodeCounters() {
+            if (httpStatusCodeCounters == null) {
+                httpStatusCodeCounters = new Counter[]{
+                        metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
+                                "Total number of requests that resulted in HTTP 1xx informational responses",
+                                mainTags)),
+                        metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
+                                "Total number of requests that resulted in HTTP 2xx successful responses",
+                                mainTags)),
+                        metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
+                                "Total number of requests that resulted in HTTP 3xx redirections", mainTags)),
+                        metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
+                                "Total number of requests that resulted in HTTP 4xx client errors", mainTags)),
+                        metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
+                                "Total number of requests that resulted in HTTP 5xx server errors", mainTags))
+                };
+            }
+            return httpStatusCodeCounters;
+        }
     }
 
-    private void incrementHttpStatusCodeCounters(int statusCode, String connectorName, Set<Tag> tags) {
-        metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                "Total number of requests that resulted in HTTP 1xx informational responses", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                "Total number of requests that resulted in HTTP 2xx successful responses", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                "Total number of requests that resulted in HTTP 3xx redirections", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                "Total number of requests that resulted in HTTP 4xx client errors", tags)).register();
-        metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                "Total number of requests that resulted in HTTP 5xx server errors", tags)).register();
-
-        if (statusCode >= 100 && statusCode < 200) {
-            metricRegistry.counter(new MetricId(connectorName + "_1XX_requests_total",
-                    "Total number of requests that resulted in HTTP 1xx informational responses", tags))
-                    .increment();
-        } else if (statusCode < 300) {
-            metricRegistry.counter(new MetricId(connectorName + "_2XX_requests_total",
-                    "Total number of requests that resulted in HTTP 2xx successful responses", tags))
-                    .increment();
-        } else if (statusCode < 400) {
-            metricRegistry.counter(new MetricId(connectorName + "_3XX_requests_total",
-                    "Total number of requests that resulted in HTTP 3xx redirections", tags)).increment();
-        } else if (statusCode < 500) {
-            metricRegistry.counter(new MetricId(connectorName + "_4XX_requests_total",
-                    "Total number of requests that resulted in HTTP 4xx client errors", tags)).increment();
-        } else if (statusCode < 600) {
-            metricRegistry.counter(new MetricId(connectorName + "_5XX_requests_total",
-                    "Total number of requests that resulted in HTTP 5xx server errors", tags)).increment();
+    /**
+     * {@code ResponseMetrics} holds the metrics of the responses of a resource or an action with the same tags.
+     */
+    private static class ResponseMetrics {
+
+        private final String connectorName;
+        private final Set<Tag> allTags;
+        private final Gauge responseTimeGauge;
+        private final Counter requestsCounter;
+        // Registered once a request fails, hence the metric is only reported for the resources which failed.
+        private volatile Counter failedRequestsCounter;
+
+        ResponseMetrics(String connectorName, Set<Tag> allTags) {
+            this.connectorName = connectorName;
+            this.allTags = allTags;
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId(connectorName + "_response_time_seconds",
+                    "Response Time", allTags), responseTimeStatisticConfigs);
+            this.requestsCounter = metricRegistry.counter(new MetricId(connectorName + "_requests_total",
+                    "Total number of requests", allTags));
         }
-    }
 
-    private void handleError(String connectorName, Set<Tag> tags, RuntimeException e) {
-        // Metric Provider may throw exceptions if there is a mismatch in tags.
-        consoleError.println("error: error collecting metrics for " + connectorName + " with tags " + tags +
-                ": " + e.getMessage());
+        Counter getFailedRequestsCounter() {
+            Counter counter = failedRequestsCounter;
+            if (counter == null) {
+                // The registry returns the same counter for concurrent failures.
+                counter = metricRegistry.counter(new MetricId(connectorName + "_failed_requests_total",
+                        "Total number of failed requests", allTags));
+                failedRequestsCounter = counter;
+            }
+            return counter;
+        }
     }
 }
@@ -18,6 +18,8 @@
 package org.ballerinalang.jvm.observability.metrics;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.BLockMetrics;
+import org.ballerinalang.jvm.TypeCheckCache;
 import org.ballerinalang.jvm.launch.LaunchListener;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
@@ -25,6 +27,7 @@ import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricReporter;
 import org.ballerinalang.jvm.observability.metrics.spi.MetricProvider;
 import org.ballerinalang.jvm.observability.metrics.spi.MetricReporter;
 import org.ballerinalang.jvm.observability.tracer.InvalidConfigurationException;
+import org.ballerinalang.jvm.scheduling.SchedulerStats;
 
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
@@ -33,6 +36,7 @@ import java.util.Iterator;
 import java.util.ServiceLoader;
 
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_METRICS_LOCKS_ENABLED;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_TABLE_METRICS;
 
 /**
@@ -70,6 +74,8 @@ public class MetricsLaunchListener implements LaunchListener {
             DefaultMetricRegistry.isNoOp = false;
             // Register Ballerina specific metrics
             registerBallerinaMetrics();
+            // Lock metrics are recorded on every lock statement, hence enabled separately
+            BLockMetrics.setEnabled(configRegistry.getAsBoolean(CONFIG_METRICS_LOCKS_ENABLED));
             //load metric reporter configured
             MetricReporter reporter = loadMetricReporter(configRegistry);
             //initialize metric reporter
@@ -112,20 +118,32 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
-//        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
-//        final String prefix = "ballerina_scheduler_";
-//        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getReadyWorkerCount).register();
-//        PolledGauge.builder(prefix + "running_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getRunningWorkerCount).register();
-//        PolledGauge.builder(prefix + "excepted_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getExceptedWorkerCount).register();
-//        PolledGauge.builder(prefix + "paused_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getPausedWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_response_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        final SchedulerStats schedulerStats = SchedulerStats.getInstance();
+        final String prefix = "ballerina_scheduler_";
+        PolledGauge.builder(prefix + "thread_count", schedulerStats, SchedulerStats::getThreadCount)
+                .description("Number of scheduler threads").register();
+        PolledGauge.builder(prefix + "active_thread_count", schedulerStats, SchedulerStats::getActiveThreadCount)
+                .description("Number of scheduler threads executing strands").register();
+        PolledGauge.builder(prefix + "compensating_thread_count", schedulerStats,
+                SchedulerStats::getCompensatingThreadCount)
+                .description("Number of threads added to compensate for blocked scheduler threads").register();
+        PolledGauge.builder(prefix + "blocked_thread_count", schedulerStats, SchedulerStats::getBlockedThreadCount)
+                .description("Number of scheduler threads blocked in a managed blocking call").register();
+        PolledGauge.builder(prefix + "virtual_thread_count", schedulerStats, SchedulerStats::getVirtualThreadCount)
+                .description("Number of virtual threads executing strands").register();
+        PolledGauge.builder(prefix + "blocked_on_extern_strand_count", schedulerStats,
+                SchedulerStats::getBlockedOnExternStrandCount)
+                .description("Number of strands waiting for an external call").register();
+
+        final TypeCheckCache typeCheckCache = TypeCheckCache.getInstance();
+        PolledGauge.builder("ballerina_type_check_cache_hit_count", typeCheckCache, TypeCheckCache::getHitCount)
+                .description("Number of type checks answered from the type check cache").register();
+        PolledGauge.builder("ballerina_type_check_cache_miss_count", typeCheckCache, TypeCheckCache::getMissCount)
+                .description("Number of type checks computed due to a type check cache miss").register();
+        PolledGauge.builder("ballerina_type_check_cache_hit_rate", typeCheckCache, TypeCheckCache::getHitRate)
+                .description("Ratio of the type checks answered from the type check cache").register();
+        PolledGauge.builder("ballerina_type_check_cache_size", typeCheckCache, TypeCheckCache::getSize)
+                .description("Number of type pairs in the type check cache").register();
     }
 
     @Override
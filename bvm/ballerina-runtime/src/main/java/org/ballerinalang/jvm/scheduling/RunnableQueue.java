@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the {@link Scheduler} threads.
+ *
+ * @since 2.0.0
+ */
+abstract class RunnableQueue {
+
+    /**
+     * Adds a group that should be picked in FIFO order by any of the scheduler threads.
+     *
+     * @param group group to be executed
+     */
+    abstract void add(ItemGroup group);
+
+    /**
+     * Adds a group spawned by the strand currently running on the calling thread. Implementations may keep the
+     * group close to the calling thread to get advantage of the locality.
+     *
+     * @param group group to be executed
+     */
+    void addLocal(ItemGroup group) {
+        add(group);
+    }
+
+    /**
+     * Retrieves the next group to be executed by the given scheduler thread, waiting if necessary.
+     *
+     * @param workerId index of the calling scheduler thread
+     * @return group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    abstract ItemGroup take(int workerId) throws InterruptedException;
+
+    /**
+     * Retrieves the next group to be executed by the given scheduler thread, waiting up to the given time.
+     *
+     * @param workerId index of the calling scheduler thread
+     * @param timeout  maximum time to wait
+     * @param unit     unit of the timeout
+     * @return group to be executed or null if no group became available before the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    abstract ItemGroup poll(int workerId, long timeout, TimeUnit unit) throws InterruptedException;
+
+    abstract int size();
+
+    static RunnableQueue create(boolean workStealing, int numThreads) {
+        if (workStealing) {
+            return new WorkStealingQueue(numThreads);
+        }
+        return new SharedQueue();
+    }
+
+    /**
+     * Single queue shared by all the scheduler threads.
+     */
+    static class SharedQueue extends RunnableQueue {
+
+        private final BlockingQueue<ItemGroup> groups = new LinkedBlockingDeque<>();
+
+        @Override
+        void add(ItemGroup group) {
+            groups.add(group);
+        }
+
+        @Override
+        ItemGroup take(int workerId) throws InterruptedException {
+            return groups.take();
+        }
+
+        @Override
+        ItemGroup poll(int workerId, long timeout, TimeUnit unit) throws InterruptedException {
+            return groups.poll(timeout, unit);
+        }
+
+        @Override
+        int size() {
+            return groups.size();
+        }
+    }
+
+    /**
+     * Keeps a deque per scheduler thread in addition to a shared injection queue. A thread runs the groups it
+     * spawned in LIFO order, falls back to the injection queue and steals the oldest groups from other threads when
+     * it runs out of work.
+     */
+    static class WorkStealingQueue extends RunnableQueue {
+
+        private static final ThreadLocal<Integer> workerIndex = new ThreadLocal<>();
+
+        private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+        private final AtomicInteger idleWorkers = new AtomicInteger();
+        private final ReentrantLock idleLock = new ReentrantLock();
+        private final Condition workAvailable = idleLock.newCondition();
+
+        @SuppressWarnings("unchecked")
+        WorkStealingQueue(int numThreads) {
+            this.localQueues = new ConcurrentLinkedDeque[numThreads];
+            for (int i = 0; i < numThreads; i++) {
+                this.localQueues[i] = new ConcurrentLinkedDeque<>();
+            }
+        }
+
+        @Override
+        void add(ItemGroup group) {
+            injectionQueue.add(group);
+            signalWork();
+        }
+
+        @Override
+        void addLocal(ItemGroup group) {
+            Integer workerId = workerIndex.get();
+            if (workerId == null || workerId >= localQueues.length) {
+                // not a scheduler thread of this queue, eg: a callback from a native thread
+                add(group);
+                return;
+            }
+            localQueues[workerId].addFirst(group);
+            signalWork();
+        }
+
+        @Override
+        ItemGroup take(int workerId) throws InterruptedException {
+            return poll(workerId, -1, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        ItemGroup poll(int workerId, long timeout, TimeUnit unit) throws InterruptedException {
+            workerIndex.set(workerId);
+            long nanos = unit.toNanos(timeout);
+            while (true) {
+                ItemGroup group = findWork(workerId);
+                if (group != null) {
+                    return group;
+                }
+
+                idleLock.lock();
+                try {
+                    idleWorkers.incrementAndGet();
+                    try {
+                        // recheck after registering as idle, a producer may have missed us
+                        group = findWork(workerId);
+                        if (group != null) {
+                            return group;
+                        }
+                        if (timeout < 0) {
+                            workAvailable.await();
+                        } else if (nanos <= 0) {
+                            return null;
+                        } else {
+                            nanos = workAvailable.awaitNanos(nanos);
+                        }
+                    } finally {
+                        idleWorkers.decrementAndGet();
+                    }
+                } finally {
+                    idleLock.unlock();
+                }
+            }
+        }
+
+        private ItemGroup findWork(int workerId) {
+            ItemGroup group = localQueues[workerId].pollFirst();
+            if (group != null) {
+                return group;
+            }
+
+            group = injectionQueue.poll();
+            if (group != null) {
+                return group;
+            }
+
+            for (int i = 1; i < localQueues.length; i++) {
+                group = localQueues[(workerId + i) % localQueues.length].pollLast();
+                if (group != null) {
+                    return group;
+                }
+            }
+            return null;
+        }
+
+        private void signalWork() {
+            if (idleWorkers.get() == 0) {
+                return;
+            }
+            idleLock.lock();
+            try {
+                workAvailable.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+
+        @Override
+        int size() {
+            int size = injectionQueue.size();
+            for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+                size += localQueue.size();
+            }
+            return size;
+        }
+    }
+}
@@ -30,11 +30,17 @@ import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 import java.io.PrintStream;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -58,7 +64,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -66,6 +72,19 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
+    private static String elasticPoolSizeConf = System.getenv(BLangConstants.BALLERINA_ELASTIC_POOL_MAX_SIZE_ENV_VAR);
+
+    private static String elasticKeepAliveConf =
+            System.getenv(BLangConstants.BALLERINA_ELASTIC_POOL_KEEP_ALIVE_ENV_VAR);
+
+    private static final long ELASTIC_POOL_MONITOR_INTERVAL_MILLIS = 100;
+
+    private static final long DEFAULT_ELASTIC_POOL_KEEP_ALIVE_SECONDS = 60;
+
+    private static final int DEFAULT_MAX_VIRTUAL_THREADS = 10000;
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -74,6 +93,34 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private final String mode;
+
+    private ThreadFactory virtualThreadFactory;
+
+    /**
+     * Bounds the number of virtual threads executing strand groups at a time, in the virtual mode. This can be changed
+     * by setting the BALLERINA_ELASTIC_POOL_MAX_SIZE system variable. Default is 10000.
+     */
+    private Semaphore virtualThreadPermits;
+
+    /**
+     * Upper bound of the thread count including compensating threads. This can be changed by setting the
+     * BALLERINA_ELASTIC_POOL_MAX_SIZE system variable. Compensating threads are not added unless it is larger
+     * than the number of threads.
+     */
+    private int maxThreads;
+
+    private long keepAliveNanos = TimeUnit.SECONDS.toNanos(DEFAULT_ELASTIC_POOL_KEEP_ALIVE_SECONDS);
+
+    private final Queue<Integer> freeCompensatingWorkerIds = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger liveThreads = new AtomicInteger();
+
+    // threads which are blocked in a call made through managedBlock
+    private final AtomicInteger blockedThreads = new AtomicInteger();
+
+    private final SchedulerStats stats = SchedulerStats.getInstance();
+
     private Semaphore mainBlockSem;
 
     public Scheduler(boolean immortal) {
@@ -88,11 +135,88 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.mode = readSchedulerMode(schedulerModeConf);
+        this.maxThreads = readElasticPoolConfig(elasticPoolSizeConf);
+        this.runnableList = RunnableQueue.create(isWorkStealingMode(), maxThreads);
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, schedulerModeConf, elasticPoolSizeConf, immortal);
+    }
+
+    Scheduler(int numThreads, String schedulerModeConf, String elasticPoolSizeConf, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.mode = readSchedulerMode(schedulerModeConf);
+        this.maxThreads = readElasticPoolConfig(elasticPoolSizeConf);
+        this.runnableList = RunnableQueue.create(isWorkStealingMode(), maxThreads);
+    }
+
+    /**
+     * The scheduler mode can be changed by setting the BALLERINA_SCHEDULER_MODE system variable.
+     * <ul>
+     * <li>shared - single run queue shared by all the threads, this is the default</li>
+     * <li>work-stealing - per thread run queues with work stealing</li>
+     * <li>virtual - each strand group is executed on a JDK virtual thread, so that strands blocked inside Java
+     * interop park instead of holding a scheduler thread. The number of these threads is bounded by the elastic pool
+     * max size, beyond which the groups wait in the run queue</li>
+     * </ul>
+     */
+    private String readSchedulerMode(String schedulerModeConf) {
+        if (schedulerModeConf == null) {
+            return BLangConstants.SCHEDULER_MODE_SHARED;
+        }
+        switch (schedulerModeConf) {
+            case BLangConstants.SCHEDULER_MODE_SHARED:
+            case BLangConstants.SCHEDULER_MODE_WORK_STEALING:
+                return schedulerModeConf;
+            case BLangConstants.SCHEDULER_MODE_VIRTUAL:
+                this.virtualThreadFactory = VirtualThreads.createFactory("jbal-strand-vexec-");
+                if (this.virtualThreadFactory != null) {
+                    return schedulerModeConf;
+                }
+                err.println("ballerina: virtual threads are not supported by the current Java runtime, " +
+                        "using the default scheduler mode");
+                return BLangConstants.SCHEDULER_MODE_SHARED;
+            default:
+                err.println("ballerina: unknown scheduler mode '" + schedulerModeConf + "' in system variable:" +
+                        BLangConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default mode");
+                return BLangConstants.SCHEDULER_MODE_SHARED;
+        }
+    }
+
+    private int readElasticPoolConfig(String elasticPoolSizeConf) {
+        int maxPoolSize = numThreads;
+        try {
+            if (virtualThreadFactory != null) {
+                int maxVirtualThreads = DEFAULT_MAX_VIRTUAL_THREADS;
+                if (elasticPoolSizeConf != null) {
+                    maxVirtualThreads = Math.max(1, Integer.parseInt(elasticPoolSizeConf));
+                }
+                virtualThreadPermits = new Semaphore(maxVirtualThreads);
+            } else if (elasticPoolSizeConf != null) {
+                maxPoolSize = Math.max(numThreads, Integer.parseInt(elasticPoolSizeConf));
+            }
+            if (elasticKeepAliveConf != null) {
+                keepAliveNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(elasticKeepAliveConf));
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading elastic pool system variables:" +
+                    BLangConstants.BALLERINA_ELASTIC_POOL_MAX_SIZE_ENV_VAR + ", " +
+                    BLangConstants.BALLERINA_ELASTIC_POOL_KEEP_ALIVE_ENV_VAR + ", " + t.getMessage());
+        }
+        if (virtualThreadFactory != null && virtualThreadPermits == null) {
+            virtualThreadPermits = new Semaphore(DEFAULT_MAX_VIRTUAL_THREADS);
+        }
+        for (int i = numThreads; i < maxPoolSize; i++) {
+            freeCompensatingWorkerIds.add(i);
+        }
+        return maxPoolSize;
+    }
+
+    private boolean isWorkStealingMode() {
+        return BLangConstants.SCHEDULER_MODE_WORK_STEALING.equals(mode);
     }
 
     public static Strand getStrand() {
@@ -138,7 +262,7 @@ public class Scheduler {
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            runnableList.addLocal(future.strand.strandGroup);
         }
         return future;
     }
@@ -215,38 +339,61 @@ public class Scheduler {
     }
 
     public void start() {
+        if (virtualThreadFactory != null) {
+            this.dispatchSafely();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i + 1;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
+        }
+        ScheduledExecutorService poolMonitor = null;
+        if (maxThreads > numThreads) {
+            poolMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jbal-strand-exec-monitor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            poolMonitor.scheduleWithFixedDelay(new CompensationCheck(), ELASTIC_POOL_MONITOR_INTERVAL_MILLIS,
+                    ELASTIC_POOL_MONITOR_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
         }
-        this.runSafely();
+        this.runSafely(0);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
             RuntimeUtils.printCrashLog(e);
+        } finally {
+            if (poolMonitor != null) {
+                poolMonitor.shutdownNow();
+            }
         }
     }
 
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        liveThreads.incrementAndGet();
+        stats.threadCount.incrementAndGet();
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            liveThreads.decrementAndGet();
+            stats.threadCount.decrementAndGet();
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = runnableList.take(workerId);
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -256,35 +403,230 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            executeAndCount(group);
+        }
+    }
+
+    /**
+     * Executes tasks on a thread added to compensate for blocked scheduler threads. The thread is retired once it
+     * stays idle for the keep alive time.
+     */
+    private void runCompensating(int workerId) {
+        stats.threadCount.incrementAndGet();
+        try {
+            while (true) {
+                ItemGroup group;
+                try {
+                    group = runnableList.poll(workerId, keepAliveNanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException ignored) {
+                    continue;
+                }
+
+                if (group == null) {
+                    break;
+                }
+
+                if (group == POISON_PILL) {
+                    // poison pills are meant for the core threads, which release the main thread when exiting
+                    runnableList.add(POISON_PILL);
+                    break;
+                }
+
+                executeAndCount(group);
+            }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            liveThreads.decrementAndGet();
+            stats.threadCount.decrementAndGet();
+            stats.compensatingThreadCount.decrementAndGet();
+            freeCompensatingWorkerIds.add(workerId);
+        }
+    }
+
+    private void executeAndCount(ItemGroup group) {
+        stats.activeThreadCount.incrementAndGet();
+        try {
+            execute(group);
+        } finally {
+            stats.activeThreadCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs a blocking operation, such as waiting for a latch or a Java call which blocks, in the same way as
+     * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}. When called from a strand, the scheduler thread
+     * is counted as blocked until the operation is done, and a compensating thread is added if groups are waiting to
+     * be executed by the threads which are not blocked. This requires the elastic pool to be enabled. Threads which
+     * are busy executing strands are never compensated, as they do not stop other threads from running.
+     *
+     * @param blocker the blocking operation
+     * @throws InterruptedException if interrupted while blocked
+     */
+    public static void managedBlock(ForkJoinPool.ManagedBlocker blocker) throws InterruptedException {
+        Strand strand = strandHolder.get().strand;
+        Scheduler scheduler = strand == null ? null : strand.scheduler;
+        if (scheduler == null || scheduler.virtualThreadFactory != null || blocker.isReleasable()) {
+            // virtual threads only park when blocked
+            ForkJoinPool.managedBlock(blocker);
+            return;
+        }
+
+        scheduler.blockedThreads.incrementAndGet();
+        scheduler.stats.blockedThreadCount.incrementAndGet();
+        try {
+            scheduler.compensate();
+            ForkJoinPool.managedBlock(blocker);
+        } finally {
+            scheduler.blockedThreads.decrementAndGet();
+            scheduler.stats.blockedThreadCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for the given latch to count down, as a managed blocking call.
+     *
+     * @param latch latch to wait for
+     * @throws InterruptedException if interrupted while waiting
+     * @see #managedBlock(ForkJoinPool.ManagedBlocker)
+     */
+    public static void await(CountDownLatch latch) throws InterruptedException {
+        managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                latch.await();
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return latch.getCount() == 0;
+            }
+        });
+    }
+
+    /**
+     * Adds a compensating thread if groups are waiting to be executed, and there are fewer threads than the pool size
+     * which are not blocked.
+     */
+    private void compensate() {
+        while (true) {
+            int live = liveThreads.get();
+            if (runnableList.size() == 0 || live - blockedThreads.get() >= numThreads) {
+                return;
+            }
+            if (liveThreads.compareAndSet(live, live + 1)) {
+                break;
+            }
+        }
+
+        Integer workerId = freeCompensatingWorkerIds.poll();
+        if (workerId == null) {
+            // already at the max pool size
+            liveThreads.decrementAndGet();
+            return;
+        }
+        stats.compensatingThreadCount.incrementAndGet();
+        Thread thread = new Thread(() -> runCompensating(workerId), "jbal-strand-exec-" + workerId);
+        // the core threads keep the program running
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Checks for threads to compensate periodically, for the groups which are added after a thread is blocked.
+     */
+    private class CompensationCheck implements Runnable {
 
-                item = group.get();
+        @Override
+        public void run() {
+            if (blockedThreads.get() > 0) {
+                compensate();
+            }
+        }
+    }
 
+    /**
+     * Hands over each group submitted to the Scheduler to a new virtual thread. A blocking call made by a strand
+     * only parks its own virtual thread. Once the max number of virtual threads are executing groups, the next group
+     * is only handed over when one of them completes.
+     */
+    private void dispatchSafely() {
+        try {
+            while (true) {
+                ItemGroup group;
                 try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof ErrorValue)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
+                    group = runnableList.take(0);
+                } catch (InterruptedException ignored) {
+                    continue;
                 }
 
-                postProcess(item, result, panic);
+                if (group == POISON_PILL) {
+                    break;
+                }
+
+                virtualThreadPermits.acquireUninterruptibly();
+                try {
+                    virtualThreadFactory.newThread(() -> executeVirtual(group)).start();
+                } catch (Throwable t) {
+                    virtualThreadPermits.release();
+                    throw t;
+                }
+            }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
+    /**
+     * Executes a group on a virtual thread. These threads are counted separately from the scheduler threads, so that
+     * the active thread count keeps reporting the scheduler threads only.
+     */
+    private void executeVirtual(ItemGroup group) {
+        stats.virtualThreadCount.incrementAndGet();
+        try {
+            execute(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            stats.virtualThreadCount.decrementAndGet();
+            virtualThreadPermits.release();
+        }
+    }
+
+    /**
+     * Executes the items of the given group until none of them are runnable.
+     */
+    private void execute(ItemGroup group) {
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof ErrorValue)) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+            } finally {
+                strandHolder.get().strand = null;
             }
-            group.scheduled.set(false);
+
+            postProcess(item, result, panic);
         }
+        group.scheduled.set(false);
     }
 
     /**
@@ -301,6 +643,10 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                if (item.future.strand.blockedOnExtern) {
+                    item.parkedOnExtern = true;
+                    stats.blockedOnExternStrandCount.incrementAndGet();
+                }
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -385,6 +731,10 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            if (strand.schedulerItem.parkedOnExtern) {
+                strand.schedulerItem.parkedOnExtern = false;
+                stats.blockedOnExternStrandCount.decrementAndGet();
+            }
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -465,6 +815,7 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    boolean parkedOnExtern;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
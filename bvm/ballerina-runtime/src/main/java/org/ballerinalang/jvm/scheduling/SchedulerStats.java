@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread and strand counts of the {@link Scheduler}s in the runtime. Used to publish scheduler metrics.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStats {
+
+    private static final SchedulerStats instance = new SchedulerStats();
+
+    final AtomicInteger threadCount = new AtomicInteger();
+    final AtomicInteger activeThreadCount = new AtomicInteger();
+    final AtomicInteger compensatingThreadCount = new AtomicInteger();
+    final AtomicInteger virtualThreadCount = new AtomicInteger();
+    final AtomicInteger blockedThreadCount = new AtomicInteger();
+    final AtomicInteger blockedOnExternStrandCount = new AtomicInteger();
+
+    private SchedulerStats() {
+    }
+
+    public static SchedulerStats getInstance() {
+        return instance;
+    }
+
+    /**
+     * @return number of scheduler threads, including compensating threads
+     */
+    public int getThreadCount() {
+        return threadCount.get();
+    }
+
+    /**
+     * @return number of scheduler threads that are currently executing strands
+     */
+    public int getActiveThreadCount() {
+        return activeThreadCount.get();
+    }
+
+    /**
+     * @return number of threads added on top of the configured pool size to compensate for blocked threads
+     */
+    public int getCompensatingThreadCount() {
+        return compensatingThreadCount.get();
+    }
+
+    /**
+     * @return number of virtual threads that are currently executing strands, in the virtual scheduler mode
+     */
+    public int getVirtualThreadCount() {
+        return virtualThreadCount.get();
+    }
+
+    /**
+     * @return number of scheduler threads blocked in a call made through {@link Scheduler#managedBlock}
+     */
+    public int getBlockedThreadCount() {
+        return blockedThreadCount.get();
+    }
+
+    /**
+     * @return number of strands waiting for an external call to unblock them
+     */
+    public int getBlockedOnExternStrandCount() {
+        return blockedOnExternStrandCount.get();
+    }
+}
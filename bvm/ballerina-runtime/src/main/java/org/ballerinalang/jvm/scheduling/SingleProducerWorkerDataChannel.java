@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.values.ErrorValue;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
+
+/**
+ * Worker data channel with a single sending worker and a single receiving worker, which is the case for every
+ * worker to worker interaction. Messages are passed through a bounded lock-free ring buffer and the channel lock is
+ * only taken when one of the workers has to be blocked or unblocked, for sync sends, flushes and for error or panic
+ * transitions.
+ *
+ * @since 2.0.0
+ */
+public class SingleProducerWorkerDataChannel extends WorkerDataChannel {
+
+    private static final int CAPACITY = 64;
+    private static final int MASK = CAPACITY - 1;
+
+    /**
+     * Allocated by the sender on the first message, as many channels are never sent to. Published to the receiver
+     * through the write to {@link #tail}.
+     */
+    private AtomicReferenceArray<WorkerResult> ring;
+
+    /**
+     * Index of the next message to be received. Only updated by the receiver.
+     */
+    private volatile long head;
+
+    /**
+     * Index of the next message to be sent. Only updated by the sender.
+     */
+    private volatile long tail;
+
+    /**
+     * Messages sent while the ring buffer is full, allocated when the ring buffer first fills up. Guarded by the
+     * channel lock.
+     */
+    private Queue<WorkerResult> overflow;
+    private volatile boolean overflowed;
+
+    public SingleProducerWorkerDataChannel(String channelName) {
+        // messages are kept in the ring buffer instead of the queue of the super class
+        super(channelName, null);
+    }
+
+    @Override
+    public void sendData(Object data, Strand sender) {
+        this.senderCounter++;
+        offer(new WorkerResult(data));
+        if (this.receiver != null) {
+            try {
+                acquireChannelLock();
+                // receiver may have picked the message itself before getting blocked
+                if (this.receiver != null) {
+                    this.receiver.scheduler.unblockStrand(this.receiver);
+                    this.receiver = null;
+                }
+            } finally {
+                releaseChannelLock();
+            }
+        }
+    }
+
+    @Override
+    public Object syncSendData(Object data, Strand strand) throws Throwable {
+        try {
+            // lock is held until the sender is blocked, so that the receiver cannot resume it before that
+            acquireChannelLock();
+            if (!reschedule) {
+                // this is a new message, not a reschedule
+                this.senderCounter++;
+                this.waitingSender = new WaitingSender(strand, -1);
+                offer(new WorkerResult(data, true));
+
+                if (this.receiver != null) {
+                    this.receiver.scheduler.unblockStrand(this.receiver);
+                    this.receiver = null;
+                } else if (this.panic != null) {
+                    Throwable panic = this.panic;
+                    this.panic = null;
+                    throw panic;
+                } else if (this.error != null) {
+                    return this.error;
+                }
+
+                reschedule = true;
+                strand.setState(BLOCK_AND_YIELD);
+                return null;
+            }
+
+            reschedule = false;
+            if (this.panic != null && !isEmpty()) {
+                throw this.panic;
+            } else if (this.error != null && !isEmpty()) {
+                return this.error;
+            }
+
+            // sync send done
+            return null;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    @Override
+    public Object tryTakeData(Strand strand) throws Throwable {
+        WorkerResult result = poll();
+        if (result == null) {
+            try {
+                acquireChannelLock();
+                // publish the receiver before checking again, so that a sender either sees it or we see the message
+                this.receiver = strand;
+                result = poll();
+                if (result == null) {
+                    if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+                        this.receiver = null;
+                        this.receiverCounter++;
+                        throw this.panic;
+                    } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+                        this.receiver = null;
+                        this.receiverCounter++;
+                        return this.error;
+                    }
+                    strand.setState(BLOCK_AND_YIELD);
+                    return null;
+                }
+                this.receiver = null;
+            } finally {
+                releaseChannelLock();
+            }
+        }
+
+        this.receiverCounter++;
+        if (result.isSync) {
+            try {
+                acquireChannelLock();
+                // sync sender will pick the this.error as result, which is null
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+            } finally {
+                releaseChannelLock();
+            }
+        } else if (this.flushSender != null) {
+            try {
+                acquireChannelLock();
+                notifyFlushSender();
+            } finally {
+                releaseChannelLock();
+            }
+        }
+        return result.value;
+    }
+
+    @Override
+    public ErrorValue flushChannel(Strand strand) throws Throwable {
+        acquireChannelLock();
+        try {
+            if (this.panic != null) {
+                throw this.panic;
+            } else if (this.error != null) {
+                return this.error;
+            } else if (this.receiverCounter == this.senderCounter) {
+                incrementFlushedCount(strand);
+                return null;
+            }
+            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            // receiver may have taken the last message without seeing the flush sender
+            if (this.receiverCounter == this.senderCounter) {
+                this.flushSender = null;
+                incrementFlushedCount(strand);
+            }
+            return null;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void notifyFlushSender() {
+        WaitingSender sender = this.flushSender;
+        if (sender == null || sender.flushCount != this.receiverCounter) {
+            return;
+        }
+        Strand.FlushDetail flushDetail = sender.waitingStrand.flushDetail;
+        flushDetail.flushLock.lock();
+        flushDetail.flushedCount++;
+        if (flushDetail.flushedCount == flushDetail.flushChannels.length && sender.waitingStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            sender.waitingStrand.scheduler.unblockStrand(sender.waitingStrand);
+        }
+        flushDetail.flushLock.unlock();
+        this.flushSender = null;
+    }
+
+    private void incrementFlushedCount(Strand strand) {
+        strand.flushDetail.flushLock.lock();
+        strand.flushDetail.flushedCount++;
+        strand.flushDetail.flushLock.unlock();
+    }
+
+    /**
+     * Adds a message to the channel. Only called by the sender.
+     */
+    private void offer(WorkerResult result) {
+        long currentTail = this.tail;
+        if (this.ring == null) {
+            this.ring = new AtomicReferenceArray<>(CAPACITY);
+        }
+        if (!this.overflowed && currentTail - this.head < CAPACITY) {
+            ring.lazySet((int) currentTail & MASK, result);
+            this.tail = currentTail + 1;
+            return;
+        }
+
+        try {
+            acquireChannelLock();
+            // once overflowed, all the messages go through the overflow queue until the receiver drains it
+            if (this.overflow == null) {
+                this.overflow = new LinkedList<>();
+            }
+            this.overflow.add(result);
+            this.overflowed = true;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    /**
+     * Removes the oldest message from the channel. Only called by the receiver.
+     */
+    private WorkerResult poll() {
+        long currentHead = this.head;
+        if (currentHead < this.tail) {
+            int index = (int) currentHead & MASK;
+            WorkerResult result = ring.get(index);
+            ring.lazySet(index, null);
+            this.head = currentHead + 1;
+            return result;
+        }
+
+        if (!this.overflowed) {
+            return null;
+        }
+
+        try {
+            acquireChannelLock();
+            WorkerResult result = this.overflow.poll();
+            if (this.overflow.isEmpty()) {
+                this.overflowed = false;
+            }
+            return result;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private boolean isEmpty() {
+        return this.head == this.tail && !this.overflowed;
+    }
+}
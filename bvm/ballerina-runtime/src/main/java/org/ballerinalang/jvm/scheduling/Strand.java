@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.scheduling;
 
+import org.ballerinalang.jvm.BLock;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.observability.ObserverContext;
@@ -62,6 +63,10 @@ public class Strand {
     public ObserverContext observerContext;
     public boolean cancel;
     public int threadId;
+    /**
+     * Locks currently held by this strand, created on the first lock acquisition.
+     */
+    public List<BLock> acquiredLocks;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
@@ -304,6 +309,17 @@ public class Strand {
         return blockedOnExtern;
     }
 
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>(2);
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    public void removeAcquiredLock(BLock lock) {
+        this.acquiredLocks.remove(lock);
+    }
+
     public void lock() {
         this.strandLock.lock();
     }
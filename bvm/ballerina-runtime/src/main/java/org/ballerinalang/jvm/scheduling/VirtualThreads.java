@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Looks up the JDK virtual thread factory. The runtime is compiled against Java 8, hence the builder API is accessed
+ * reflectively and is only available when running on a JDK with virtual thread support.
+ *
+ * @since 2.0.0
+ */
+class VirtualThreads {
+
+    private static final String THREAD_BUILDER_CLASS = "java.lang.Thread$Builder";
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates a factory for virtual threads named with the given prefix.
+     *
+     * @param namePrefix prefix of the thread names, followed by a counter
+     * @return thread factory or null if the running JDK does not support virtual threads
+     */
+    static ThreadFactory createFactory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName(THREAD_BUILDER_CLASS);
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
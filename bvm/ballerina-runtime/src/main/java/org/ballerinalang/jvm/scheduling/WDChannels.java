@@ -39,7 +39,7 @@ public class WDChannels {
         }
         WorkerDataChannel channel = this.wDChannels.get(name);
         if (channel == null) {
-            channel = new WorkerDataChannel(name);
+            channel = new SingleProducerWorkerDataChannel(name);
             this.wDChannels.put(name, channel);
         }
         return channel;
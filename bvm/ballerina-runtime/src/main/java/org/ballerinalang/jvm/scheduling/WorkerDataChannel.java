@@ -34,32 +34,39 @@ import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
-    private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
-    private boolean reschedule;
+    volatile Strand receiver;
+    WaitingSender waitingSender;
+    volatile WaitingSender flushSender;
+    ErrorValue error;
+    Throwable panic;
+    volatile int senderCounter;
+    volatile int receiverCounter;
+    boolean reschedule;
 
     private Lock channelLock;
 
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private Queue<WorkerResult> channel;
 
     public WorkerDataChannel() {
-        this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
+        this(null);
     }
     public WorkerDataChannel(String channelName) {
+        this(channelName, new LinkedList<>());
+    }
+
+    /**
+     * Creates a channel with the given message queue. Subclasses which keep the messages themselves pass null.
+     */
+    @SuppressWarnings("rawtypes")
+    WorkerDataChannel(String channelName, Queue<WorkerResult> channel) {
         this.channelLock = new ReentrantLock();
         this.senderCounter = 0;
         this.receiverCounter = 0;
         this.chnlName = channelName;
+        this.channel = channel;
     }
 
     public void acquireChannelLock() {
@@ -23,11 +23,10 @@ import org.ballerinalang.jvm.values.FPValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 import javax.transaction.xa.XAException;
@@ -39,39 +38,34 @@ import static javax.transaction.xa.XAResource.TMSUCCESS;
 
 /**
  * {@code TransactionResourceManager} registry for transaction contexts.
+ * <p>
+ * The resources and the XID of each transaction block are kept in a separate {@link TransactionResources}, which is
+ * looked up by the combined transaction id from concurrent maps. Hence transactions run by different strands do not
+ * contend with each other, while the resources of the same transaction are still updated safely.
  *
  * @since 1.0
  */
 public class TransactionResourceManager {
 
-    private static TransactionResourceManager transactionResourceManager = null;
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
-    private Map<String, Xid> xidRegistry;
+    private final Map<String, TransactionResources> resourceRegistry = new ConcurrentHashMap<>();
 
-    private Map<String, FPValue> committedFuncRegistry;
-    private Map<String, FPValue> abortedFuncRegistry;
+    private final Map<String, FPValue> committedFuncRegistry = new ConcurrentHashMap<>();
+    private final Map<String, FPValue> abortedFuncRegistry = new ConcurrentHashMap<>();
 
     private ConcurrentSkipListSet<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
 
+    private static class TransactionResourceManagerHelper {
+        private static final TransactionResourceManager INSTANCE = new TransactionResourceManager();
+    }
+
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        xidRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
     }
 
     public static TransactionResourceManager getInstance() {
-        if (transactionResourceManager == null) {
-            synchronized (TransactionResourceManager.class) {
-                if (transactionResourceManager == null) {
-                    transactionResourceManager = new TransactionResourceManager();
-                }
-            }
-        }
-        return transactionResourceManager;
+        return TransactionResourceManagerHelper.INSTANCE;
     }
 
     /**
@@ -83,7 +77,7 @@ public class TransactionResourceManager {
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        getOrCreateResources(combinedId).txContexts.add(txContext);
     }
 
     /**
@@ -139,14 +133,13 @@ public class TransactionResourceManager {
      */
     public boolean prepare(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
+        TransactionResources resources = resourceRegistry.get(combinedId);
+        if (resources != null) {
+            for (BallerinaTransactionContext ctx : resources.txContexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
-                        xaResource.prepare(xid);
+                        xaResource.prepare(resources.xid);
                     }
                 } catch (Throwable e) {
                     log.error("error in prepare the transaction, " + combinedId + ":" + e.getMessage(), e);
@@ -175,14 +168,13 @@ public class TransactionResourceManager {
     public boolean notifyCommit(Strand strand, String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
+        TransactionResources resources = resourceRegistry.get(combinedId);
+        if (resources != null) {
+            for (BallerinaTransactionContext ctx : resources.txContexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
-                        xaResource.commit(xid, false);
+                        xaResource.commit(resources.xid, false);
                     } else {
                         ctx.commit();
                     }
@@ -212,14 +204,13 @@ public class TransactionResourceManager {
     public boolean notifyAbort(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean abortSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
+        TransactionResources resources = resourceRegistry.get(combinedId);
+        if (resources != null) {
+            for (BallerinaTransactionContext ctx : resources.txContexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
-                    Xid xid = xidRegistry.get(combinedId);
                     if (xaResource != null) {
-                        ctx.getXAResource().rollback(xid);
+                        xaResource.rollback(resources.xid);
                     } else {
                         ctx.rollback();
                     }
@@ -255,11 +246,7 @@ public class TransactionResourceManager {
      */
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        Xid xid = xidRegistry.get(combinedId);
-        if (xid == null) {
-            xid = XIDGenerator.createXID();
-            xidRegistry.put(combinedId, xid);
-        }
+        Xid xid = getOrCreateResources(combinedId).getOrCreateXid();
         try {
             xaResource.start(xid, TMNOFLAGS);
         } catch (XAException e) {
@@ -276,20 +263,17 @@ public class TransactionResourceManager {
      */
     void endXATransaction(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        Xid xid = xidRegistry.get(combinedId);
-        if (xid != null) {
-            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-            if (txContextList != null) {
-                for (BallerinaTransactionContext ctx : txContextList) {
-                    try {
-                        XAResource xaResource = ctx.getXAResource();
-                        if (xaResource != null) {
-                            ctx.getXAResource().end(xid, TMSUCCESS);
-                        }
-                    } catch (Throwable e) {
-                        throw new BallerinaException(
-                                "error in ending the XA transaction: id: " + combinedId + " error:" + e.getMessage());
+        TransactionResources resources = resourceRegistry.get(combinedId);
+        if (resources != null && resources.xid != null) {
+            for (BallerinaTransactionContext ctx : resources.txContexts) {
+                try {
+                    XAResource xaResource = ctx.getXAResource();
+                    if (xaResource != null) {
+                        xaResource.end(resources.xid, TMSUCCESS);
                     }
+                } catch (Throwable e) {
+                    throw new BallerinaException(
+                            "error in ending the XA transaction: id: " + combinedId + " error:" + e.getMessage());
                 }
             }
         }
@@ -302,7 +286,15 @@ public class TransactionResourceManager {
 
     private void removeContextsFromRegistry(String transactionCombinedId, String gTransactionId) {
         resourceRegistry.remove(transactionCombinedId);
-        xidRegistry.remove(transactionCombinedId);
+    }
+
+    private TransactionResources getOrCreateResources(String transactionCombinedId) {
+        TransactionResources resources = resourceRegistry.get(transactionCombinedId);
+        if (resources == null) {
+            // Only the first registration of a transaction block goes through the locking path of the map.
+            resources = resourceRegistry.computeIfAbsent(transactionCombinedId, id -> new TransactionResources());
+        }
+        return resources;
     }
 
     private String generateCombinedTransactionId(String transactionId, String transactionBlockId) {
@@ -329,4 +321,28 @@ public class TransactionResourceManager {
             failedLocalParticipantSet.add(gTransactionId);
         }
     }
+
+    /**
+     * {@code TransactionResources} holds the resources participating in a transaction block and the XID they are
+     * enlisted with.
+     */
+    private static class TransactionResources {
+
+        // Resources in the order they are registered, which are committed or aborted in the same order.
+        private final Queue<BallerinaTransactionContext> txContexts = new ConcurrentLinkedQueue<>();
+        private volatile Xid xid;
+
+        Xid getOrCreateXid() {
+            Xid currentXid = xid;
+            if (currentXid != null) {
+                return currentXid;
+            }
+            synchronized (this) {
+                if (xid == null) {
+                    xid = XIDGenerator.createXID();
+                }
+                return xid;
+            }
+        }
+    }
 }
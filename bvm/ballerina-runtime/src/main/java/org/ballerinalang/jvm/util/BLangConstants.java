@@ -91,6 +91,12 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_ELASTIC_POOL_MAX_SIZE_ENV_VAR = "BALLERINA_ELASTIC_POOL_MAX_SIZE";
+    public static final String BALLERINA_ELASTIC_POOL_KEEP_ALIVE_ENV_VAR = "BALLERINA_ELASTIC_POOL_KEEP_ALIVE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String SCHEDULER_MODE_SHARED = "shared";
+    public static final String SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    public static final String SCHEDULER_MODE_VIRTUAL = "virtual";
 
 
     public static final BPackage BALLERINA_BUILTIN_PKG_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
@@ -69,6 +69,13 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private double[] floatValues;
     private String[] stringValues;
     private BString[] bStringValues;
+
+    /**
+     * Whether the backing array of a simple basic type array is shared with a copy of this array. A shared backing
+     * array is copied on the first update, hence {@code copy()} does not have to copy arrays which are never updated.
+     */
+    private boolean sharedStorage;
+
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
     public static final boolean USE_BSTRING = System.getProperty(IS_STRING_VALUE_PROP) != null;
     // ------------------------ Constructors -------------------------------------------------------------------
@@ -545,6 +552,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public Object shift(long index) {
         handleImmutableArrayValue();
         Object val = get(index);
+        detachSharedStorage();
         shiftArray((int) index, getArrayFromType(this.elementType.getTag()));
         return val;
     }
@@ -640,7 +648,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return refs.get(this);
         }
 
-        ArrayValue valueArray = null;
+        ArrayValueImpl valueArray = null;
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -649,24 +657,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                valueArray = shareStorage(new ArrayValueImpl(intValues));
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
+                valueArray = shareStorage(new ArrayValueImpl(booleanValues));
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size));
+                valueArray = shareStorage(new ArrayValueImpl(byteValues));
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size));
+                valueArray = shareStorage(new ArrayValueImpl(floatValues));
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 if (USE_BSTRING) {
-                    valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size));
+                    valueArray = shareStorage(new ArrayValueImpl(bStringValues));
                     break;
                 }
-                valueArray = new ArrayValueImpl(Arrays.copyOf(stringValues, this.size));
+                valueArray = shareStorage(new ArrayValueImpl(stringValues));
                 break;
             default:
                 Object[] values = new Object[this.size];
@@ -686,6 +694,30 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return valueArray;
     }
 
+    /**
+     * Makes the given copy use the backing array of this array until either of them is updated. Values of simple
+     * basic types are immutable, hence the elements themselves need not be copied.
+     *
+     * @param copy array created on top of the backing array of this array
+     * @return the copy
+     */
+    private ArrayValueImpl shareStorage(ArrayValueImpl copy) {
+        copy.size = this.size;
+        copy.sharedStorage = true;
+        this.sharedStorage = true;
+        return copy;
+    }
+
+    /**
+     * Copies the backing array if it is shared with another array, so that an update is not visible through the
+     * other array. Must be called before the backing array is modified in place.
+     */
+    private void detachSharedStorage() {
+        if (sharedStorage) {
+            resizeInternalArray(getCurrentArrayLength());
+        }
+    }
+
     @Override
     public Object frozenCopy(Map<Object, Object> refs) {
         ArrayValue copy = (ArrayValue) copy(refs);
@@ -890,6 +922,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 refValues = Arrays.copyOf(refValues, newLength);
                 break;
         }
+        // resized array is always a new array
+        sharedStorage = false;
     }
 
     @Override
@@ -1026,6 +1060,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int intIndex = (int) index;
         rangeCheck(index, size);
         fillerValueCheck(intIndex, size);
+        detachSharedStorage();
         ensureCapacity(intIndex + 1, currentArraySize);
         fillValues(intIndex);
         resetSize(intIndex);
@@ -1080,6 +1115,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     private void unshiftArray(long index, int unshiftByN, int arrLength) {
         int lastIndex = size() + unshiftByN - 1;
+        detachSharedStorage();
         prepareForConsecutiveMultiAdd(lastIndex, arrLength);
         Object arr = getArrayFromType(elementType.getTag());
 
@@ -1135,6 +1171,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 return floatValues.length;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
+                if (USE_BSTRING) {
+                    return bStringValues.length;
+                }
                 return stringValues.length;
             default:
                 return refValues.length;
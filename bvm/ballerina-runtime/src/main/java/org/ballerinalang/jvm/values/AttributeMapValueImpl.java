@@ -34,8 +34,11 @@ import static org.ballerinalang.jvm.values.XMLItem.XMLNS_URL_PREFIX;
  */
 class AttributeMapValueImpl extends MapValueImpl<String, String> {
 
+    // shared by the attribute maps of all the elements, since the type of a map is never modified
+    private static final BMapType ATTRIBUTE_MAP_TYPE = new BMapType(BTypes.typeString);
+
     public AttributeMapValueImpl() {
-        super(new BMapType(BTypes.typeString));
+        super(ATTRIBUTE_MAP_TYPE);
     }
 
     @Override
@@ -52,10 +52,25 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // Marks that the value does not fit in a scaled long and is only held as a BigDecimal.
+    private static final long INFLATED = Long.MIN_VALUE;
+
+    private static final long[] LONG_TEN_POWERS = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    // Values which fit in a long when scaled, such as currency amounts, are held as an unscaled long and a scale, so
+    // that arithmetic on them does not need a BigDecimal. The BigDecimal is created when it is first needed.
+    private final long compactValue;
+    private final int scale;
     private BigDecimal value;
 
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        this.compactValue = compactValueOf(value);
+        this.scale = value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -68,6 +83,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
         } else {
             this.value = new BigDecimal(value, MathContext.DECIMAL128);
         }
+        this.compactValue = compactValueOf(this.value);
+        this.scale = this.value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -78,6 +95,19 @@ public class DecimalValue implements SimpleValue, BDecimal {
         this.valueKind = valueKind;
     }
 
+    private DecimalValue(long compactValue, int scale) {
+        this.compactValue = compactValue;
+        this.scale = scale;
+        if (compactValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
+    private static long compactValueOf(BigDecimal value) {
+        BigInteger unscaledValue = value.unscaledValue();
+        return unscaledValue.bitLength() < Long.SIZE ? unscaledValue.longValue() : INFLATED;
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -140,7 +170,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal value = this.value;
+        if (value == null) {
+            value = BigDecimal.valueOf(compactValue, scale);
+            this.value = value;
+        }
+        return value;
     }
 
     /**
@@ -158,6 +193,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw BallerinaErrors.createNumericConversionError(POSITIVE_INF, BTypes.typeInt);
         }
 
+        BigDecimal value = decimalValue();
         if (!isDecimalWithinIntRange(value)) {
             throw BallerinaErrors.createNumericConversionError(this.stringValue(), BTypes.typeDecimal, BTypes.typeInt);
         }
@@ -189,7 +225,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw BallerinaErrors.createNumericConversionError(POSITIVE_INF, BTypes.typeByte);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        BigDecimal value = decimalValue();
+        int intVal = (int) Math.rint(value.doubleValue());
         if (!isByteLiteral(intVal)) {
             throw BallerinaErrors.createNumericConversionError(value, BTypes.typeDecimal, BTypes.typeByte);
         }
@@ -208,7 +245,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -216,6 +253,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (compactValue != INFLATED) {
+            return compactValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -227,7 +267,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -235,7 +275,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -276,6 +316,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue sum = compactAdd(this.compactValue, this.scale, augend.compactValue, augend.scale);
+                    if (sum != null) {
+                        return sum;
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -314,6 +358,11 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue difference = subtrahend.compactValue == INFLATED ? null :
+                            compactAdd(this.compactValue, this.scale, -subtrahend.compactValue, subtrahend.scale);
+                    if (difference != null) {
+                        return difference;
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -357,6 +406,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue product = compactMultiply(multiplicand);
+                    if (product != null) {
+                        return product;
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -406,6 +459,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue quotient = compactDivide(divisor);
+                    if (quotient != null) {
+                        return quotient;
+                    }
                     return new DecimalValue(this.decimalValue().divide(divisor.decimalValue(), MathContext.DECIMAL128));
                 }
                 if (divisor.valueKind == DecimalValueKind.POSITIVE_INFINITY ||
@@ -449,6 +506,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (compactValue != INFLATED) {
+                    return new DecimalValue(-compactValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -459,6 +519,81 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
     }
 
+    /**
+     * Adds two values held as scaled longs. The exact sum has fewer digits than the DECIMAL128 precision, so it is
+     * the same value with the same scale as the sum computed by {@code BigDecimal}.
+     *
+     * @return the sum, or null if either value is not held as a scaled long or the sum does not fit in one
+     */
+    private static DecimalValue compactAdd(long augendValue, int augendScale, long addendValue, int addendScale) {
+        if (augendValue == INFLATED || addendValue == INFLATED) {
+            return null;
+        }
+
+        if (augendScale < addendScale) {
+            augendValue = scaleUp(augendValue, addendScale - augendScale);
+        } else if (augendScale > addendScale) {
+            addendValue = scaleUp(addendValue, augendScale - addendScale);
+        }
+        if (augendValue == INFLATED || addendValue == INFLATED) {
+            return null;
+        }
+
+        long sum = augendValue + addendValue;
+        // overflow, if both operands have the sign opposite to the sum
+        if (((augendValue ^ sum) & (addendValue ^ sum)) < 0 || sum == INFLATED) {
+            return null;
+        }
+        return new DecimalValue(sum, Math.max(augendScale, addendScale));
+    }
+
+    private DecimalValue compactMultiply(DecimalValue multiplicand) {
+        if (this.compactValue == INFLATED || multiplicand.compactValue == INFLATED) {
+            return null;
+        }
+
+        long x = this.compactValue;
+        long y = multiplicand.compactValue;
+        long product = x * y;
+        long productScale = (long) this.scale + multiplicand.scale;
+        // the product can only overflow if either operand does not fit in 31 bits
+        boolean overflow = ((Math.abs(x) | Math.abs(y)) >>> 31 != 0) && product / y != x;
+        if (overflow || product == INFLATED || productScale != (int) productScale) {
+            return null;
+        }
+        return new DecimalValue(product, (int) productScale);
+    }
+
+    /**
+     * Divides values held as scaled longs, when the quotient is exact at the preferred scale of {@code BigDecimal}
+     * division. Other quotients need rounding and are left to {@code BigDecimal}.
+     */
+    private DecimalValue compactDivide(DecimalValue divisor) {
+        if (this.compactValue == INFLATED || divisor.compactValue == INFLATED ||
+                this.compactValue % divisor.compactValue != 0) {
+            return null;
+        }
+
+        long quotientScale = (long) this.scale - divisor.scale;
+        if (quotientScale != (int) quotientScale) {
+            return null;
+        }
+        return new DecimalValue(this.compactValue / divisor.compactValue, (int) quotientScale);
+    }
+
+    private static long scaleUp(long value, int scaleDifference) {
+        if (scaleDifference >= LONG_TEN_POWERS.length) {
+            return INFLATED;
+        }
+
+        long tenPower = LONG_TEN_POWERS[scaleDifference];
+        long scaledValue = value * tenPower;
+        if (Math.abs(value) > Long.MAX_VALUE / tenPower) {
+            return INFLATED;
+        }
+        return scaledValue;
+    }
+
     @Override
     public BDecimal add(BDecimal augend) {
         return add((DecimalValue) augend);
@@ -505,12 +640,15 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        if (this.compactValue != INFLATED && this.scale == bDecimal.scale && bDecimal.compactValue != INFLATED) {
+            return this.compactValue == bDecimal.compactValue && this.valueKind == bDecimal.valueKind;
+        }
+        return ((decimalValue().compareTo(bDecimal.decimalValue()) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -0,0 +1,272 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.JSONDocumentIndex;
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * {@link LazyJsonValue} represent a JSON object parsed from the bytes of a {@link JSONDocumentIndex}. The members of
+ * the object are only parsed when the object is first accessed, and the objects nested in it are lazy values as well.
+ * An object which is never accessed is written out from the bytes when serialized, if the bytes are canonical as
+ * defined by {@link JSONDocumentIndex}. Other objects are parsed and written out from their members.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class LazyJsonValue extends MapValueImpl<String, Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient JSONDocumentIndex document;
+    private final int ordinal;
+    private volatile boolean materialized;
+    // guarded by this, set while the members are added by the parser
+    private boolean materializing;
+
+    public LazyJsonValue(JSONDocumentIndex document, int ordinal) {
+        super(new BMapType(BTypes.typeJSON));
+        this.document = document;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Returns whether the members of the object are parsed.
+     *
+     * @return true if the object has been accessed, false otherwise
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Returns whether the object can be written out as it is in the parsed document, which is the case when it has not
+     * been accessed and its bytes are canonical.
+     *
+     * @return true if the object is written out from the bytes, false otherwise
+     */
+    public boolean isSerializedAsIs() {
+        return !materialized && document.isCanonical(ordinal);
+    }
+
+    /**
+     * Serialize the object to the given {@code JSONGenerator}, as it is in the parsed document. Only valid when
+     * {@link #isSerializedAsIs()} is true.
+     *
+     * @param gen {@code JSONGenerator} to use
+     * @throws IOException if an error occurs while writing
+     */
+    public void serialize(JSONGenerator gen) throws IOException {
+        document.serialize(ordinal, gen);
+    }
+
+    @Override
+    public Object get(Object key) {
+        materialize();
+        return super.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        materialize();
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        materialize();
+        super.putAll(m);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        materialize();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        materialize();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        materialize();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        materialize();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        materialize();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        materialize();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public String[] getKeys() {
+        materialize();
+        return super.getKeys();
+    }
+
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (materialized) {
+            return super.copy(refs);
+        }
+
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+
+        // an object which is not accessed is copied without parsing it, as the document is not modified
+        LazyJsonValue copy = new LazyJsonValue(document, ordinal);
+        refs.put(this, copy);
+        return copy;
+    }
+
+    @Override
+    public void freezeDirect() {
+        // members are added through put, which is rejected once the type is read-only
+        materialize();
+        super.freezeDirect();
+    }
+
+    private void materialize() {
+        if (materialized) {
+            return;
+        }
+
+        synchronized (this) {
+            // members are added through this value while materializing
+            if (materialized || materializing) {
+                return;
+            }
+            materializing = true;
+            try {
+                document.materialize(ordinal, this);
+                materialized = true;
+            } finally {
+                materializing = false;
+            }
+        }
+    }
+}
@@ -66,6 +66,14 @@ import static org.ballerinalang.jvm.values.ReadOnlyUtils.handleInvalidUpdate;
  * A map cannot contain duplicate keys; each key can map to at most one value.
  * </p>
  * <p>
+ * The members of maps and JSON objects are kept in the {@link LinkedHashMap} this class extends, which keeps the
+ * insertion order. The classes generated for record types extend this class as well, and store each declared field
+ * in a field of the generated class, with an unboxed value for int, float and boolean fields. Only the rest fields of
+ * open records are kept in the {@link LinkedHashMap}, whose table is not allocated until the first of them is added.
+ * The backing of maps is not an open addressing table, since the generated classes and native code call the
+ * {@link LinkedHashMap} methods of this class directly.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p>
  * @see MapValue
@@ -81,9 +89,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private TypedescValue typedesc;
     private BType type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
     private BType iteratorNextReturnType;
 
+    private static final boolean USE_BSTRING = isBStringEnabled();
+
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
         this.typedesc = typedesc;
@@ -105,6 +115,16 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         type = BTypes.typeMap;
     }
 
+    MapValueImpl(BType type, int initialCapacity) {
+        super(initialCapacity);
+        this.type = type;
+    }
+
+    private static boolean isBStringEnabled() {
+        String bStringProp = System.getProperty(ArrayValueImpl.IS_STRING_VALUE_PROP);
+        return bStringProp != null && !"".equals(bStringProp);
+    }
+
     /**
      * Retrieve the value for the given key from map.
      * A null will be returned if the key does not exists.
@@ -263,8 +283,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     protected void populateInitialValue(K key, V value) {
-        String bStringProp = System.getProperty("ballerina.bstring");
-        boolean isBString = (bStringProp != null && !"".equals(bStringProp));
+        boolean isBString = USE_BSTRING;
 
         if (type.getTag() == TypeTags.MAP_TAG) {
             MapUtils.handleInherentTypeViolatingMapUpdate(value, (BMapType) type, isBString);
@@ -309,7 +328,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return true;
         }
 
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof MapValueImpl)) {
            return false;
         }
 
@@ -319,6 +338,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return false;
         }
 
+        // records of different types are different classes, while maps and JSON objects can also be lazy values
+        if (getClass() != o.getClass() && this.type.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+
         if (this.entrySet().size() != mapValue.entrySet().size()) {
             return false;
         }
@@ -356,10 +380,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     @SuppressWarnings("unchecked")
     public K[] getKeys() {
         Set<K> keys = super.keySet();
-        String bStringProp = System.getProperty("ballerina.bstring");
-        boolean isBString = (bStringProp != null && !"".equals(bStringProp));
         int size = keys.size();
-        return (K[]) (isBString ? keys.toArray(new BString[size]) : keys.toArray(new String[size]));
+        return (K[]) (USE_BSTRING ? keys.toArray(new BString[size]) : keys.toArray(new String[size]));
     }
 
     /**
@@ -406,7 +428,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return refs.get(this);
         }
 
-        MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
+        // sized upfront to avoid rehashing while copying
+        MapValueImpl<K, V> newMap = new MapValueImpl<>(type, (int) (size() / 0.75f) + 1);
         refs.put(this, newMap);
         for (Map.Entry<K, V> entry : this.entrySet()) {
             V value = entry.getValue();
@@ -519,6 +542,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            // most of the maps never have native data, hence created on demand
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
@@ -528,7 +555,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -542,6 +569,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
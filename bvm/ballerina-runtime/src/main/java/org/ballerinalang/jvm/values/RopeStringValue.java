@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating two strings. The concatenated strings are only copied into a
+ * single string when the content of the string is first accessed, so that building a string in a loop does not copy
+ * the whole string on every concatenation.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Strings shorter than this, in characters, are concatenated eagerly, since a rope costs more than copying them.
+     */
+    static final int MIN_ROPE_LENGTH = 64;
+
+    private final int length;
+    private final int charLength;
+    // children are released once the rope is flattened
+    private BString left;
+    private BString right;
+    private volatile BString flattened;
+
+    RopeStringValue(BString left, BString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+    }
+
+    /**
+     * Concatenates the given strings, eagerly if both are short basic multilingual plane strings and as a rope
+     * otherwise.
+     *
+     * @param left  string to be placed first
+     * @param right string to be appended
+     * @return the concatenated string
+     */
+    static BString concat(BString left, BString right) {
+        if (left instanceof BmpStringValue && right instanceof BmpStringValue &&
+                left.length() + right.length() < MIN_ROPE_LENGTH) {
+            return new BmpStringValue(left.getValue() + right.getValue());
+        }
+        return new RopeStringValue(left, right);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    private BString flatten() {
+        BString flattened = this.flattened;
+        if (flattened != null) {
+            return flattened;
+        }
+
+        synchronized (this) {
+            if (this.flattened == null) {
+                this.flattened = StringUtils.fromString(appendLeaves(new StringBuilder(charLength)).toString());
+                this.left = null;
+                this.right = null;
+            }
+            return this.flattened;
+        }
+    }
+
+    private StringBuilder appendLeaves(StringBuilder builder) {
+        // ropes built in a loop are as deep as the number of iterations, hence traversed without recursion
+        Deque<BString> pending = new ArrayDeque<>();
+        pending.push(right);
+        pending.push(left);
+        while (!pending.isEmpty()) {
+            BString str = pending.pop();
+            if (str instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) str;
+                synchronized (rope) {
+                    if (rope.flattened == null) {
+                        pending.push(rope.right);
+                        pending.push(rope.left);
+                        continue;
+                    }
+                }
+                str = rope.flattened;
+            }
+            builder.append(str.getValue());
+        }
+        return builder;
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+}
@@ -33,6 +33,7 @@ import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 import org.ballerinalang.jvm.values.api.BIterator;
 import org.ballerinalang.jvm.values.api.BValueCreator;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -44,8 +45,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
@@ -64,17 +63,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private BTableType type;
     private BType iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    // Rows in the insertion order, indexed by the hash of the key. Rows of keyless tables are indexed by a sequence
+    private LinkedHashMap<Long, Map.Entry<K, V>> entries;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
-
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    private long nextRowId = 0;
+    // Number of rows added and removed, which lets iterators detect that the rows were changed
+    private int modCount = 0;
 
     private boolean nextKeySupported;
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
@@ -83,11 +79,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(BTableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.entries = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
             this.valueHolder = new KeyHashValueHolder();
@@ -210,15 +202,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new TableValues();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
         entries.clear();
-        keys.clear();
-        values.clear();
+        modCount++;
     }
 
     @Override
@@ -243,7 +234,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     "Defined key sequence is not supported with nextKey(). "
                             + "The key sequence should only have an Integer field.");
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return entries.isEmpty() ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -270,7 +261,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        return valueHolder.getKeys();
     }
 
     @Override
@@ -295,14 +286,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue() {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
+        Iterator<Map.Entry<K, V>> itr = entries.values().iterator();
         return createStringValueDataEntry(itr);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr) {
+    private String createStringValueDataEntry(Iterator<Map.Entry<K, V>> itr) {
         StringJoiner sj = new StringJoiner("\n");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
+            Map.Entry<K, V> struct = itr.next();
             sj.add(struct.getValue().toString());
         }
         return sj.toString();
@@ -331,17 +322,50 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
+    /**
+     * Live view of the values of the rows, in the insertion order.
+     */
+    private class TableValues extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            Iterator<Map.Entry<K, V>> rows = entries.values().iterator();
+            return new Iterator<V>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return rows.next().getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private Iterator<Map.Entry<K, V>> rows;
+        private int expectedModCount;
+        // rows which are not returned yet, which are the last rows of the table since rows are only added at the end
+        private int remainingRows;
 
         TableIterator() {
-            this.cursor = 0;
+            this.rows = (Iterator) entries.values().iterator();
+            this.expectedModCount = modCount;
+            this.remainingRows = entries.size();
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
+            checkModification();
+            Map.Entry<K, V> next = rows.next();
+            remainingRows--;
             V value = next.getValue();
             K key = next.getKey();
 
@@ -353,13 +377,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             TupleValueImpl tuple = new TupleValueImpl(tupleType);
             tuple.add(0, key);
             tuple.add(1, value);
-            cursor++;
             return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            checkModification();
+            return rows.hasNext();
+        }
+
+        /**
+         * Continues after the returned rows if rows were removed. The table iterator of the lang library already
+         * panics if rows were added, or if rows which are not returned yet were removed.
+         */
+        private void checkModification() {
+            if (expectedModCount == modCount) {
+                return;
+            }
+            rows = (Iterator) entries.values().iterator();
+            expectedModCount = modCount;
+            for (int i = entries.size() - remainingRows; i > 0 && rows.hasNext(); i--) {
+                rows.next();
+            }
         }
     }
 
@@ -367,9 +406,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public void addData(V data) {
             Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            values.put((long) uuid.hashCode(), data);
+            entries.put(nextRowId++, entry);
+            modCount++;
         }
 
         public V getData(K key) {
@@ -381,10 +419,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public V putData(V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            return values.put((long) uuid.hashCode(), data);
+            addData(data);
+            return null;
         }
 
         public V remove(K key) {
@@ -398,6 +434,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         public BType getKeyType() {
             throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "keys are not defined");
         }
+
+        public K[] getKeys() {
+            return (K[]) new Object[]{};
+        }
     }
 
     private class KeyHashValueHolder extends ValueHolder {
@@ -422,7 +462,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         key + "'");
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (entries.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
@@ -432,7 +472,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            Map.Entry<K, V> entry = entries.get(TableUtils.hash(key, null));
+            return entry == null ? null : entry.getValue();
         }
 
         public V putData(K key, V data) {
@@ -450,10 +491,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            // replacing an existing row keeps its position in the iteration order
+            Map.Entry<K, V> previous = entries.put(hash, entry);
+            if (previous == null) {
+                modCount++;
+                return null;
+            }
+            return previous.getValue();
         }
 
         public V putData(V data) {
@@ -465,21 +509,31 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            indexToKeyMap.remove(keyToIndexMap.remove(hash));
-            return values.remove(hash);
+            Map.Entry<K, V> entry = entries.remove(TableUtils.hash(key, null));
+            if (entry == null) {
+                return null;
+            }
+            modCount++;
+            return entry.getValue();
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return entries.containsKey(TableUtils.hash(key, null));
         }
 
         public BType getKeyType() {
             return keyType;
         }
 
+        public K[] getKeys() {
+            Object[] keys = new Object[entries.size()];
+            int i = 0;
+            for (Map.Entry<K, V> entry : entries.values()) {
+                keys[i++] = entry.getKey();
+            }
+            return (K[]) keys;
+        }
+
         private class DefaultKeyWrapper {
 
             public DefaultKeyWrapper() {
@@ -522,13 +576,4 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
     }
-
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
 }
@@ -65,7 +65,8 @@ public final class XMLItem extends XMLValue {
     private QName name;
     private XMLSequence children;
     private AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
+    // Keep track of probable parents of xml element to detect probable cycles in xml. Created with the first parent,
+    // since the elements built by the parser are added to their parents without tracking them.
     private List<WeakReference<XMLItem>> probableParents;
 
     public XMLItem(QName name, XMLSequence children) {
@@ -76,7 +77,6 @@ public final class XMLItem extends XMLValue {
         }
         attributes = new AttributeMapValueImpl();
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
         this.type = BTypes.typeElement;
     }
 
@@ -352,11 +352,18 @@ public final class XMLItem extends XMLValue {
     // xml literal syntax, or after ensuring the new xml tree is not cyclic.
     private void addParent(BXML child, XMLItem thisElem) {
         if (child.getNodeType() == ELEMENT) {
-            ((XMLItem) child).probableParents.add(new WeakReference<>(thisElem));
+            XMLItem childElem = (XMLItem) child;
+            if (childElem.probableParents == null) {
+                childElem.probableParents = new ArrayList<>(1);
+            }
+            childElem.probableParents.add(new WeakReference<>(thisElem));
         }
     }
 
     private void ensureAcyclicGraph(BXML newSubTree, XMLItem current) {
+        if (current.probableParents == null) {
+            return;
+        }
         for (WeakReference<XMLItem> probableParentRef : current.probableParents) {
             XMLItem parent = probableParentRef.get();
             // probable parent is the actual parent.
@@ -571,6 +578,9 @@ public final class XMLItem extends XMLValue {
         }
 
         XMLItem item = (XMLItem) removedItem;
+        if (item.probableParents == null) {
+            return;
+        }
         for (Iterator<WeakReference<XMLItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
             WeakReference<XMLItem> probableParent = iterator.next();
             XMLItem parent = probableParent.get();
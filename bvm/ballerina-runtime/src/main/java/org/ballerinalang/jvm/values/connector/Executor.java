@@ -147,7 +147,8 @@ public class Executor {
                     completeFunction.countDown();
                 }
             }, new HashMap<>(), BTypes.typeNull);
-            completeFunction.await();
+            // the function is executed by the same scheduler, which may need a thread in place of this one
+            Scheduler.await(completeFunction);
             return futureValue.result;
         } catch (NoSuchMethodException | ClassNotFoundException | InterruptedException e) {
             throw new BallerinaException("invocation failed: " + e.getMessage());
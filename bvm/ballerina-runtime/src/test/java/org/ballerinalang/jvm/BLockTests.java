@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpCounter;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpGauge;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for the contention metrics recorded by {@link BLock}.
+ */
+public class BLockTests {
+
+    private static final long WAIT_MILLIS = 20;
+
+    @Test
+    public void testUncontendedLock() {
+        RecordingGauge waitTime = new RecordingGauge();
+        RecordingGauge holdTime = new RecordingGauge();
+        RecordingCounter contentions = new RecordingCounter();
+        BLock lock = new BLock(null, new BLockMetrics(waitTime, holdTime, contentions));
+        Strand strand = createStrand(new Scheduler(1, false));
+
+        Assert.assertTrue(lock.lock(strand));
+        // reentrant locking by the same strand is not a contention
+        Assert.assertTrue(lock.lock(strand));
+        lock.unlock();
+        Assert.assertTrue(holdTime.values.isEmpty(), "hold time recorded before the outer lock was released");
+        lock.unlock();
+
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(contentions.count, 0);
+        Assert.assertTrue(waitTime.values.isEmpty());
+        Assert.assertEquals(holdTime.values.size(), 1);
+    }
+
+    @Test
+    public void testContendedLock() throws InterruptedException {
+        RecordingGauge waitTime = new RecordingGauge();
+        RecordingGauge holdTime = new RecordingGauge();
+        RecordingCounter contentions = new RecordingCounter();
+        BLock lock = new BLock(null, new BLockMetrics(waitTime, holdTime, contentions));
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand owner = createStrand(scheduler);
+        Strand waiter = createStrand(scheduler);
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiter));
+        Assert.assertEquals(waiter.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(contentions.count, 1);
+
+        Thread.sleep(WAIT_MILLIS);
+        lock.unlock();
+        Assert.assertEquals(waiter.getState(), State.YIELD);
+        Assert.assertEquals(holdTime.values.size(), 1);
+        Assert.assertTrue(holdTime.values.get(0) >= WAIT_MILLIS / 1E3, "hold time: " + holdTime.values);
+        Assert.assertEquals(waitTime.values.size(), 1);
+        Assert.assertTrue(waitTime.values.get(0) >= WAIT_MILLIS / 1E3, "wait time: " + waitTime.values);
+
+        // the unblocked strand retries the lock statement
+        Assert.assertTrue(lock.lock(waiter));
+        lock.unlock();
+        Assert.assertEquals(contentions.count, 1);
+        Assert.assertEquals(holdTime.values.size(), 2);
+        Assert.assertEquals(waitTime.values.size(), 1);
+    }
+
+    @Test
+    public void testLockWithoutMetrics() {
+        BLockMetrics.setEnabled(false);
+        BLock lock = new BLock("withoutMetrics", null);
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand owner = createStrand(scheduler);
+        Strand waiter = createStrand(scheduler);
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiter));
+        lock.unlock();
+        Assert.assertEquals(waiter.getState(), State.YIELD);
+        Assert.assertTrue(lock.lock(waiter));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private static Strand createStrand(Scheduler scheduler) {
+        // never started, only gives the strand a scheduler item to be unblocked through
+        return scheduler.schedule(new Object[1], params -> null, null, null).strand;
+    }
+
+    private static class RecordingGauge extends NoOpGauge {
+
+        private final List<Double> values = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingGauge() {
+            super(new MetricId("test_gauge", "", Collections.emptySet()));
+        }
+
+        @Override
+        public void setValue(double value) {
+            values.add(value);
+        }
+    }
+
+    private static class RecordingCounter extends NoOpCounter {
+
+        private long count;
+
+        RecordingCounter() {
+            super(new MetricId("test_counter", "", Collections.emptySet()));
+        }
+
+        @Override
+        public void increment(long amount) {
+            count += amount;
+        }
+    }
+}
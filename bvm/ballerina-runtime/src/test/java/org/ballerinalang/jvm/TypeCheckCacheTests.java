@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testHitAndMiss() {
+        TypeCheckCache cache = new TypeCheckCache(64);
+        BType source = new BArrayType(BTypes.typeInt);
+        BType target = new BArrayType(BTypes.typeAnydata);
+        BType other = new BArrayType(BTypes.typeInt);
+
+        Assert.assertNull(cache.get(source, target));
+        cache.put(source, target, true);
+        cache.put(target, source, false);
+        Assert.assertEquals(cache.get(source, target), Boolean.TRUE);
+        Assert.assertEquals(cache.get(target, source), Boolean.FALSE);
+        // types are compared by identity, not by name
+        Assert.assertNull(cache.get(other, target));
+
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getHitRate(), 0.5);
+        Assert.assertEquals(cache.getSize(), 2);
+    }
+
+    @Test
+    public void testEvictionKeepsHitEntries() {
+        // a single set of entries, so that every pair competes for the same entries
+        TypeCheckCache cache = new TypeCheckCache(1);
+        BType target = new BArrayType(BTypes.typeAnydata);
+        BType hot = new BArrayType(BTypes.typeInt);
+        cache.put(hot, target, true);
+        Assert.assertEquals(cache.get(hot, target), Boolean.TRUE);
+
+        BType[] sources = new BType[100];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = new BArrayType(BTypes.typeString);
+            cache.put(sources[i], target, false);
+            // the hot pair is hit in between, and is never the one evicted
+            Assert.assertEquals(cache.get(hot, target), Boolean.TRUE);
+        }
+
+        Assert.assertEquals(cache.getSize(), 4);
+        Assert.assertEquals(cache.get(sources[sources.length - 1], target), Boolean.FALSE);
+        Assert.assertNull(cache.get(sources[0], target));
+    }
+
+    @Test
+    public void testEvictionWithoutHits() {
+        TypeCheckCache cache = new TypeCheckCache(1);
+        BType target = new BArrayType(BTypes.typeAnydata);
+        BType[] sources = new BType[6];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = new BArrayType(BTypes.typeString);
+            cache.put(sources[i], target, true);
+        }
+
+        // the oldest entries are replaced first
+        Assert.assertEquals(cache.getSize(), 4);
+        Assert.assertNull(cache.get(sources[0], target));
+        Assert.assertNull(cache.get(sources[1], target));
+        for (int i = 2; i < sources.length; i++) {
+            Assert.assertEquals(cache.get(sources[i], target), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for the ordering and the concurrent retrieval of the {@link RunnableQueue} implementations.
+ */
+public class RunnableQueueTests {
+
+    @Test
+    public void testSharedQueueOrder() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(false, 2);
+        ItemGroup first = new ItemGroup(null);
+        ItemGroup second = new ItemGroup(null);
+        queue.add(first);
+        queue.addLocal(second);
+
+        Assert.assertEquals(queue.size(), 2);
+        Assert.assertSame(queue.take(1), first);
+        Assert.assertSame(queue.take(0), second);
+        Assert.assertNull(queue.poll(0, 0, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testLocalGroupsRunInLifoOrder() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(true, 2);
+        // registers the calling thread as the first worker
+        Assert.assertNull(queue.poll(0, 0, TimeUnit.NANOSECONDS));
+
+        ItemGroup first = new ItemGroup(null);
+        ItemGroup second = new ItemGroup(null);
+        ItemGroup third = new ItemGroup(null);
+        queue.addLocal(first);
+        queue.addLocal(second);
+        queue.addLocal(third);
+
+        Assert.assertEquals(queue.size(), 3);
+        Assert.assertSame(queue.take(0), third);
+        Assert.assertSame(queue.take(0), second);
+        Assert.assertSame(queue.take(0), first);
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testInjectedGroupsRunInFifoOrder() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(true, 2);
+        ItemGroup first = new ItemGroup(null);
+        ItemGroup second = new ItemGroup(null);
+        queue.add(first);
+        queue.add(second);
+
+        Assert.assertSame(queue.take(1), first);
+        Assert.assertSame(queue.take(0), second);
+    }
+
+    @Test
+    public void testLocalGroupsBeforeInjectedGroups() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(true, 2);
+        Assert.assertNull(queue.poll(0, 0, TimeUnit.NANOSECONDS));
+
+        ItemGroup injected = new ItemGroup(null);
+        ItemGroup local = new ItemGroup(null);
+        queue.add(injected);
+        queue.addLocal(local);
+
+        Assert.assertSame(queue.take(0), local);
+        Assert.assertSame(queue.take(0), injected);
+    }
+
+    @Test
+    public void testStealOldestGroup() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(true, 2);
+        Assert.assertNull(queue.poll(0, 0, TimeUnit.NANOSECONDS));
+
+        ItemGroup oldest = new ItemGroup(null);
+        ItemGroup injected = new ItemGroup(null);
+        ItemGroup newest = new ItemGroup(null);
+        queue.addLocal(oldest);
+        queue.add(injected);
+        queue.addLocal(newest);
+
+        // the second worker prefers the injection queue over stealing
+        Assert.assertSame(queue.take(1), injected);
+        Assert.assertSame(queue.take(1), oldest);
+        Assert.assertSame(queue.take(0), newest);
+        Assert.assertNull(queue.poll(1, 0, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testGroupsAddedByOtherThreadsAreInjected() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(true, 2);
+        ItemGroup group = new ItemGroup(null);
+        Thread producer = new Thread(() -> queue.addLocal(group));
+        producer.start();
+        producer.join();
+
+        Assert.assertSame(queue.take(1), group);
+    }
+
+    @Test(timeOut = 10000)
+    public void testIdleWorkerWokenByNewGroup() throws InterruptedException {
+        RunnableQueue queue = RunnableQueue.create(true, 2);
+        AtomicReference<ItemGroup> taken = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread worker = new Thread(() -> {
+            try {
+                taken.set(queue.take(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        worker.start();
+
+        ItemGroup group = new ItemGroup(null);
+        queue.add(group);
+        Assert.assertTrue(done.await(5, TimeUnit.SECONDS), "idle worker was not woken up");
+        Assert.assertSame(taken.get(), group);
+    }
+
+    @Test(timeOut = 60000)
+    public void testConcurrentStealsTakeEachGroupOnce() throws InterruptedException {
+        int numThreads = 4;
+        int groupCount = 20000;
+        RunnableQueue queue = RunnableQueue.create(true, numThreads);
+        List<ItemGroup> groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new ItemGroup(null));
+        }
+
+        Map<ItemGroup, Boolean> taken = Collections.synchronizedMap(new IdentityHashMap<>());
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            int workerId = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    if (workerId == 0) {
+                        // the owner pushes and pops its own deque while the others steal from it
+                        Assert.assertNull(queue.poll(workerId, 0, TimeUnit.NANOSECONDS));
+                        for (int j = 0; j < groupCount; j++) {
+                            queue.addLocal(groups.get(j));
+                            if (j % 2 == 0) {
+                                take(queue, workerId, taken, duplicates);
+                            }
+                        }
+                    }
+                    while (taken.size() < groupCount) {
+                        // polls which find every deque empty are expected while the others still hold groups
+                        take(queue, workerId, taken, duplicates);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Assert.assertEquals(duplicates.get(), 0);
+        Assert.assertEquals(taken.size(), groupCount);
+        Assert.assertEquals(queue.size(), 0);
+        Assert.assertNull(queue.poll(numThreads - 1, 0, TimeUnit.NANOSECONDS));
+    }
+
+    private static boolean take(RunnableQueue queue, int workerId, Map<ItemGroup, Boolean> taken,
+                                AtomicInteger duplicates) throws InterruptedException {
+        ItemGroup group = queue.poll(workerId, 1, TimeUnit.MILLISECONDS);
+        if (group == null) {
+            return false;
+        }
+        if (taken.put(group, Boolean.TRUE) != null) {
+            duplicates.incrementAndGet();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.ballerinalang.jvm.util.BLangConstants;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for the strand execution of the {@link Scheduler} modes.
+ */
+public class SchedulerTests {
+
+    @Test
+    public void testVirtualThreadMode() {
+        if (VirtualThreads.createFactory("test-") == null) {
+            throw new SkipException("virtual threads are not supported by the current Java runtime");
+        }
+
+        int maxVirtualThreads = 3;
+        Scheduler scheduler = new Scheduler(2, BLangConstants.SCHEDULER_MODE_VIRTUAL,
+                                            String.valueOf(maxVirtualThreads), false);
+        SchedulerStats stats = SchedulerStats.getInstance();
+        int activeThreadCount = stats.getActiveThreadCount();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger activeThreadCountChanges = new AtomicInteger();
+        List<String> threadNames = new ArrayList<>();
+        Function<Object[], Object> function = params -> {
+            int count = running.incrementAndGet();
+            maxRunning.accumulateAndGet(count, Math::max);
+            synchronized (threadNames) {
+                threadNames.add(Thread.currentThread().getName());
+            }
+            if (stats.getActiveThreadCount() != activeThreadCount || stats.getVirtualThreadCount() == 0) {
+                activeThreadCountChanges.incrementAndGet();
+            }
+            try {
+                // blocks the thread, as a Java call would
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return null;
+        };
+
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(scheduler.schedule(new Object[1], function, null, null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+        }
+        Assert.assertEquals(threadNames.size(), futures.size());
+        for (String threadName : threadNames) {
+            Assert.assertTrue(threadName.startsWith("jbal-strand-vexec-"), threadName);
+        }
+        Assert.assertTrue(maxRunning.get() > 1, "strands blocked in a call were not executed concurrently");
+        Assert.assertTrue(maxRunning.get() <= maxVirtualThreads, "more virtual threads than the max: " + maxRunning);
+        Assert.assertEquals(activeThreadCountChanges.get(), 0, "virtual threads counted as scheduler threads");
+    }
+
+    @Test(timeOut = 60000)
+    public void testCpuBoundStrandsDoNotGrowPool() {
+        Scheduler scheduler = new Scheduler(1, BLangConstants.SCHEDULER_MODE_SHARED, "4", false);
+        Set<String> threadNames = new HashSet<>();
+        Function<Object[], Object> function = params -> {
+            synchronized (threadNames) {
+                threadNames.add(Thread.currentThread().getName());
+            }
+            // keeps the thread busy across several compensation checks of the pool monitor
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(150);
+            long iterations = 0;
+            while (System.nanoTime() < end) {
+                iterations++;
+            }
+            return iterations;
+        };
+
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(scheduler.schedule(new Object[1], function, null, null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+        }
+        Assert.assertEquals(threadNames.size(), 1, "threads added for busy strands: " + threadNames);
+    }
+
+    @Test(timeOut = 60000)
+    public void testManagedBlockCompensatesBlockedThread() {
+        Scheduler scheduler = new Scheduler(1, BLangConstants.SCHEDULER_MODE_SHARED, "4", false);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threadNames = new ArrayList<>();
+        Function<Object[], Object> waiting = params -> {
+            threadNames.add(Thread.currentThread().getName());
+            try {
+                // would never return without another thread, as the strand which counts down is queued after this
+                Scheduler.await(latch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        Function<Object[], Object> countingDown = params -> {
+            threadNames.add(Thread.currentThread().getName());
+            latch.countDown();
+            return null;
+        };
+
+        FutureValue waitingFuture = scheduler.schedule(new Object[1], waiting, null, null);
+        FutureValue countingDownFuture = scheduler.schedule(new Object[1], countingDown, null, null);
+        scheduler.start();
+
+        Assert.assertTrue(waitingFuture.isDone);
+        Assert.assertTrue(countingDownFuture.isDone);
+        Assert.assertEquals(threadNames.size(), 2);
+        Assert.assertNotEquals(threadNames.get(1), threadNames.get(0));
+        Assert.assertEquals(SchedulerStats.getInstance().getBlockedThreadCount(), 0);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the message passing of the {@link SingleProducerWorkerDataChannel}.
+ */
+public class SingleProducerWorkerDataChannelTests {
+
+    @Test
+    public void testMessagesReceivedInOrder() throws Throwable {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand sender = createStrand(scheduler);
+        Strand receiver = createStrand(scheduler);
+        WorkerDataChannel channel = new SingleProducerWorkerDataChannel("ch");
+
+        channel.sendData(1L, sender);
+        channel.sendData("two", sender);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        channel.sendData(3L, sender);
+        Assert.assertEquals(channel.tryTakeData(receiver), "two");
+        Assert.assertEquals(channel.tryTakeData(receiver), 3L);
+    }
+
+    @Test
+    public void testMessagesBeyondCapacityReceivedInOrder() throws Throwable {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand sender = createStrand(scheduler);
+        Strand receiver = createStrand(scheduler);
+        WorkerDataChannel channel = new SingleProducerWorkerDataChannel("ch");
+
+        int messageCount = 200;
+        for (int i = 0; i < messageCount; i++) {
+            channel.sendData(i, sender);
+            if (i % 3 == 0) {
+                // keep sending while the receiver drains the overflowed messages
+                Assert.assertEquals(channel.tryTakeData(receiver), i / 3);
+            }
+        }
+        for (int i = (messageCount + 2) / 3; i < messageCount; i++) {
+            Assert.assertEquals(channel.tryTakeData(receiver), i);
+        }
+        Assert.assertEquals(receiver.getState(), State.RUNNABLE);
+    }
+
+    @Test
+    public void testReceiverUnblockedBySend() throws Throwable {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand sender = createStrand(scheduler);
+        Strand receiver = createStrand(scheduler);
+        WorkerDataChannel channel = new SingleProducerWorkerDataChannel("ch");
+
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+
+        channel.sendData("message", sender);
+        Assert.assertEquals(receiver.getState(), State.YIELD);
+        Assert.assertEquals(channel.tryTakeData(receiver), "message");
+    }
+
+    @Test(timeOut = 60000)
+    public void testConcurrentSenderAndReceiver() throws Throwable {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand sender = createStrand(scheduler);
+        Strand receiver = createStrand(scheduler);
+        WorkerDataChannel channel = new SingleProducerWorkerDataChannel("ch");
+
+        int messageCount = 100000;
+        Thread senderThread = new Thread(() -> {
+            for (int i = 0; i < messageCount; i++) {
+                channel.sendData(i, sender);
+            }
+        });
+        senderThread.start();
+
+        List<Object> received = new ArrayList<>(messageCount);
+        while (received.size() < messageCount) {
+            // a null result blocks the receiver until the next send, which a strand would yield on
+            Object message = channel.tryTakeData(receiver);
+            if (message != null) {
+                received.add(message);
+            }
+        }
+        senderThread.join();
+
+        for (int i = 0; i < messageCount; i++) {
+            Assert.assertEquals(received.get(i), i);
+        }
+        Assert.assertNull(channel.tryTakeData(receiver));
+    }
+
+    private static Strand createStrand(Scheduler scheduler) {
+        // never started, only gives the strand a scheduler item to be unblocked through
+        return scheduler.schedule(new Object[1], params -> null, null, null).strand;
+    }
+}
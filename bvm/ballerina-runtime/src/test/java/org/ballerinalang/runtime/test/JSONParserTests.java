@@ -0,0 +1,171 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.CloneUtils;
+import org.ballerinalang.jvm.values.LazyJsonValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * Test cases for {@link JSONParser class}, comparing the documents parsed from UTF-8 bytes with the documents parsed
+ * from characters.
+ */
+public class JSONParserTests {
+
+    @DataProvider(name = "documents")
+    public Object[][] documents() {
+        return new Object[][]{
+                {"{\"id\":1,\"name\":\"John\",\"tags\":[\"a\",\"b\"],\"address\":{\"city\":\"Colombo\"},\"v\":null}"},
+                {"[1, -2, 3.5, true, false, null, \"x\", {}, []]"},
+                {"{'single':'quoted', \"mixed\":'\"'}"},
+                {"{\"unicode\":\"h\u00e9llo \uD83D\uDE00\",\"escaped\":\"\\u00e9\\n\\t\\\"\\\\\\/\"}"},
+                {"{\"dup\":1,\"dup\":2}"},
+                {" \"top level string\" "},
+                {"42"},
+                {"[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[1]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]"},
+        };
+    }
+
+    @DataProvider(name = "malformedDocuments")
+    public Object[][] malformedDocuments() {
+        return new Object[][]{
+                {""},
+                {"ballerina"},
+                {"{\"a\":1 \"b\":2}"},
+                {"{\"a\":1e5}"},
+                {"[\"unterminated"},
+                {"{\"a\":\"\\x\"}"},
+                {"{} {}"},
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    void testParseUTF8Bytes(String document) {
+        Object expected = JSONParser.parse(document);
+        Object actual = parseUTF8(document);
+        Assert.assertEquals(StringUtils.getJsonString(actual), StringUtils.getJsonString(expected));
+    }
+
+    @Test(dataProvider = "malformedDocuments")
+    void testParseMalformedUTF8Bytes(String document) {
+        String expected = null;
+        try {
+            JSONParser.parse(document);
+        } catch (BallerinaException e) {
+            expected = e.getMessage();
+        }
+
+        try {
+            parseUTF8(document);
+            Assert.fail("expected a parsing error for: " + document);
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), expected);
+        }
+    }
+
+    @Test
+    void testParseLargeObjectLazily() {
+        StringBuilder document = new StringBuilder("{\"id\": 7, \"items\": [");
+        for (int i = 0; i < 200; i++) {
+            document.append(i > 0 ? ", " : "").append("{\"index\": ").append(i).append(", \"name\": \"item\"}");
+        }
+        document.append("], \"owner\": {\"name\": \"John\", \"roles\": [\"admin\"]}}");
+
+        LazyJsonValue json = (LazyJsonValue) parseUTF8(document.toString());
+        Assert.assertFalse(json.isMaterialized());
+        LazyJsonValue owner = (LazyJsonValue) json.get("owner");
+        Assert.assertTrue(json.isMaterialized());
+        Assert.assertFalse(owner.isMaterialized());
+        // objects which are not written as the generator writes them are normalized
+        Assert.assertFalse(owner.isSerializedAsIs());
+        Assert.assertEquals(owner.getJSONString(), "{\"name\":\"John\", \"roles\":[\"admin\"]}");
+        Assert.assertEquals(owner.get("name"), "John");
+
+        Object expected = JSONParser.parse(document.toString());
+        Object actual = JSONParser.parse(StringUtils.getJsonString(json));
+        Assert.assertEquals(StringUtils.getJsonString(actual), StringUtils.getJsonString(expected));
+
+        // read-only clones of objects which are not accessed yet
+        LazyJsonValue untouched = (LazyJsonValue) parseUTF8(document.toString());
+        MapValueImpl<?, ?> readOnlyClone = (MapValueImpl<?, ?>) CloneUtils.cloneReadOnly(untouched);
+        Assert.assertTrue(readOnlyClone.isFrozen());
+        Assert.assertFalse(untouched.isFrozen());
+        Assert.assertEquals(StringUtils.getJsonString(readOnlyClone), StringUtils.getJsonString(expected));
+        MapValueImpl<?, ?> readOnlyOwner = (MapValueImpl<?, ?>) readOnlyClone.get("owner");
+        Assert.assertTrue(readOnlyOwner.isFrozen());
+        Assert.assertEquals(readOnlyOwner.get("name"), "John");
+
+        LazyJsonValue frozen = (LazyJsonValue) parseUTF8(document.toString());
+        MapValueImpl<?, ?> frozenCopy = (MapValueImpl<?, ?>) frozen.frozenCopy(new HashMap<>());
+        Assert.assertTrue(frozenCopy.isFrozen());
+        Assert.assertEquals(StringUtils.getJsonString(frozenCopy), StringUtils.getJsonString(expected));
+    }
+
+    @Test
+    void testSerializeLazyObject() {
+        StringBuilder document = new StringBuilder("{\"id\":7, \"items\":[");
+        for (int i = 0; i < 200; i++) {
+            document.append(i > 0 ? ", " : "").append("{\"index\":").append(i).append(", \"name\":\"item\"}");
+        }
+        document.append("], \"owner\":{\"name\":\"John\", \"roles\":[\"admin\"]}, ")
+                .append("\"dup\":{\"a\":1, \"b\":2, \"a\":3}, ")
+                .append("\"numbers\":{\"exp\":1.5e3, \"zero\":-0, \"float\":2.5}, ")
+                .append("\"escaped\":{\"path\":\"a\\/b\"}}");
+
+        LazyJsonValue json = (LazyJsonValue) parseUTF8(document.toString());
+        Assert.assertFalse(json.isSerializedAsIs());
+        // canonical objects which are not accessed are written out as they are in the document
+        LazyJsonValue owner = (LazyJsonValue) json.get("owner");
+        Assert.assertTrue(owner.isSerializedAsIs());
+        Assert.assertEquals(owner.getJSONString(), "{\"name\":\"John\", \"roles\":[\"admin\"]}");
+        Assert.assertFalse(owner.isMaterialized());
+
+        LazyJsonValue dup = (LazyJsonValue) json.get("dup");
+        Assert.assertFalse(dup.isSerializedAsIs());
+        Assert.assertEquals(dup.getJSONString(), "{\"a\":3, \"b\":2}");
+        LazyJsonValue numbers = (LazyJsonValue) json.get("numbers");
+        Assert.assertFalse(numbers.isSerializedAsIs());
+        Assert.assertEquals(numbers.getJSONString(), "{\"exp\":1500.0, \"zero\":0, \"float\":2.5}");
+        LazyJsonValue escaped = (LazyJsonValue) json.get("escaped");
+        Assert.assertFalse(escaped.isSerializedAsIs());
+        Assert.assertEquals(escaped.getJSONString(), "{\"path\":\"a/b\"}");
+
+        // the whole document is written out the same as the eagerly parsed document
+        Object expected = JSONParser.parse(document.toString());
+        LazyJsonValue untouched = (LazyJsonValue) parseUTF8(document.toString());
+        Assert.assertEquals(StringUtils.getJsonString(untouched), StringUtils.getJsonString(expected));
+        Assert.assertEquals(untouched.get("owner"), ((MapValueImpl<?, ?>) expected).get("owner"));
+        Assert.assertEquals(((MapValueImpl<?, ?>) expected).get("dup"), untouched.get("dup"));
+    }
+
+    private static Object parseUTF8(String document) {
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        return JSONParser.parse(new ByteArrayInputStream(bytes), "UTF-8");
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.transactions.BallerinaTransactionContext;
+import org.ballerinalang.jvm.transactions.TransactionResourceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for running concurrent transactions through {@link TransactionResourceManager}.
+ */
+public class TransactionResourceManagerTests {
+
+    private static final int THREADS = 16;
+    private static final int TRANSACTIONS_PER_THREAD = 2000;
+    private static final int RESOURCES_PER_TRANSACTION = 2;
+
+    @Test(description = "Test committing and aborting concurrent local transactions over XA resources",
+          timeOut = 60000)
+    public void testConcurrentLocalTransactions() throws Exception {
+        TransactionResourceManager transactionResourceManager = TransactionResourceManager.getInstance();
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rolledBack = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                String transactionId = "trx-" + thread;
+                results.add(executor.submit(runTransactions(transactionResourceManager, transactionId, committed,
+                                                            rolledBack)));
+            }
+            for (Future<Void> result : results) {
+                // rethrows the failures of the transactions
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int transactions = THREADS * TRANSACTIONS_PER_THREAD;
+        Assert.assertEquals(committed.get(), transactions / 2 * RESOURCES_PER_TRANSACTION);
+        Assert.assertEquals(rolledBack.get(), transactions / 2 * RESOURCES_PER_TRANSACTION);
+    }
+
+    private Callable<Void> runTransactions(TransactionResourceManager transactionResourceManager,
+                                           String transactionId, AtomicInteger committed, AtomicInteger rolledBack) {
+        return () -> {
+            for (int i = 0; i < TRANSACTIONS_PER_THREAD; i++) {
+                String transactionBlockId = String.valueOf(i);
+                List<InMemoryXAResource> resources = new ArrayList<>();
+                for (int j = 0; j < RESOURCES_PER_TRANSACTION; j++) {
+                    InMemoryXAResource resource = new InMemoryXAResource(committed, rolledBack);
+                    transactionResourceManager.beginXATransaction(transactionId, transactionBlockId, resource);
+                    transactionResourceManager.register(transactionId, transactionBlockId, resource);
+                    resources.add(resource);
+                }
+                if (i % 2 == 0) {
+                    Assert.assertTrue(transactionResourceManager.prepare(transactionId, transactionBlockId));
+                    Assert.assertTrue(transactionResourceManager.notifyCommit(null, transactionId,
+                                                                              transactionBlockId));
+                } else {
+                    Assert.assertTrue(transactionResourceManager.notifyAbort(transactionId, transactionBlockId));
+                }
+                for (InMemoryXAResource resource : resources) {
+                    Assert.assertTrue(resource.closed);
+                    // all the resources of a transaction are enlisted with the same XID
+                    Assert.assertSame(resource.xid, resources.get(0).xid);
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * In-memory XA resource which verifies that it is driven through the XA protocol with a single XID.
+     */
+    private static class InMemoryXAResource implements XAResource, BallerinaTransactionContext {
+
+        private final AtomicInteger committed;
+        private final AtomicInteger rolledBack;
+        private Xid xid;
+        private boolean prepared;
+        private boolean closed;
+
+        InMemoryXAResource(AtomicInteger committed, AtomicInteger rolledBack) {
+            this.committed = committed;
+            this.rolledBack = rolledBack;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) throws XAException {
+            if (this.xid != null) {
+                throw new XAException(XAException.XAER_DUPID);
+            }
+            this.xid = xid;
+        }
+
+        @Override
+        public void end(Xid xid, int flags) throws XAException {
+            verifyXid(xid);
+        }
+
+        @Override
+        public int prepare(Xid xid) throws XAException {
+            verifyXid(xid);
+            prepared = true;
+            return XA_OK;
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) throws XAException {
+            verifyXid(xid);
+            if (!prepared) {
+                throw new XAException(XAException.XAER_PROTO);
+            }
+            committed.incrementAndGet();
+        }
+
+        @Override
+        public void rollback(Xid xid) throws XAException {
+            verifyXid(xid);
+            rolledBack.incrementAndGet();
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        private void verifyXid(Xid xid) throws XAException {
+            if (this.xid == null || this.xid != xid) {
+                throw new XAException(XAException.XAER_NOTA);
+            }
+        }
+
+        @Override
+        public void commit() {
+            throw new IllegalStateException("XA resources are committed through the XA protocol");
+        }
+
+        @Override
+        public void rollback() {
+            throw new IllegalStateException("XA resources are rolled back through the XA protocol");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return this;
+        }
+    }
+}
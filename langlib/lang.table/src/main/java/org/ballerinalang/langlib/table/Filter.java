@@ -49,14 +49,15 @@ public class Filter {
         TableValueImpl newTable = new TableValueImpl((BTableType) newTableType);
         int size = tbl.size();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] keys = tbl.getKeys();
 
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                tbl.get(keys[index.incrementAndGet()]), true},
                         result -> {
                             if ((Boolean) result) {
-                                Object key = tbl.getKeys()[index.get()];
+                                Object key = keys[index.get()];
                                 Object value = tbl.get(key);
                                 newTable.put(key, value);
                             }
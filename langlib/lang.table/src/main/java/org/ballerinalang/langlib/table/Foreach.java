@@ -42,10 +42,11 @@ public class Foreach {
     public static void forEach(Strand strand, TableValueImpl tbl, FPValue<Object, Object> func) {
         int size = tbl.size();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] keys = tbl.getKeys();
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                tbl.get(keys[index.incrementAndGet()]), true},
                         result -> {
                         }, () -> null);
     }
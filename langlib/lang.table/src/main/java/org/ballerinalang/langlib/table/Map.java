@@ -53,12 +53,13 @@ public class Map {
         TableValueImpl newTable = new TableValueImpl(newTableType);
         int size = tbl.size();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] keys = tbl.getKeys();
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                tbl.get(keys[index.incrementAndGet()]), true},
                         result -> newTable
-                                .put(tbl.getKeys()[index.get()], result),
+                                .put(keys[index.get()], result),
                         () -> newTable);
         return newTable;
     }
@@ -45,13 +45,14 @@ import java.util.concurrent.atomic.AtomicReference;
 public class Reduce {
 
     public static Object reduce(Strand strand, TableValueImpl tbl, FPValue<Object, Object> func, Object initial) {
-        int size = tbl.values().size();
+        int size = tbl.size();
         AtomicReference<Object> accum = new AtomicReference<>(initial);
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] keys = tbl.getKeys();
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
                         () -> new Object[]{strand, accum.get(), true,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                                tbl.get(keys[index.incrementAndGet()]), true},
                         accum::set, accum::get);
         return accum.get();
     }
@@ -481,4 +481,9 @@ public class LangLibArrayTest {
     public void testShiftOperation() {
         BRunUtil.invoke(compileResult, "testShiftOperation");
     }
+
+    @Test
+    public void testCloneAndUpdate() {
+        BRunUtil.invoke(compileResult, "testCloneAndUpdate");
+    }
 }
@@ -126,6 +126,18 @@ public class LangLibTableTest {
         Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
     }
 
+    @Test
+    public void testIteratorOfKeyLessTbl() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testIteratorOfKeyLessTbl");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testIteratorAfterRemoveAll() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testIteratorAfterRemoveAll");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
     @Test
     public void testTableToArray() {
         BValue[] returns = BRunUtil.invoke(compileResult, "tableToArray");
@@ -547,6 +547,30 @@ function testShiftOnTupleWithoutValuesForRestParameter() {
     assertValueEquality("shift() not supported on type 'null'", err.detail()?.message);
 }
 
+function testCloneAndUpdate() {
+    int[] ints = [1, 2, 3];
+    int[] intsClone = ints.clone();
+    ints[0] = 10;
+    intsClone.push(4);
+    assertValueEquality(<int[]> [10, 2, 3], ints);
+    assertValueEquality(<int[]> [1, 2, 3, 4], intsClone);
+
+    string[] strings = ["a", "b", "c"];
+    string[] stringsClone = strings.clone();
+    string removed = stringsClone.shift();
+    strings.unshift("z");
+    assertValueEquality("a", removed);
+    assertValueEquality(<string[]> ["z", "a", "b", "c"], strings);
+    assertValueEquality(<string[]> ["b", "c"], stringsClone);
+
+    float[] floats = [1.5, 2.5];
+    float[] floatsClone = floats.clone();
+    floatsClone.setLength(1);
+    floats[1] = 3.5;
+    assertValueEquality(<float[]> [1.5, 3.5], floats);
+    assertValueEquality(<float[]> [1.5], floatsClone);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
@@ -356,3 +356,50 @@ function testAddWithKeyLessTbl() returns boolean {
     testPassed = testPassed && tableToList[2] == customer;
     return testPassed;
 }
+
+function testIteratorOfKeyLessTbl() returns boolean {
+    CustomerKeyLessTable custTbl = table [
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 5, firstName: "Gimantha", lastName: "Bandara" }
+    ];
+    Customer customer = { id: 100, firstName: "Chiran", lastName: "Fernando" };
+    custTbl.add(customer);
+    return getCustomerIds(custTbl) == [1, 5, 100];
+}
+
+function testIteratorAfterRemoveAll() returns boolean {
+    PersonalTable tbl = table key(name) [{ name: "Chiran", age: 33 },
+    { name: "Mohan", age: 37 },
+    { name: "Gima", age: 38 }];
+    tbl.removeAll();
+    Person person = { name: "Granier", age: 34 };
+    tbl.put(person);
+
+    string[] names = [];
+    var itr = tbl.iterator();
+    var value = itr.next();
+    while (value is PersonValue) {
+        names.push(value.value.name);
+        value = itr.next();
+    }
+
+    CustomerKeyLessTable custTbl = table [
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 5, firstName: "Gimantha", lastName: "Bandara" }
+    ];
+    custTbl.removeAll();
+    Customer customer = { id: 100, firstName: "Chiran", lastName: "Fernando" };
+    custTbl.add(customer);
+    return names == ["Granier"] && getCustomerIds(custTbl) == [100];
+}
+
+function getCustomerIds(CustomerKeyLessTable custTbl) returns int[] {
+    int[] ids = [];
+    var itr = custTbl.iterator();
+    var value = itr.next();
+    while (value is record {| Customer value; |}) {
+        ids.push(value.value.id);
+        value = itr.next();
+    }
+    return ids;
+}
@@ -14,13 +14,15 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/task;
 import ballerina/time;
 
 # Represents configurations for the `cache:Cache` object.
 #
 # + capacity - Maximum number of entries allowed in the cache
-# + evictionPolicy - The policy, which defines the cache eviction algorithm
+# + evictionPolicy - The policy, which defines the cache eviction algorithm. If it is not set, the entries are kept in
+#                    a built-in concurrent cache with LRU eviction, which does not serialize the cache operations
 # + evictionFactor - The factor by which the entries will be evicted once the cache is full
 # + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
@@ -28,7 +30,7 @@ import ballerina/time;
 # + cleanupIntervalInSeconds - Interval of the timer task, which will clean up the cache
 public type CacheConfig record {|
     int capacity = 100;
-    AbstractEvictionPolicy evictionPolicy = new LruEvictionPolicy();
+    AbstractEvictionPolicy evictionPolicy?;
     float evictionFactor = 0.25;
     int defaultMaxAgeInSeconds = -1;
     int cleanupIntervalInSeconds?;
@@ -64,7 +66,7 @@ public type Cache object {
     *AbstractCache;
 
     private int capacity;
-    private AbstractEvictionPolicy evictionPolicy;
+    private AbstractEvictionPolicy? evictionPolicy;
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private map<Node> entries = {};
@@ -75,7 +77,8 @@ public type Cache object {
     # + cacheConfig - Configurations for the `cache:Cache` object
     public function __init(CacheConfig cacheConfig = {}) {
         self.capacity = cacheConfig.capacity;
-        self.evictionPolicy = cacheConfig.evictionPolicy;
+        AbstractEvictionPolicy? evictionPolicy = cacheConfig?.evictionPolicy;
+        self.evictionPolicy = evictionPolicy;
         self.evictionFactor = cacheConfig.evictionFactor;
         self.defaultMaxAgeInSeconds = cacheConfig.defaultMaxAgeInSeconds;
 
@@ -98,6 +101,12 @@ public type Cache object {
             tail: ()
         };
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
+        if (evictionPolicy is ()) {
+            externInit(self, self.capacity, self.evictionFactor,
+                       cleanupIntervalInSeconds is int ? cleanupIntervalInSeconds : -1);
+            return;
+        }
+
         if (cleanupIntervalInSeconds is int) {
             task:TimerConfiguration timerConfiguration = {
                 intervalInMillis: cleanupIntervalInSeconds,
@@ -105,7 +114,7 @@ public type Cache object {
             };
             task:Scheduler cleanupScheduler = new(timerConfiguration);
             task:SchedulerError? result = cleanupScheduler.attach(cleanupService, self.entries, self.list,
-                                                                  self.evictionPolicy);
+                                                                  evictionPolicy);
             if (result is task:SchedulerError) {
                 panic prepareError("Failed to create the cache cleanup task.", result);
             }
@@ -125,13 +134,21 @@ public type Cache object {
     #                     valid forever.
     # + return - `()` if successfully added to the cache or `Error` if a `()` value is inserted to the cache.
     public function put(string key, any value, int maxAgeInSeconds = -1) returns Error? {
+        if (value is ()) {
+            return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
+        }
+
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is ()) {
+            int maxAge = maxAgeInSeconds > 0 ? maxAgeInSeconds : self.defaultMaxAgeInSeconds;
+            externPut(self, java:fromString(key), value, maxAge);
+            return;
+        }
+
         lock {
-            if (value is ()) {
-                return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
-            }
             // If the current cache is full (i.e. size = capacity), evict cache.
             if (self.size() == self.capacity) {
-                evict(self.entries, self.list, self.evictionPolicy, self.capacity, self.evictionFactor);
+                evict(self.entries, self.list, evictionPolicy, self.capacity, self.evictionFactor);
             }
 
             // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
@@ -154,9 +171,9 @@ public type Cache object {
 
             if (self.hasKey(key)) {
                 Node oldNode = self.entries.get(key);
-                self.evictionPolicy.replace(self.list, newNode, oldNode);
+                evictionPolicy.replace(self.list, newNode, oldNode);
             } else {
-                self.evictionPolicy.put(self.list, newNode);
+                evictionPolicy.put(self.list, newNode);
             }
             self.entries[key] = newNode;
         }
@@ -168,6 +185,15 @@ public type Cache object {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is ()) {
+            any value = externGet(self, java:fromString(key));
+            if (value is ()) {
+                return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+            }
+            return value;
+        }
+
         lock {
             if (!self.hasKey(key)) {
                 return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
@@ -180,11 +206,11 @@ public type Cache object {
             // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
             // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
             if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-                self.evictionPolicy.remove(self.list, node);
+                evictionPolicy.remove(self.list, node);
                 return removeEntry(self.entries, key);
             }
 
-            self.evictionPolicy.get(self.list, node);
+            evictionPolicy.get(self.list, node);
             return entry.data;
         }
     }
@@ -195,13 +221,21 @@ public type Cache object {
     # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
     #            cache or if any error occurred while discarding the value from the cache.
     public function invalidate(string key) returns Error? {
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is ()) {
+            if (!externInvalidate(self, java:fromString(key))) {
+                return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+            }
+            return;
+        }
+
         lock {
             if (!self.hasKey(key)) {
                 return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
             }
 
             Node node = self.entries.get(key);
-            self.evictionPolicy.remove(self.list, node);
+            evictionPolicy.remove(self.list, node);
             return removeEntry(self.entries, key);
         }
     }
@@ -211,8 +245,14 @@ public type Cache object {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is ()) {
+            externInvalidateAll(self);
+            return;
+        }
+
         lock {
-            self.evictionPolicy.clear(self.list);
+            evictionPolicy.clear(self.list);
             return removeAllEntries(self.entries);
         }
     }
@@ -223,6 +263,9 @@ public type Cache object {
     # + return - `true` if a cached value is available for the provided key or `false` if there is no cached value
     #            associated for the given key
     public function hasKey(string key) returns boolean {
+        if (self.evictionPolicy is ()) {
+            return externHasKey(self, java:fromString(key));
+        }
         return self.entries.hasKey(key);
     }
 
@@ -230,6 +273,9 @@ public type Cache object {
     #
     # + return - Array of all the keys from the cache
     public function keys() returns string[] {
+        if (self.evictionPolicy is ()) {
+            return externKeys(self);
+        }
         return self.entries.keys();
     }
 
@@ -237,6 +283,9 @@ public type Cache object {
     #
     # + return - The size of the cache
     public function size() returns int {
+        if (self.evictionPolicy is ()) {
+            return externSize(self);
+        }
         return self.entries.length();
     }
 
@@ -293,3 +342,35 @@ function removeAllEntries(map<Node> entries) returns Error? {
         return prepareErrorWithDebugLog("Error while removing all the entries from the map.", result);
     }
 }
+
+function externInit(Cache cache, int capacity, float evictionFactor, int cleanupIntervalInSeconds) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externPut(Cache cache, handle key, any value, int maxAgeInSeconds) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externGet(Cache cache, handle key) returns any = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externInvalidate(Cache cache, handle key) returns boolean = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externInvalidateAll(Cache cache) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externHasKey(Cache cache, handle key) returns boolean = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externKeys(Cache cache) returns string[] = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
+
+function externSize(Cache cache) returns int = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.FunctionUtils"
+} external;
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.Counter;
+
+/**
+ * Records the hits, misses and evictions of the caches when metrics are enabled.
+ *
+ * @since 2.0.0
+ */
+class CacheMetrics {
+
+    private static volatile CacheMetrics instance;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private CacheMetrics() {
+        this.hits = Counter.builder("ballerina_cache_hits_total")
+                .description("Number of cache lookups which found a value").register();
+        this.misses = Counter.builder("ballerina_cache_misses_total")
+                .description("Number of cache lookups which did not find a value").register();
+        this.evictions = Counter.builder("ballerina_cache_evictions_total")
+                .description("Number of entries evicted due to the capacity of the cache").register();
+    }
+
+    private static CacheMetrics getInstance() {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return null;
+        }
+        if (instance == null) {
+            synchronized (CacheMetrics.class) {
+                if (instance == null) {
+                    instance = new CacheMetrics();
+                }
+            }
+        }
+        return instance;
+    }
+
+    static void recordHit() {
+        CacheMetrics metrics = getInstance();
+        if (metrics != null) {
+            metrics.hits.increment();
+        }
+    }
+
+    static void recordMiss() {
+        CacheMetrics metrics = getInstance();
+        if (metrics != null) {
+            metrics.misses.increment();
+        }
+    }
+
+    static void recordEvictions(int count) {
+        CacheMetrics metrics = getInstance();
+        if (metrics != null && count > 0) {
+            metrics.evictions.increment(count);
+        }
+    }
+}
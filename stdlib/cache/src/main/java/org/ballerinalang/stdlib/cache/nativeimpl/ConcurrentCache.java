@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent LRU cache engine behind the `cache:Cache` object.
+ * <p>
+ * Entries are kept in a {@link ConcurrentHashMap}, so reads do not take any lock. The LRU order and the expiry timer
+ * wheel are guarded by a single eviction lock which is only taken by writes. Reads record the accessed entries in a
+ * buffer, which is applied to the LRU order by the next write or by a read which manages to get the lock without
+ * waiting.
+ *
+ * @since 2.0.0
+ */
+public class ConcurrentCache {
+
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+    private static final int READ_BUFFER_MAX_SIZE = 1024;
+    private static final long NO_EXPIRY = -1;
+
+    private final ConcurrentHashMap<String, Node> entries = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int evictionCount;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // most recently used entry is next to the head and the least recently used one is previous to the head
+    private final Node lruHead = new Node(null, null, NO_EXPIRY, 0);
+    private final TimerWheel timerWheel = new TimerWheel();
+    private long insertionCount = 0;
+
+    private final Queue<Node> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readBufferSize = new AtomicInteger();
+
+    ConcurrentCache(int capacity, double evictionFactor) {
+        this.capacity = capacity;
+        // rounded as the `<int>` conversion of the eviction count in cache.bal
+        this.evictionCount = Math.max(1, (int) Math.rint(capacity * evictionFactor));
+        this.lruHead.prev = lruHead;
+        this.lruHead.next = lruHead;
+    }
+
+    /**
+     * Adds or replaces the value of the given key.
+     *
+     * @param key             key of the value
+     * @param value           value to be cached
+     * @param maxAgeInSeconds time in seconds during which the value is valid, or -1 if the value never expires
+     */
+    void put(String key, Object value, long maxAgeInSeconds) {
+        long now = System.nanoTime();
+        long expTime = maxAgeInSeconds > 0 ? now + TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : NO_EXPIRY;
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            expireEntries(now);
+
+            Node node = entries.get(key);
+            if (node != null) {
+                // replacing a value keeps the position of the key in the key order
+                timerWheel.unschedule(node);
+                node.value = value;
+                node.expTime = expTime;
+                timerWheel.schedule(node);
+                moveToFront(node);
+                return;
+            }
+
+            if (entries.size() >= capacity) {
+                evict();
+            }
+            node = new Node(key, value, expTime, insertionCount++);
+            entries.put(key, node);
+            addToFront(node);
+            timerWheel.schedule(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key key of the value
+     * @return the value or null if the key is not in the cache or the value is expired
+     */
+    Object get(String key) {
+        Node node = entries.get(key);
+        if (node == null) {
+            CacheMetrics.recordMiss();
+            return null;
+        }
+
+        if (node.isExpired(System.nanoTime())) {
+            expire(node);
+            CacheMetrics.recordMiss();
+            return null;
+        }
+
+        recordAccess(node);
+        CacheMetrics.recordHit();
+        return node.value;
+    }
+
+    /**
+     * Removes the given key from the cache.
+     *
+     * @param key key to be removed
+     * @return true if the key was in the cache
+     */
+    boolean invalidate(String key) {
+        evictionLock.lock();
+        try {
+            Node node = entries.remove(key);
+            if (node == null) {
+                return false;
+            }
+            unlink(node);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (Node node : entries.values()) {
+                unlink(node);
+            }
+            entries.clear();
+            readBuffer.clear();
+            readBufferSize.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    boolean hasKey(String key) {
+        Node node = entries.get(key);
+        return node != null && !node.isExpired(System.nanoTime());
+    }
+
+    /**
+     * @return keys of the cache in the order they were added
+     */
+    String[] keys() {
+        long now = System.nanoTime();
+        List<Node> nodes = new ArrayList<>(entries.size());
+        for (Node node : entries.values()) {
+            if (!node.isExpired(now)) {
+                nodes.add(node);
+            }
+        }
+        nodes.sort(Comparator.comparingLong(node -> node.insertionIndex));
+
+        String[] keys = new String[nodes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = nodes.get(i).key;
+        }
+        return keys;
+    }
+
+    /**
+     * @return number of the entries which are not expired
+     */
+    int size() {
+        evictionLock.lock();
+        try {
+            // expired entries are not counted, as they are not visible through hasKey and keys either
+            expireEntries(System.nanoTime());
+            return entries.size();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the expired entries. Called periodically when a cleanup interval is configured for the cache.
+     */
+    void cleanUp() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            expireEntries(System.nanoTime());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void recordAccess(Node node) {
+        // accesses are dropped when the buffer is full, which only affects the accuracy of the LRU order
+        if (readBufferSize.get() < READ_BUFFER_MAX_SIZE) {
+            readBuffer.offer(node);
+            if (readBufferSize.incrementAndGet() < READ_BUFFER_DRAIN_THRESHOLD) {
+                return;
+            }
+        }
+
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        Node node;
+        while ((node = readBuffer.poll()) != null) {
+            readBufferSize.decrementAndGet();
+            // entry may have been removed after it was read
+            if (node.next != null) {
+                moveToFront(node);
+            }
+        }
+    }
+
+    private void expire(Node node) {
+        evictionLock.lock();
+        try {
+            // the key may have been replaced after it was read, or the value may have been refreshed in place
+            if (node.isExpired(System.nanoTime()) && entries.remove(node.key, node)) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void expireEntries(long now) {
+        timerWheel.advance(now, node -> {
+            entries.remove(node.key, node);
+            unlink(node);
+        });
+    }
+
+    private void evict() {
+        int evicted = 0;
+        while (evicted < evictionCount && lruHead.prev != lruHead) {
+            Node node = lruHead.prev;
+            entries.remove(node.key, node);
+            unlink(node);
+            evicted++;
+        }
+        CacheMetrics.recordEvictions(evicted);
+    }
+
+    private void addToFront(Node node) {
+        node.prev = lruHead;
+        node.next = lruHead.next;
+        lruHead.next.prev = node;
+        lruHead.next = node;
+    }
+
+    private void moveToFront(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        addToFront(node);
+    }
+
+    private void unlink(Node node) {
+        if (node.next != null) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+        timerWheel.unschedule(node);
+    }
+
+    /**
+     * Cache entry, which is also a node of the LRU list and of a timer wheel bucket. Links are guarded by the
+     * eviction lock.
+     */
+    static class Node {
+        final String key;
+        final long insertionIndex;
+        volatile Object value;
+        volatile long expTime;
+
+        Node prev;
+        Node next;
+        Node wheelPrev;
+        Node wheelNext;
+
+        Node(String key, Object value, long expTime, long insertionIndex) {
+            this.key = key;
+            this.value = value;
+            this.expTime = expTime;
+            this.insertionIndex = insertionIndex;
+        }
+
+        boolean isExpired(long now) {
+            long expTime = this.expTime;
+            return expTime != NO_EXPIRY && expTime - now < 0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extern functions of the `cache:Cache` object, backed by a {@link ConcurrentCache}.
+ *
+ * @since 2.0.0
+ */
+public class FunctionUtils {
+
+    private static final String CACHE_ENGINE = "CACHE_ENGINE";
+
+    private static final ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "ballerina-cache-cleanup");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Extern function to create the cache engine of a cache.
+     *
+     * @param cache                    cache instance
+     * @param capacity                 maximum number of entries of the cache
+     * @param evictionFactor           factor of the capacity evicted when the cache is full
+     * @param cleanupIntervalInSeconds interval of removing the expired entries, or -1 to only remove them on access
+     */
+    public static void externInit(ObjectValue cache, long capacity, double evictionFactor,
+                                  long cleanupIntervalInSeconds) {
+        ConcurrentCache engine = new ConcurrentCache((int) capacity, evictionFactor);
+        cache.addNativeData(CACHE_ENGINE, engine);
+        if (cleanupIntervalInSeconds > 0) {
+            scheduleCleanUp(engine, cleanupIntervalInSeconds);
+        }
+    }
+
+    static void scheduleCleanUp(ConcurrentCache engine, long intervalInSeconds) {
+        new CleanupTask(engine).schedule(intervalInSeconds);
+    }
+
+    /**
+     * Extern function to add a value to the cache.
+     *
+     * @param cache           cache instance
+     * @param key             key of the value
+     * @param value           value to be cached
+     * @param maxAgeInSeconds time in seconds during which the value is valid, or -1 if it is valid forever
+     */
+    public static void externPut(ObjectValue cache, String key, Object value, long maxAgeInSeconds) {
+        getEngine(cache).put(key, value, maxAgeInSeconds);
+    }
+
+    /**
+     * Extern function to get a value from the cache.
+     *
+     * @param cache cache instance
+     * @param key   key of the value
+     * @return the cached value, or nil if there is no valid value for the key
+     */
+    public static Object externGet(ObjectValue cache, String key) {
+        return getEngine(cache).get(key);
+    }
+
+    /**
+     * Extern function to remove a value from the cache.
+     *
+     * @param cache cache instance
+     * @param key   key of the value
+     * @return true if the key was in the cache, false otherwise
+     */
+    public static boolean externInvalidate(ObjectValue cache, String key) {
+        return getEngine(cache).invalidate(key);
+    }
+
+    public static void externInvalidateAll(ObjectValue cache) {
+        getEngine(cache).invalidateAll();
+    }
+
+    public static boolean externHasKey(ObjectValue cache, String key) {
+        return getEngine(cache).hasKey(key);
+    }
+
+    public static ArrayValue externKeys(ObjectValue cache) {
+        return (ArrayValue) BValueCreator.createArrayValue(getEngine(cache).keys());
+    }
+
+    public static long externSize(ObjectValue cache) {
+        return getEngine(cache).size();
+    }
+
+    private static ConcurrentCache getEngine(ObjectValue cache) {
+        return (ConcurrentCache) cache.getNativeData(CACHE_ENGINE);
+    }
+
+    /**
+     * Periodically removes the expired entries of a cache. The task does not keep the cache reachable and cancels
+     * itself once the cache is garbage collected.
+     */
+    private static class CleanupTask implements Runnable {
+
+        private final WeakReference<ConcurrentCache> engine;
+        private volatile ScheduledFuture<?> future;
+
+        CleanupTask(ConcurrentCache engine) {
+            this.engine = new WeakReference<>(engine);
+        }
+
+        void schedule(long intervalInSeconds) {
+            future = cleanupExecutor.scheduleWithFixedDelay(this, intervalInSeconds, intervalInSeconds,
+                                                             TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void run() {
+            ConcurrentCache cache = engine.get();
+            if (cache == null) {
+                future.cancel(false);
+                return;
+            }
+            cache.cleanUp();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.ConcurrentCache.Node;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel of the cache entries which have an expiry time. Each bucket holds the entries expiring within a
+ * one second tick, hashed by the tick. Entries expiring more than a full rotation later share the bucket with the
+ * earlier ones and are skipped until their tick is reached. Not thread safe, guarded by the eviction lock of the
+ * owning {@link ConcurrentCache}.
+ *
+ * @since 2.0.0
+ */
+class TimerWheel {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Node[] buckets = new Node[WHEEL_SIZE];
+    private long currentTick = Long.MIN_VALUE;
+
+    TimerWheel() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            Node sentinel = new Node(null, null, -1, 0);
+            sentinel.wheelPrev = sentinel;
+            sentinel.wheelNext = sentinel;
+            buckets[i] = sentinel;
+        }
+    }
+
+    void schedule(Node node) {
+        if (node.expTime == -1) {
+            return;
+        }
+
+        Node sentinel = buckets[(int) (tickOf(node.expTime) & MASK)];
+        node.wheelPrev = sentinel.wheelPrev;
+        node.wheelNext = sentinel;
+        sentinel.wheelPrev.wheelNext = node;
+        sentinel.wheelPrev = node;
+    }
+
+    void unschedule(Node node) {
+        if (node.wheelNext == null) {
+            return;
+        }
+
+        node.wheelPrev.wheelNext = node.wheelNext;
+        node.wheelNext.wheelPrev = node.wheelPrev;
+        node.wheelPrev = null;
+        node.wheelNext = null;
+    }
+
+    /**
+     * Passes the entries expired by the given time to the given consumer, which is expected to unschedule them.
+     *
+     * @param now     current time in nanoseconds
+     * @param expirer consumer which removes the expired entries
+     */
+    void advance(long now, Consumer<Node> expirer) {
+        long nowTick = tickOf(now);
+        long fromTick = currentTick == Long.MIN_VALUE ? nowTick : currentTick;
+        // every bucket is visited at most once, even if more than a full rotation has elapsed
+        long toTick = Math.min(nowTick, fromTick + MASK);
+        for (long tick = fromTick; tick <= toTick; tick++) {
+            expireBucket(buckets[(int) (tick & MASK)], now, expirer);
+        }
+        // current tick is visited again by the next advance, as the entries expiring later in it are not yet expired
+        currentTick = nowTick;
+    }
+
+    private void expireBucket(Node sentinel, long now, Consumer<Node> expirer) {
+        Node node = sentinel.wheelNext;
+        while (node != sentinel) {
+            Node next = node.wheelNext;
+            if (node.isExpired(now)) {
+                expirer.accept(node);
+            }
+            node = next;
+        }
+    }
+
+    private static long tickOf(long nanos) {
+        return Math.floorDiv(nanos, TICK_NANOS);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Test class for the cache engine behind the `cache:Cache` object.
+ */
+public class ConcurrentCacheTest {
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        ConcurrentCache cache = new ConcurrentCache(10, 0.25);
+        cache.put("expiring", "value", 1);
+        cache.put("permanent", "value", -1);
+        Assert.assertEquals(cache.get("expiring"), "value");
+        Assert.assertEquals(cache.size(), 2);
+
+        Thread.sleep(1100);
+        // expired entries are neither visible nor counted
+        Assert.assertFalse(cache.hasKey("expiring"));
+        Assert.assertEquals(cache.keys(), new String[]{"permanent"});
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertNull(cache.get("expiring"));
+        Assert.assertEquals(cache.get("permanent"), "value");
+    }
+
+    @Test
+    public void testReplaceExpiredEntry() throws InterruptedException {
+        ConcurrentCache cache = new ConcurrentCache(10, 0.25);
+        cache.put("key", "oldValue", 1);
+        Thread.sleep(1100);
+        cache.put("key", "newValue", -1);
+        Assert.assertEquals(cache.get("key"), "newValue");
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testCleanUp() throws InterruptedException {
+        ConcurrentCache cache = new ConcurrentCache(10, 0.25);
+        Object value = new Object();
+        WeakReference<Object> valueReference = new WeakReference<>(value);
+        cache.put("expiring", value, 1);
+        value = null;
+        FunctionUtils.scheduleCleanUp(cache, 1);
+
+        // the cleanup task releases the expired value, without the cache being accessed
+        for (int i = 0; i < 50 && valueReference.get() != null; i++) {
+            Thread.sleep(100);
+            System.gc();
+        }
+        Assert.assertNull(valueReference.get());
+    }
+
+    @Test
+    public void testEvictionCount() {
+        // eviction count is rounded as in cache.bal, to 3 entries
+        ConcurrentCache cache = new ConcurrentCache(10, 0.27);
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, i, -1);
+        }
+        Assert.assertEquals(cache.get("key0"), 0);
+        cache.put("key10", 10, -1);
+        Assert.assertEquals(cache.size(), 8);
+        // least recently used entries are evicted
+        Assert.assertEquals(cache.keys(), new String[]{"key0", "key4", "key5", "key6", "key7", "key8", "key9",
+                "key10"});
+
+        // 2.5 entries are rounded to 2 as in cache.bal
+        cache = new ConcurrentCache(10, 0.25);
+        for (int i = 0; i < 11; i++) {
+            cache.put("key" + i, i, -1);
+        }
+        Assert.assertEquals(cache.size(), 9);
+        Assert.assertFalse(cache.hasKey("key1"));
+        Assert.assertTrue(cache.hasKey("key2"));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        int capacity = 100;
+        ConcurrentCache cache = new ConcurrentCache(capacity, 0.25);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(accessCache(cache)));
+            }
+            for (Future<Void> result : results) {
+                // rethrows the failures of the threads
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String[] keys = cache.keys();
+        Assert.assertTrue(keys.length <= capacity);
+        Assert.assertEquals(cache.size(), keys.length);
+        Assert.assertEquals(Arrays.stream(keys).distinct().count(), keys.length);
+        for (String key : keys) {
+            Assert.assertTrue(cache.hasKey(key));
+            Assert.assertEquals(cache.get(key), key);
+        }
+    }
+
+    private Callable<Void> accessCache(ConcurrentCache cache) {
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < 100000; i++) {
+                String key = "key" + random.nextInt(200);
+                int operation = random.nextInt(10);
+                if (operation < 3) {
+                    cache.put(key, key, -1);
+                } else if (operation < 9) {
+                    Object value = cache.get(key);
+                    if (value != null) {
+                        Assert.assertEquals(value, key);
+                    }
+                } else {
+                    cache.invalidate(key);
+                }
+            }
+            return null;
+        };
+    }
+}
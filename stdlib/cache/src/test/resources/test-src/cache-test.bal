@@ -204,6 +204,29 @@ function testCacheEvictionWithCapacity2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithEvictionPolicy() returns [string[], int] {
+    cache:LruEvictionPolicy lruEvictionPolicy = new;
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: lruEvictionPolicy,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    any|cache:Error x = cache.get("A");
+    checkpanic cache.put("K", "11");
+    return [cache.keys(), cache.size()];
+}
+
 function testCacheEvictionWithTimer1() returns [string[], int] {
     int cleanupIntervalInSeconds = 2;
     cache:CacheConfig config = {
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.Arrays;
+
+/**
+ * Trie of the base paths of the services on a host, which finds the most specific base path of a request path in a
+ * single pass over the request path, without allocating.
+ * <p>
+ * A base path matches a request path which is the same as the base path ignoring case, or which starts with the base
+ * path followed by a "/". The longest base path which matches is the most specific one. Base paths are added while
+ * requests are dispatched, hence the nodes of the trie are updated by replacing their content as a whole.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private static final char PATH_SEPARATOR = '/';
+    private static final String[] NO_BASE_PATHS = new String[0];
+
+    private final Node root = new Node();
+
+    /**
+     * Add a base path to the trie.
+     *
+     * @param basePath base path of a service
+     */
+    public synchronized void add(String basePath) {
+        Node node = root;
+        for (int i = 0; i < basePath.length(); i++) {
+            node = node.addChild(fold(basePath.charAt(i)));
+        }
+        String[] basePaths = Arrays.copyOf(node.basePaths, node.basePaths.length + 1);
+        basePaths[basePaths.length - 1] = basePath;
+        node.basePaths = basePaths;
+    }
+
+    /**
+     * Remove a base path from the trie.
+     *
+     * @param basePath base path of a service
+     */
+    public synchronized void remove(String basePath) {
+        Node node = root;
+        for (int i = 0; i < basePath.length() && node != null; i++) {
+            node = node.getChild(fold(basePath.charAt(i)));
+        }
+        if (node == null) {
+            return;
+        }
+        String[] basePaths = node.basePaths;
+        for (int i = 0; i < basePaths.length; i++) {
+            if (basePaths[i].equals(basePath)) {
+                String[] remaining = new String[basePaths.length - 1];
+                System.arraycopy(basePaths, 0, remaining, 0, i);
+                System.arraycopy(basePaths, i + 1, remaining, i, remaining.length - i);
+                node.basePaths = remaining.length == 0 ? NO_BASE_PATHS : remaining;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Find the most specific base path which matches the given request path.
+     *
+     * @param requestURIPath path of the request
+     * @return the most specific base path, or null if no base path matches
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath) {
+        String mostSpecificBasePath = null;
+        Node node = root;
+        for (int i = 0; i < requestURIPath.length(); i++) {
+            char character = requestURIPath.charAt(i);
+            if (character == PATH_SEPARATOR) {
+                // base paths ending here are a prefix of the path ignoring case, while they should match the case
+                for (String basePath : node.basePaths) {
+                    if (requestURIPath.startsWith(basePath)) {
+                        mostSpecificBasePath = basePath;
+                        break;
+                    }
+                }
+            }
+            node = node.getChild(fold(character));
+            if (node == null) {
+                return mostSpecificBasePath;
+            }
+        }
+        // the first registered of the base paths which only differ by case is matched
+        String[] basePaths = node.basePaths;
+        return basePaths.length > 0 ? basePaths[0] : mostSpecificBasePath;
+    }
+
+    private static char fold(char character) {
+        return Character.toLowerCase(character);
+    }
+
+    /**
+     * Node of the trie, reached through the characters of the base paths ignoring case.
+     */
+    private static class Node {
+
+        // labels are sorted and are replaced with the nodes at once
+        private volatile Children children = Children.NONE;
+        // base paths ending at this node, which only differ by case, in the order they are added
+        private volatile String[] basePaths = NO_BASE_PATHS;
+
+        Node getChild(char label) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.labels, label);
+            return index < 0 ? null : current.nodes[index];
+        }
+
+        Node addChild(char label) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.labels, label);
+            if (index >= 0) {
+                return current.nodes[index];
+            }
+            int insertionPoint = -index - 1;
+            int count = current.labels.length;
+            char[] labels = new char[count + 1];
+            Node[] nodes = new Node[count + 1];
+            System.arraycopy(current.labels, 0, labels, 0, insertionPoint);
+            System.arraycopy(current.nodes, 0, nodes, 0, insertionPoint);
+            System.arraycopy(current.labels, insertionPoint, labels, insertionPoint + 1, count - insertionPoint);
+            System.arraycopy(current.nodes, insertionPoint, nodes, insertionPoint + 1, count - insertionPoint);
+            Node child = new Node();
+            labels[insertionPoint] = label;
+            nodes[insertionPoint] = child;
+            children = new Children(labels, nodes);
+            return child;
+        }
+    }
+
+    /**
+     * Children of a node, sorted by their labels.
+     */
+    private static class Children {
+
+        static final Children NONE = new Children(new char[0], new Node[0]);
+
+        final char[] labels;
+        final Node[] nodes;
+
+        Children(char[] labels, Node[] nodes) {
+            this.labels = labels;
+            this.nodes = nodes;
+        }
+    }
+}
@@ -32,7 +32,6 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
 
@@ -48,7 +47,7 @@ public class HTTPServicesRegistry {
 
     protected Map<String, ServicesMapHolder> servicesMapByHost = new ConcurrentHashMap<>();
     protected Map<String, HttpService> servicesByBasePath;
-    protected List<String> sortedServiceURIs;
+    protected BasePathTrie basePaths;
     private final WebSocketServicesRegistry webSocketServicesRegistry;
     private Scheduler scheduler;
 
@@ -87,13 +86,13 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Get sortedServiceURIs list for given host name.
+     * Get base paths trie for given host name.
      *
      * @param hostName of the service
-     * @return the sorted basePath list if exists else null
+     * @return the base paths trie if exists else null
      */
-    public List<String> getSortedServiceURIsByHost(String hostName) {
-        return servicesMapByHost.get(hostName).sortedServiceURIs;
+    public BasePathTrie getBasePathsByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePaths;
     }
 
     /**
@@ -108,11 +107,11 @@ public class HTTPServicesRegistry {
             String hostName = httpService.getHostName();
             if (servicesMapByHost.get(hostName) == null) {
                 servicesByBasePath = new ConcurrentHashMap<>();
-                sortedServiceURIs = new CopyOnWriteArrayList<>();
-                servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+                basePaths = new BasePathTrie();
+                servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, basePaths));
             } else {
                 servicesByBasePath = getServicesByHost(hostName);
-                sortedServiceURIs = getSortedServiceURIsByHost(hostName);
+                basePaths = getBasePathsByHost(hostName);
             }
 
             String basePath = httpService.getBasePath();
@@ -128,8 +127,7 @@ public class HTTPServicesRegistry {
             logger.info(errLog);
 
             //basePath will get cached after registering service
-            sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            basePaths.add(basePath);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -164,17 +162,10 @@ public class HTTPServicesRegistry {
     }
 
     public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+                                              BasePathTrie basePaths) {
+        String basePath = basePaths.findTheMostSpecificBasePath(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
         if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
@@ -191,15 +182,15 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds both serviceByBasePath map and Service basePath trie.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
-        private List<String> sortedServiceURIs;
+        private BasePathTrie basePaths;
 
-        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
+        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, BasePathTrie basePaths) {
             this.servicesByBasePath = servicesByBasePath;
-            this.sortedServiceURIs = sortedServiceURIs;
+            this.basePaths = basePaths;
         }
     }
 
@@ -217,19 +208,18 @@ public class HTTPServicesRegistry {
                 continue;
             }
             servicesByBasePath = getServicesByHost(hostName);
-            sortedServiceURIs = getSortedServiceURIsByHost(hostName);
+            basePaths = getBasePathsByHost(hostName);
 
             String basePath = httpService.getBasePath();
             if (!servicesByBasePath.containsKey(basePath)) {
                 continue;
             }
             servicesByBasePath.remove(basePath);
-            sortedServiceURIs.remove(basePath);
+            basePaths.remove(basePath);
             if (logger.isDebugEnabled()) {
                 logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(),
                                            basePath));
             }
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
         }
     }
 }
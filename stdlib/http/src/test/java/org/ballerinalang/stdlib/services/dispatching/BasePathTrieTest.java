@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for matching the base paths of services with {@link BasePathTrie}.
+ */
+public class BasePathTrieTest {
+
+    @Test(description = "Test matching the most specific base path")
+    public void testMostSpecificBasePath() {
+        BasePathTrie basePaths = new BasePathTrie();
+        basePaths.add("/hello");
+        basePaths.add("/hello/world");
+        basePaths.add("/helloWorld");
+
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello"), "/hello");
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello/"), "/hello");
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello/there"), "/hello");
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello/world/there"), "/hello/world");
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/helloWorld/there"), "/helloWorld");
+        Assert.assertNull(basePaths.findTheMostSpecificBasePath("/hellowor"));
+        Assert.assertNull(basePaths.findTheMostSpecificBasePath("/bye"));
+    }
+
+    @Test(description = "Test matching the case of base paths")
+    public void testBasePathCase() {
+        BasePathTrie basePaths = new BasePathTrie();
+        basePaths.add("/Hello");
+        basePaths.add("/hello/World");
+
+        // a request path which is the same as a base path is matched ignoring case
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/HELLO"), "/Hello");
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello/world"), "/hello/World");
+        // while a base path which is a prefix of the request path should match the case
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/Hello/World/there"), "/Hello");
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello/World/there"), "/hello/World");
+        Assert.assertNull(basePaths.findTheMostSpecificBasePath("/hello/there"));
+    }
+
+    @Test(description = "Test removing base paths")
+    public void testRemoveBasePath() {
+        BasePathTrie basePaths = new BasePathTrie();
+        basePaths.add("/hello");
+        basePaths.add("/hello/world");
+        basePaths.remove("/hello/world");
+        basePaths.remove("/bye");
+
+        Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/hello/world/there"), "/hello");
+        basePaths.remove("/hello");
+        Assert.assertNull(basePaths.findTheMostSpecificBasePath("/hello/world/there"));
+    }
+
+    @Test(description = "Test matching the base paths of a large number of services")
+    public void testManyBasePaths() {
+        BasePathTrie basePaths = new BasePathTrie();
+        for (int i = 0; i < 1000; i++) {
+            basePaths.add("/api/service" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(basePaths.findTheMostSpecificBasePath("/api/service" + i + "/resource"),
+                                "/api/service" + i);
+        }
+        Assert.assertNull(basePaths.findTheMostSpecificBasePath("/api/service1000/resource"));
+    }
+}
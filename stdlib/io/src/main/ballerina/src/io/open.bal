@@ -86,6 +86,63 @@ public function openReadableCsvFile(@untainted string path,
     return new ReadableCSVChannel(charChannel, fieldSeparator, skipHeaders);
 }
 
+# Reads the records of a CSV file in parallel as a stream. The file is split into chunks, which end at record
+# boundaries and are parsed by multiple threads ahead of the records being read.
+# ```ballerina
+# stream<string[], io:Error> records = check io:readCsvRecords(srcFileName, skipHeaders = 1);
+# ```
+#
+# + path - File path, which describes the location of the CSV
+# + fieldSeparator - CSV record separator (i.e., comma or tab)
+# + charset - Representation of the encoding characters in the file
+# + skipHeaders - Number of headers, which should be skipped
+# + ordered - Whether the records are read in the order of the file, or else as soon as their chunk is parsed
+# + return - The stream of the CSV records or else an `io:Error` if any error occurred
+public function readCsvRecords(@untainted string path,
+                               @untainted public Separator fieldSeparator = ",",
+                               @untainted public string charset = "UTF-8",
+                               @untainted public int skipHeaders = 0,
+                               public boolean ordered = true) returns @tainted stream<string[], Error>|Error {
+    string fs = fieldSeparator;
+    string fmt = DEFAULT;
+    if (fieldSeparator == TAB) {
+        fmt = "TDF";
+    } else if (fieldSeparator == COMMA) {
+        fmt = "CSV";
+    }
+    CsvRecordIterator iterator = new;
+    check initParallelRecordReader(iterator, java:fromString(path), java:fromString(fs),
+                                   java:fromString(CSV_RECORD_SEPARATOR), java:fromString(fmt),
+                                   java:fromString(charset), skipHeaders, ordered);
+    stream<string[], Error> records = new(iterator);
+    return records;
+}
+
+# Iterator of the records read by `io:readCsvRecords()`.
+type CsvRecordIterator object {
+    public function next() returns record {| string[] value; |}|Error? {
+        string[]|Error? result = nextParallelRecordExtern(self);
+        if (result is string[]) {
+            record {| string[] value; |} streamRecord = {value: result};
+            return streamRecord;
+        } else {
+            return result;
+        }
+    }
+};
+
+function initParallelRecordReader(CsvRecordIterator iterator, @untainted handle path, @untainted handle fs,
+            handle rs, handle fmt, @untainted handle charset, @untainted int skipHeaders, boolean ordered)
+            returns Error? = @java:Method {
+    name: "initParallelRecordReader",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
+function nextParallelRecordExtern(CsvRecordIterator iterator) returns @tainted string[]|Error? = @java:Method {
+    name: "nextParallelRecord",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
 # Retrieves a writable CSV channel from a given file path.
 # ```ballerina
 # io:WritableCSVChannel wCsvChannel = check io:openWritableCsvFile(srcFileName);
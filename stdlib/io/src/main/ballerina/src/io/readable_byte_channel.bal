@@ -35,6 +35,18 @@ public type ReadableByteChannel object {
         return byteReadExtern(self, nBytes);
     }
 
+# Transfers the remaining content of the channel to the given `WritableByteChannel`. Content of a file is
+# transferred to a file by the operating system, without reading it into memory.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + dst - The `WritableByteChannel` to which the content should be written
+# + return - Number of bytes transferred or else an `io:Error`
+    public function transferTo(WritableByteChannel dst) returns int|Error {
+        return byteTransferToExtern(self, dst);
+    }
+
 # Encodes a given `ReadableByteChannel` using the Base64 encoding scheme.
 # ```ballerina
 # ReadableByteChannel|Error encodedChannel = readableByteChannel.base64Encode();
@@ -71,6 +83,11 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteTransferToExtern(ReadableByteChannel byteChannel, WritableByteChannel dst) returns int|Error = @java:Method {
+    name: "transferTo",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
@@ -69,6 +69,21 @@ public type ReadableCharacterChannel object {
         return readXmlExtern(self);
     }
 
+# Reads the XML elements at the given depth of the XML document of the channel as a stream. Each element is only
+# read when it is requested from the stream, so that large documents can be processed without reading the whole
+# document into memory.
+# ```ballerina
+# stream<xml, io:Error> entries = readableCharChannel.readXmlElements(1);
+# ```
+#
+# + depth - Depth of the elements, where the root element is at depth 0
+# + return - The stream of XML elements
+    public function readXmlElements(@untainted int depth = 1) returns @tainted stream<xml, Error> {
+        XmlElementIterator iterator = new(self, depth);
+        stream<xml, Error> elements = new(iterator);
+        return elements;
+    }
+
 # Closes a given character channel.
 # ```ballerina
 # io:Error? err = readableCharChannel.close();
@@ -102,6 +117,39 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+# Iterator of the XML elements read by `ReadableCharacterChannel.readXmlElements()`.
+type XmlElementIterator object {
+    private Error? err;
+
+    function __init(ReadableCharacterChannel characterChannel, int depth) {
+        self.err = initXmlElementReader(self, characterChannel, depth);
+    }
+
+    public function next() returns record {| xml value; |}|Error? {
+        if (self.err is Error) {
+            return self.err;
+        }
+        xml|Error? result = nextXmlElementExtern(self);
+        if (result is xml) {
+            record {| xml value; |} streamRecord = {value: result};
+            return streamRecord;
+        } else {
+            return result;
+        }
+    }
+};
+
+function initXmlElementReader(XmlElementIterator iterator, ReadableCharacterChannel characterChannel,
+            @untainted int depth) returns Error? = @java:Method {
+    name: "initXmlElementReader",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
+function nextXmlElementExtern(XmlElementIterator iterator) returns @tainted xml|Error? = @java:Method {
+    name: "nextXmlElement",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function closeReadableCharacterChannel(ReadableCharacterChannel characterChannel) returns Error? = @java:Method {
     name: "close",
     class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
@@ -18,9 +18,12 @@
 package org.ballerinalang.stdlib.io.channels;
 
 import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -28,6 +31,10 @@ import java.nio.channels.WritableByteChannel;
  * <p>
  * Represents the channel to perform I/O operations on file.
  * </p>
+ * <p>
+ * Files which are opened for reading and are larger than {@link IOConstants#MIN_MAPPED_FILE_SIZE} are read through
+ * memory mapped regions, which copies the content directly from the OS cache to the buffer.
+ * </p>
  */
 public class FileIOChannel extends Channel {
 
@@ -36,11 +43,82 @@ public class FileIOChannel extends Channel {
      */
     private FileChannel channel;
 
+    /**
+     * Region of the file which is currently mapped for reading and the position of the file it starts from.
+     */
+    private MappedByteBuffer mappedRegion;
+    private long mappedRegionStart;
+
     public FileIOChannel(FileChannel channel) {
         super(channel);
         this.channel = channel;
     }
 
+    /**
+     * Reads bytes from the file, through a memory mapped region if the file is large.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        if (!isReadable() || !buffer.hasRemaining()) {
+            return super.read(buffer);
+        }
+        long position = channel.position();
+        if (!isMapped(position)) {
+            long size = channel.size();
+            // the end of the file is detected through the file channel
+            if (size < IOConstants.MIN_MAPPED_FILE_SIZE || position >= size) {
+                return super.read(buffer);
+            }
+            mappedRegion = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                                       Math.min(IOConstants.MAPPED_REGION_SIZE, size - position));
+            mappedRegionStart = position;
+        }
+        int offset = (int) (position - mappedRegionStart);
+        int count = Math.min(buffer.remaining(), mappedRegion.capacity() - offset);
+        ByteBuffer content = mappedRegion.duplicate();
+        content.position(offset);
+        content.limit(offset + count);
+        buffer.put(content);
+        // the position is kept in the file channel, as the file is transferred and streamed through it as well
+        channel.position(position + count);
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes from the current position to the end of the file.
+     *
+     * @return the number of bytes remaining in the file.
+     * @throws IOException during I/O error.
+     */
+    public long remainingBytes() throws IOException {
+        return Math.max(0, channel.size() - channel.position());
+    }
+
+    /**
+     * Transfer the content from the current position to the end of the file to the specified destination. The
+     * content is transferred by the OS where possible, without being copied to the application.
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+        long transferred = 0;
+        while (position + transferred < size) {
+            long count = channel.transferTo(position + transferred, size - position - transferred, dstChannel);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        channel.position(position + transferred);
+        return transferred;
+    }
+
     /**
      * Transfer file content to the specified destination.
      * <p>
@@ -64,4 +142,16 @@ public class FileIOChannel extends Channel {
     public boolean remaining() {
         return false;
     }
+
+    @Override
+    public void close() throws IOException {
+        // the mapped region is unmapped once it is garbage collected
+        mappedRegion = null;
+        super.close();
+    }
+
+    private boolean isMapped(long position) {
+        return mappedRegion != null && position >= mappedRegionStart &&
+                position < mappedRegionStart + mappedRegion.capacity();
+    }
 }
@@ -23,7 +23,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -51,15 +55,44 @@ public class DelimitedRecordChannel implements IOChannel {
     private String fieldSeparator;
 
     /**
-     * Once the record is being identified the remaining string would hold the remaining elements.
+     * Characters read from the channel which are not yet returned as records, from the start to the end position.
      */
-    private StringBuilder persistentCharSequence;
+    private char[] characters = new char[READ_CHARACTER_COUNT];
+    private int start = 0;
+    private int end = 0;
 
     /**
-     * A rough character count which will contain a record. This will be resized dynamically if the length of the
-     * record is long.
+     * Position up to which the characters have been scanned for the record separator, and whether that position is
+     * within a quoted field. This allows the scan to resume from where it stopped once more characters are read.
      */
-    private int recordCharacterCount = 100;
+    private int scanPosition = 0;
+    private boolean quoted = false;
+
+    /**
+     * The end position of the record identified by the last scan and the position after its record separator.
+     */
+    private int recordEnd;
+    private int nextRecordStart;
+
+    /**
+     * Separators used for reading. A separator which is not a literal is matched through its compiled pattern.
+     */
+    private String recordSeparatorForReading;
+    private Pattern recordSeparatorPattern;
+    private String fieldSeparatorForReading;
+    private Pattern fieldSeparatorPattern;
+
+    /**
+     * Specifies whether the records are separated by lines, and whether the fields could be quoted as specified by
+     * RFC 4180.
+     */
+    private boolean lineSeparated;
+    private boolean quotedFields;
+
+    /**
+     * Holds the fields of the record being read, reused across the records.
+     */
+    private final List<String> recordFields = new ArrayList<>();
 
     /**
      * Read/Writes characters.
@@ -71,7 +104,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * Specified whether there're any remaining records left to be read from the channel.
      * </p>
      * <p>
-     * This will be false if there're no characters remaining in the persistentCharSequence and the the channel has
+     * This will be false if there're no characters remaining to be returned as records and the the channel has
      * reached EoF
      * </p>
      */
@@ -92,21 +125,56 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * The number of characters read from the channel at once.
+     */
+    private static final int READ_CHARACTER_COUNT = 8192;
+
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
     public DelimitedRecordChannel(CharacterChannel channel, Format format) {
         this.channel = channel;
         this.format = format;
-        this.persistentCharSequence = new StringBuilder();
+        //All the formats separate records by lines, and the fields by the separator used for writing
+        this.lineSeparated = true;
+        this.fieldSeparatorForReading = format.getWriteFieldSeparator();
+        this.quotedFields = format.shouldIgnoreBlanks();
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
         this.recordSeparator = recordSeparator;
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
-        this.persistentCharSequence = new StringBuilder();
+        if (isLiteral(recordSeparator)) {
+            this.recordSeparatorForReading = recordSeparator;
+        } else {
+            this.recordSeparatorPattern = Pattern.compile(recordSeparator);
+        }
+        if (isLiteral(fieldSeparator)) {
+            this.fieldSeparatorForReading = fieldSeparator;
+        } else {
+            this.fieldSeparatorPattern = Pattern.compile(fieldSeparator);
+        }
+    }
+
+    /**
+     * Specifies whether the given separator would only match itself as a regex.
+     *
+     * @param separator the separator.
+     * @return true if the separator is not empty and does not contain any regex meta characters.
+     */
+    private static boolean isLiteral(String separator) {
+        if (separator.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < separator.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(separator.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -118,30 +186,6 @@ public class DelimitedRecordChannel implements IOChannel {
         return channel.getChannel();
     }
 
-    /**
-     * Retrieves the record separator for reading records.
-     *
-     * @return the record separator.
-     */
-    private String getRecordSeparatorForReading() {
-        if (null == format) {
-            return recordSeparator;
-        }
-        return format.getReadRecSeparator();
-    }
-
-    /**
-     * Retrieves field separator for reading.
-     *
-     * @return the field separator.
-     */
-    private String getFieldSeparatorForReading() {
-        if (null == format) {
-            return fieldSeparator;
-        }
-        return format.getReadFieldSeparator();
-    }
-
     /**
      * Retrieves record separator for writing.
      *
@@ -170,43 +214,105 @@ public class DelimitedRecordChannel implements IOChannel {
      * <p>
      * Gets record from specified sequence of characters.
      * </p>
+     * <p>
+     * The record is identified through its end position and the position the next record starts from. The record
+     * starts from the start position.
+     * </p>
      *
-     * @return the requested record.
      * @throws BallerinaIOException during I/O error.
      */
-    private String readRecord() throws BallerinaIOException {
-        String record = null;
-        final int minimumRecordCount = 1;
-        final int numberOfSplits = 2;
+    private void readRecord() throws BallerinaIOException {
+        boolean identified = false;
         do {
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
-            }
-            //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
-            if (delimitedRecord.length > minimumRecordCount) {
-                record = processIdentifiedRecord(delimitedRecord);
-                int recordCharacterLength = record.length();
-                if (recordCharacterLength > recordCharacterCount) {
-                    recordCharacterCount = record.length();
-                }
+            if (findRecordSeparator()) {
+                identified = true;
             } else {
                 readRecordFromChannel();
                 if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
-                    record = (delimitedRecord.length == numberOfSplits) ?
-                            processIdentifiedRecord(delimitedRecord) :
-                            readFinalRecord();
+                    if (!findRecordSeparator()) {
+                        readFinalRecord();
+                    }
+                    identified = true;
                 }
             }
-        } while (record == null && !channel.hasReachedEnd());
+        } while (!identified && !channel.hasReachedEnd());
 
-        if (null == record) {
-            record = readFinalRecord();
+        if (!identified) {
+            readFinalRecord();
+        }
+    }
+
+    /**
+     * Scans the characters which are not yet returned for the record separator.
+     *
+     * @return true if a record separator is found.
+     */
+    private boolean findRecordSeparator() {
+        if (null != recordSeparatorPattern) {
+            return matchRecordSeparator();
+        }
+        if (lineSeparated) {
+            return findLineSeparator();
         }
-        return record;
+        return findLiteralRecordSeparator();
+    }
+
+    /**
+     * Finds the end of the line, which may be preceded by a carriage return. Line breaks within quoted fields are
+     * part of the field.
+     *
+     * @return true if the end of the line is found.
+     */
+    private boolean findLineSeparator() {
+        for (int i = scanPosition; i < end; i++) {
+            char character = characters[i];
+            if (character == '"' && quotedFields) {
+                quoted = !quoted;
+            } else if (character == '\n' && !quoted) {
+                recordEnd = i > start && characters[i - 1] == '\r' ? i - 1 : i;
+                nextRecordStart = i + 1;
+                return true;
+            }
+        }
+        scanPosition = end;
+        return false;
+    }
+
+    private boolean findLiteralRecordSeparator() {
+        String separator = recordSeparatorForReading;
+        int separatorLength = separator.length();
+        for (int i = scanPosition; i <= end - separatorLength; i++) {
+            if (matches(i, separator)) {
+                recordEnd = i;
+                nextRecordStart = i + separatorLength;
+                return true;
+            }
+        }
+        scanPosition = Math.max(scanPosition, end - separatorLength + 1);
+        return false;
+    }
+
+    private boolean matchRecordSeparator() {
+        Matcher matcher = recordSeparatorPattern.matcher(CharBuffer.wrap(characters, start, end - start));
+        while (matcher.find()) {
+            // as with String#split, a zero-width match at the beginning does not separate a record
+            if (matcher.end() == 0) {
+                continue;
+            }
+            recordEnd = start + matcher.start();
+            nextRecordStart = start + matcher.end();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean matches(int position, String separator) {
+        for (int i = 0; i < separator.length(); i++) {
+            if (characters[position + i] != separator.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -217,9 +323,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * This operation is called when there're no more content to be retrieved from the the channel.
      * </p>
      */
-    private String readFinalRecord() {
-        final int minimumRemainingLength = 0;
-        String record = "";
+    private void readFinalRecord() {
         //This means there's no more to be get as records
         if (log.isDebugEnabled()) {
             log.debug(String.format("The content returned from the channel %d is <void>", channel.hashCode()));
@@ -227,109 +331,158 @@ public class DelimitedRecordChannel implements IOChannel {
         //This means this will be the last record which could be get
         this.remaining = false;
         //If there're any remaining characters left we provide it as the last record
-        if (persistentCharSequence.length() > minimumRemainingLength) {
-            record = persistentCharSequence.toString();
-            //Once the final record is processed there will be no chars left
-            persistentCharSequence.setLength(minimumRemainingLength);
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char [] remaining in memory, will be marked as the last record %s", record));
-            }
+        recordEnd = end;
+        nextRecordStart = end;
+        if (log.isTraceEnabled() && end > start) {
+            log.trace(String.format("char [] remaining in memory, will be marked as the last record %s",
+                    new String(characters, start, end - start)));
         }
         if (log.isDebugEnabled()) {
             log.debug("Final record is get from channel " + channel.hashCode() + " number of records get " +
                     "from channel " + (numberOfRecordsReadThroughChannel + 1));
         }
-        return record;
     }
 
     /**
      * <p>
-     * Reads a record from the channel.
+     * Reads characters from the channel, which are appended to the characters which are not yet returned.
      * </p>
      *
-     * @return the record content.
+     * @return the characters read.
      */
     private String readRecordFromChannel() throws BallerinaIOException {
-        String readCharacters;
-        readCharacters = channel.read(recordCharacterCount);
+        String readCharacters = channel.read(READ_CHARACTER_COUNT);
         if (log.isTraceEnabled()) {
             log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
         }
-        persistentCharSequence.append(readCharacters);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("char [] appended to the memory %s", persistentCharSequence));
+        int length = readCharacters.length();
+        if (end + length > characters.length) {
+            //The characters which are already returned are discarded, and the array is grown if it's still short
+            int remainingLength = end - start;
+            char[] target = characters;
+            if (remainingLength + length > characters.length) {
+                target = new char[Math.max(characters.length * 2, remainingLength + length)];
+            }
+            System.arraycopy(characters, start, target, 0, remainingLength);
+            characters = target;
+            scanPosition = scanPosition - start;
+            start = 0;
+            end = remainingLength;
         }
+        readCharacters.getChars(0, length, characters, end);
+        end = end + length;
         return readCharacters;
     }
 
     /**
-     * <p>
-     * Identifies the record from the provided collection.
-     * </p>
-     * <p>
-     * <b>Note :</b> This operation would append the remaining content to the string.
-     * </p>
+     * Get the fields identified through the record.
      *
-     * @param delimitedRecords collection of records which required to be split.
-     * @return the record content value.
-     */
-    private String processIdentifiedRecord(String[] delimitedRecords) {
-        String record;
-        final int minimumRemainingLength = 0;
-        final int delimitedRecordIndex = 0;
-        final int delimitedRemainingIndex = 1;
-        String recordContent = delimitedRecords[delimitedRemainingIndex];
-        record = delimitedRecords[delimitedRecordIndex];
-        persistentCharSequence.setLength(minimumRemainingLength);
-        persistentCharSequence.append(recordContent);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("Record identified from remaining char[] in memory %s", record));
-            log.trace(String.format("The char[] left after split %s", persistentCharSequence));
+     * @return fields which are separated as records.
+     */
+    private String[] getFields() {
+        if (null != fieldSeparatorPattern) {
+            return fieldSeparatorPattern.split(CharBuffer.wrap(characters, start, recordEnd - start));
+        }
+        recordFields.clear();
+        if (quotedFields) {
+            splitQuotedFields();
+        } else {
+            splitFields();
+        }
+        return recordFields.toArray(new String[0]);
+    }
+
+    /**
+     * Splits the record by the field separator, as done by String#split.
+     */
+    private void splitFields() {
+        String separator = fieldSeparatorForReading;
+        int separatorLength = separator.length();
+        int fieldStart = start;
+        for (int i = start; i <= recordEnd - separatorLength; i++) {
+            if (matches(i, separator)) {
+                recordFields.add(new String(characters, fieldStart, i - fieldStart));
+                fieldStart = i + separatorLength;
+                i = fieldStart - 1;
+            }
+        }
+        recordFields.add(new String(characters, fieldStart, recordEnd - fieldStart));
+        //As with String#split, trailing empty fields are omitted unless the record has no separators
+        if (fieldStart != start) {
+            int size = recordFields.size();
+            while (size > 0 && recordFields.get(size - 1).isEmpty()) {
+                recordFields.remove(--size);
+            }
         }
-        return record;
     }
 
     /**
      * <p>
-     * Split based on given regEx.
+     * Splits the record by the field separators which are not within quotes.
      * </p>
      * <p>
      * This operation will produce null for blanks.
      * </p>
-     *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
-     */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = null;
-                continue;
+     */
+    private void splitQuotedFields() {
+        char separator = fieldSeparatorForReading.charAt(0);
+        boolean withinQuotes = false;
+        int fieldStart = start;
+        for (int i = start; i < recordEnd; i++) {
+            char character = characters[i];
+            if (character == '"') {
+                withinQuotes = !withinQuotes;
+            } else if (character == separator && !withinQuotes) {
+                recordFields.add(getQuotedField(fieldStart, i));
+                fieldStart = i + 1;
             }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
+        }
+        recordFields.add(getQuotedField(fieldStart, recordEnd));
+        if (fieldStart != start) {
+            int size = recordFields.size();
+            while (size > 0 && null == recordFields.get(size - 1)) {
+                recordFields.remove(--size);
             }
         }
-        return split;
     }
 
     /**
-     * Get the fields identified through the record.
+     * Gets the value of a field, where a field enclosed in quotes may contain quotes escaped by another quote.
      *
-     * @param record the record which contains all the fields.
-     * @return fields which are separated as records.
+     * @param fieldStart start position of the field.
+     * @param fieldEnd   end position of the field.
+     * @return the value of the field, or null if the field is blank.
      */
-    private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
+    private String getQuotedField(int fieldStart, int fieldEnd) {
+        int length = fieldEnd - fieldStart;
+        if (length == 0) {
+            return null;
+        }
+        if (length < 2 || characters[fieldStart] != '"' || characters[fieldEnd - 1] != '"') {
+            return new String(characters, fieldStart, length);
+        }
+        int escapedQuotes = 0;
+        for (int i = fieldStart + 1; i < fieldEnd - 1; i++) {
+            if (characters[i] == '"') {
+                if (i + 1 == fieldEnd - 1 || characters[i + 1] != '"') {
+                    //The field is not a valid quoted field, hence it's returned as it is
+                    return new String(characters, fieldStart, length);
+                }
+                escapedQuotes++;
+                i++;
+            }
+        }
+        if (escapedQuotes == 0) {
+            return new String(characters, fieldStart + 1, length - 2);
+        }
+        StringBuilder field = new StringBuilder(length - 2 - escapedQuotes);
+        for (int i = fieldStart + 1; i < fieldEnd - 1; i++) {
+            field.append(characters[i]);
+            if (characters[i] == '"') {
+                i++;
+            }
         }
+        return field.toString();
     }
 
     /**
@@ -352,9 +505,9 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
                         channel.hashCode()));
             }
-            String record = readRecord();
-            if (!record.isEmpty() || remaining) {
-                fields = getFields(record);
+            readRecord();
+            if (recordEnd > start || remaining) {
+                fields = getFields();
                 numberOfRecordsReadThroughChannel++;
                 if (log.isDebugEnabled()) {
                     log.debug("Record " + numberOfRecordsReadThroughChannel + " returned " + fields.length + " from " +
@@ -365,6 +518,9 @@ public class DelimitedRecordChannel implements IOChannel {
                             "channel " + channel.hashCode() + "," + Arrays.toString(fields));
                 }
             }
+            start = nextRecordStart;
+            scanPosition = start;
+            quoted = false;
         } else {
             //The channel could be null if it's being closed by a different source
             if (null != channel) {
@@ -460,7 +616,7 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return end > start;
     }
 
     /**
@@ -470,7 +626,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
-        if (remaining && persistentCharSequence.length() == 0) {
+        if (remaining && end == start) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
             String readChars = readRecordFromChannel();
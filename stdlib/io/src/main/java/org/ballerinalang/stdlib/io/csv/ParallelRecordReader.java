@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.ballerinalang.stdlib.io.channels.BlobChannel;
+import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Reads the records of a delimited file in parallel. The file is split into chunks of about {@link #CHUNK_SIZE} bytes
+ * which end at record boundaries, and the chunks are parsed by a shared pool of threads. The boundaries are found by
+ * the pool as well, hence creating a reader does not read the file. Only a limited number of chunks are parsed ahead
+ * of the consumer, hence the memory used does not depend on the size of the file.
+ * </p>
+ * <p>
+ * The records are returned in the order of the file, or else in the order the chunks are parsed. Files are only split
+ * if line breaks and quotes are encoded as single bytes which could not be a part of another character (i.e. UTF-8 and
+ * ASCII based single byte encodings), and if the records are separated by line breaks. Files in other encodings, or
+ * with other record separators, are parsed as a single chunk. The reader should be consumed by a single strand at a
+ * time.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ParallelRecordReader {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelRecordReader.class);
+
+    /**
+     * The approximate size of a chunk of the file parsed by a single thread (4 MB).
+     */
+    static final long CHUNK_SIZE = 4194304;
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final int CHUNKS_READ_AHEAD = PARALLELISM * 2;
+    private static final int SCAN_BUFFER_SIZE = 65536;
+    private static final byte QUOTE = '"';
+    private static final byte NEW_LINE = '\n';
+    private static final String LINE_BREAK_PATTERN = "\r?\n";
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM, runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-io-record-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FileChannel fileChannel;
+    private final Charset charset;
+    private final Format format;
+    private final String recordSeparator;
+    private final String fieldSeparator;
+    private final boolean ordered;
+    private final boolean quotedFields;
+    private final AtomicInteger scannedRanges = new AtomicInteger();
+    private final AtomicInteger completedChunks = new AtomicInteger();
+
+    // the file is split once the first record is requested, chunk i spans from chunkStarts[i] until chunkStarts[i + 1]
+    // and starts after the first record separator within range i of the file, or else within the ranges after it
+    private long fileSize;
+    private int chunkCount;
+    private List<CompletableFuture<RangeScan>> rangeScans;
+    private List<CompletableFuture<Long>> chunkStarts;
+
+    // state of the consumer
+    // parsed chunks in the order of the file, or else in the order of completion, released once consumed
+    private AtomicReferenceArray<CompletableFuture<List<String[]>>> parsedChunks;
+    // number of headers which are not skipped by the chunks submitted so far
+    private CompletableFuture<Integer> remainingHeaders;
+    private int submittedChunks = 0;
+    private int currentChunk = -1;
+    private List<String[]> records = Collections.emptyList();
+    private int recordIndex = 0;
+
+    /**
+     * Creates a reader of the records of the given file in the given format.
+     *
+     * @param fileChannel channel of the file, which will be closed once the file is read
+     * @param charset     encoding of the file
+     * @param format      format of the records
+     * @param skipHeaders number of records to skip at the start of the file
+     * @param ordered     whether to return the records in the order of the file
+     */
+    public ParallelRecordReader(FileChannel fileChannel, Charset charset, Format format, int skipHeaders,
+                                boolean ordered) {
+        this(fileChannel, charset, format, null, null, skipHeaders, ordered);
+    }
+
+    /**
+     * Creates a reader of the records of the given file, separated by the given separators. The file is only split if
+     * the record separator is a literal ending with its only line break, or a pattern of a line break (i.e. \n, \r\n
+     * or \r?\n).
+     *
+     * @param fileChannel     channel of the file, which will be closed once the file is read
+     * @param charset         encoding of the file
+     * @param recordSeparator separator of the records
+     * @param fieldSeparator  separator of the fields
+     * @param skipHeaders     number of records to skip at the start of the file
+     * @param ordered         whether to return the records in the order of the file
+     */
+    public ParallelRecordReader(FileChannel fileChannel, Charset charset, String recordSeparator,
+                                String fieldSeparator, int skipHeaders, boolean ordered) {
+        this(fileChannel, charset, null, recordSeparator, fieldSeparator, skipHeaders, ordered);
+    }
+
+    private ParallelRecordReader(FileChannel fileChannel, Charset charset, Format format, String recordSeparator,
+                                 String fieldSeparator, int skipHeaders, boolean ordered) {
+        this.fileChannel = fileChannel;
+        this.charset = charset;
+        this.format = format;
+        this.recordSeparator = recordSeparator;
+        this.fieldSeparator = fieldSeparator;
+        this.ordered = ordered;
+        this.quotedFields = format != null && format.shouldIgnoreBlanks();
+        this.remainingHeaders = CompletableFuture.completedFuture(skipHeaders);
+    }
+
+    /**
+     * Returns the next record if it is already parsed, without waiting for it.
+     *
+     * @return the next record, or null if the next record is not parsed yet or if there are no more records
+     * @throws BallerinaIOException if the file could not be parsed
+     */
+    public String[] poll() throws BallerinaIOException {
+        if (chunkStarts == null) {
+            split();
+        }
+        while (recordIndex >= records.size()) {
+            if (currentChunk + 1 >= chunkCount || !parsedChunks.get(currentChunk + 1).isDone()) {
+                return null;
+            }
+            nextChunk();
+        }
+        return records.get(recordIndex++);
+    }
+
+    /**
+     * Returns the next record once it is parsed.
+     *
+     * @return future of the next record, which is completed with null if there are no more records
+     */
+    public CompletableFuture<String[]> next() {
+        try {
+            String[] record = poll();
+            if (record != null || hasReachedEnd()) {
+                return CompletableFuture.completedFuture(record);
+            }
+        } catch (BallerinaIOException e) {
+            CompletableFuture<String[]> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            return failure;
+        }
+        return parsedChunks.get(currentChunk + 1).handle((result, e) -> null).thenCompose(done -> next());
+    }
+
+    /**
+     * Returns whether all the records are returned.
+     *
+     * @return true if there are no more records
+     */
+    public boolean hasReachedEnd() {
+        return chunkStarts != null && recordIndex >= records.size() && currentChunk + 1 >= chunkCount;
+    }
+
+    /**
+     * Closes the file, the chunks which are being parsed are discarded.
+     *
+     * @throws IOException if the file could not be closed
+     */
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+
+    /**
+     * Splits the file into a chunk per range of {@link #CHUNK_SIZE} bytes and submits the first chunks to be parsed.
+     * A chunk starts after the first record separator within its range which is not within a quoted field. The ranges
+     * are scanned in parallel for the line breaks after an even and an odd number of quotes, and the quotes of the
+     * ranges before a range tell which of those is the start of its chunk.
+     */
+    private void split() throws BallerinaIOException {
+        try {
+            fileSize = fileChannel.size();
+        } catch (IOException e) {
+            chunkStarts = Collections.emptyList();
+            fail(e);
+        }
+        byte[] separator = isSplittable(charset) ? getSplitSeparator() : null;
+        chunkCount = separator == null || fileSize <= CHUNK_SIZE ? 1 : (int) ((fileSize - 1) / CHUNK_SIZE + 1);
+        rangeScans = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            rangeScans.add(new CompletableFuture<>());
+        }
+        // quotes are only counted from the start of the file if the fields could be quoted
+        if (!quotedFields || chunkCount == 1) {
+            rangeScans.get(0).complete(new RangeScan(false, 0, 0));
+            scannedRanges.set(1);
+        }
+        List<CompletableFuture<Boolean>> quotedRangeStarts = new ArrayList<>(chunkCount);
+        quotedRangeStarts.add(CompletableFuture.completedFuture(false));
+        for (int i = 1; i < chunkCount; i++) {
+            quotedRangeStarts.add(!quotedFields ? quotedRangeStarts.get(0) :
+                    quotedRangeStarts.get(i - 1).thenCombine(rangeScans.get(i - 1),
+                                                             (quoted, scan) -> quoted != scan.oddQuotes));
+        }
+        List<CompletableFuture<Long>> starts = new ArrayList<>(Collections.nCopies(chunkCount + 1, null));
+        starts.set(0, CompletableFuture.completedFuture(0L));
+        starts.set(chunkCount, CompletableFuture.completedFuture(fileSize));
+        for (int i = chunkCount - 1; i > 0; i--) {
+            CompletableFuture<Long> nextStart = starts.get(i + 1);
+            starts.set(i, quotedRangeStarts.get(i)
+                    .thenCombine(rangeScans.get(i), (quoted, scan) -> quoted ? scan.quotedStart : scan.start)
+                    .thenCompose(start -> start < 0 ? nextStart : CompletableFuture.completedFuture(start)));
+        }
+        chunkStarts = starts;
+        parsedChunks = new AtomicReferenceArray<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            parsedChunks.set(i, new CompletableFuture<>());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("File of %d bytes is split into %d chunks", fileSize, chunkCount));
+        }
+        submit();
+    }
+
+    private void nextChunk() throws BallerinaIOException {
+        currentChunk++;
+        CompletableFuture<List<String[]>> chunk = parsedChunks.getAndSet(currentChunk, null);
+        recordIndex = 0;
+        try {
+            records = chunk.join();
+        } catch (CompletionException e) {
+            records = Collections.emptyList();
+            currentChunk = chunkCount;
+            fail(e);
+        }
+        submit();
+    }
+
+    private void fail(Throwable e) throws BallerinaIOException {
+        try {
+            close();
+        } catch (IOException ex) {
+            log.warn("error occurred while closing the file: " + ex.getMessage(), ex);
+        }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        throw new BallerinaIOException("error occurred while reading records: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Submits the chunks to be parsed ahead of the consumer. The headers are skipped in the order of the file, hence
+     * a chunk which could contain headers skips the headers which are not within the chunks before it, once those
+     * chunks are parsed. The chunks after the headers are returned as soon as they are parsed.
+     */
+    private void submit() {
+        while (submittedChunks < chunkCount && submittedChunks <= currentChunk + CHUNKS_READ_AHEAD) {
+            int chunk = submittedChunks++;
+            scanUntil(chunk + 1);
+            CompletableFuture<Long> end = chunkStarts.get(chunk + 1);
+            CompletableFuture<List<String[]>> chunkRecords = chunkStarts.get(chunk)
+                    .thenCompose(start -> end.thenCompose(chunkEnd -> parse(start, chunkEnd)));
+            CompletableFuture<Integer> headers = remainingHeaders;
+            if (headers.isDone() && !headers.isCompletedExceptionally() && headers.join() == 0) {
+                chunkRecords.whenComplete((parsed, error) -> complete(chunk, parsed, error));
+                continue;
+            }
+            remainingHeaders = headers.thenCompose(skipped -> skipped == 0 ? headers :
+                    chunkRecords.thenApply(parsed -> Math.max(0, skipped - parsed.size())));
+            headers.thenCompose(skipped -> skipped == 0 ? chunkRecords : chunkRecords.thenApply(
+                    parsed -> parsed.subList(Math.min(skipped, parsed.size()), parsed.size())))
+                    .whenComplete((parsed, error) -> complete(chunk, parsed, error));
+        }
+    }
+
+    private void complete(int chunk, List<String[]> chunkRecords, Throwable error) {
+        int completed = completedChunks.getAndIncrement();
+        CompletableFuture<List<String[]>> parsedChunk = parsedChunks.get(ordered ? chunk : completed);
+        if (error == null) {
+            parsedChunk.complete(chunkRecords);
+        } else {
+            parsedChunk.completeExceptionally(error instanceof CompletionException && error.getCause() != null ?
+                                                      error.getCause() : error);
+        }
+        if (completed == chunkCount - 1) {
+            try {
+                close();
+            } catch (IOException e) {
+                log.warn("error occurred while closing the file: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Parses the records of the given part of the file on the pool of the readers.
+     *
+     * @param start position of the first record
+     * @param end   position after the last record
+     * @return future of the records
+     */
+    CompletableFuture<List<String[]>> parse(long start, long end) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(start, end);
+            } catch (IOException | BallerinaIOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private List<String[]> read(long start, long end) throws IOException, BallerinaIOException {
+        CharacterChannel characterChannel = new CharacterChannel(new BlobIOChannel(new BlobChannel(
+                new ChunkChannel(fileChannel, start, end))), charset.name());
+        DelimitedRecordChannel recordChannel;
+        if (format != null) {
+            recordChannel = new DelimitedRecordChannel(characterChannel, format);
+        } else {
+            recordChannel = new DelimitedRecordChannel(characterChannel, recordSeparator, fieldSeparator);
+        }
+        List<String[]> chunkRecords = new ArrayList<>();
+        while (recordChannel.hasNext()) {
+            chunkRecords.add(recordChannel.read());
+        }
+        return chunkRecords;
+    }
+
+    /**
+     * Submits the ranges of the file until the given range to be scanned. A range without a record separator is
+     * followed by the next range, since its chunk starts within one of the ranges after it.
+     */
+    private void scanUntil(int range) {
+        int scanned;
+        while ((scanned = scannedRanges.get()) <= range && scanned < chunkCount) {
+            if (scannedRanges.compareAndSet(scanned, scanned + 1)) {
+                int nextRange = scanned;
+                executor.execute(() -> scan(nextRange));
+            }
+        }
+    }
+
+    private void scan(int range) {
+        long from = Math.max(0, range * CHUNK_SIZE - 1);
+        long to = range == chunkCount - 1 ? fileSize : (range + 1) * CHUNK_SIZE - 1;
+        RangeScan scan;
+        try {
+            scan = scan(from, to);
+        } catch (IOException e) {
+            rangeScans.get(range).completeExceptionally(e);
+            return;
+        }
+        rangeScans.get(range).complete(scan);
+        if (scan.start < 0 || scan.quotedStart < 0) {
+            scanUntil(range + 1);
+        }
+    }
+
+    /**
+     * Scans the file from the given position until the given position for the first record separator, if the
+     * position is not within a quoted field and if it is.
+     */
+    private RangeScan scan(long from, long to) throws IOException {
+        byte[] separator = getSplitSeparator();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        boolean oddQuotes = false;
+        long start = -1;
+        long quotedStart = -1;
+        long position = from;
+        while (position < to && (quotedFields || start < 0)) {
+            buffer.clear();
+            if (to - position < SCAN_BUFFER_SIZE) {
+                buffer.limit((int) (to - position));
+            }
+            int count = fileChannel.read(buffer, position);
+            if (count <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < count && (quotedFields || start < 0); i++) {
+                if (bytes[i] == QUOTE && quotedFields) {
+                    oddQuotes = !oddQuotes;
+                } else if (bytes[i] == NEW_LINE) {
+                    if (oddQuotes && quotedStart < 0) {
+                        quotedStart = position + i + 1;
+                    } else if (!oddQuotes && start < 0 && endsWith(position + i, separator)) {
+                        start = position + i + 1;
+                    }
+                }
+            }
+            position += count;
+        }
+        return new RangeScan(oddQuotes, start, quotedFields ? quotedStart : start);
+    }
+
+    /**
+     * Returns whether the given separator ends at the given position of the file.
+     */
+    private boolean endsWith(long position, byte[] separator) throws IOException {
+        if (separator.length == 1) {
+            return true;
+        }
+        long start = position - separator.length + 1;
+        if (start < 0) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(separator.length);
+        while (buffer.hasRemaining() && fileChannel.read(buffer, start + buffer.position()) > 0) {
+            // reads until the whole separator is read
+        }
+        return Arrays.equals(buffer.array(), separator);
+    }
+
+    /**
+     * Returns the bytes of the record separator after which a chunk could start, which ends with its only line break.
+     * The patterns of a line break are taken as the literal line break they match, hence a line break preceded by a
+     * carriage return belongs to the chunk before it. Returns null if the records are not separated by line breaks.
+     */
+    private byte[] getSplitSeparator() {
+        if (format != null) {
+            return new byte[]{NEW_LINE};
+        }
+        String separator = recordSeparator.replace("\\r", "\r").replace("\\n", "\n");
+        if (LINE_BREAK_PATTERN.equals(separator)) {
+            separator = "\n";
+        }
+        if (separator.isEmpty() || separator.indexOf(NEW_LINE) != separator.length() - 1) {
+            return null;
+        }
+        for (int i = 0; i < separator.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(separator.charAt(i)) >= 0) {
+                return null;
+            }
+        }
+        return separator.getBytes(charset);
+    }
+
+    private static boolean isSplittable(Charset charset) {
+        byte[] separators = "\n\"".getBytes(charset);
+        boolean singleByteSeparators = separators.length == 2 && separators[0] == NEW_LINE && separators[1] == QUOTE;
+        return singleByteSeparators &&
+                (StandardCharsets.UTF_8.equals(charset) || charset.newEncoder().maxBytesPerChar() == 1);
+    }
+
+    /**
+     * The result of scanning a range of the file. The positions are -1 if there is no record separator within the
+     * range.
+     */
+    private static class RangeScan {
+
+        // whether the range has an odd number of quotes, i.e. whether the range after it starts within quotes if
+        // this range does not
+        private final boolean oddQuotes;
+        // position after the first record separator if the range does not start within quotes
+        private final long start;
+        // position after the first record separator if the range starts within quotes
+        private final long quotedStart;
+
+        RangeScan(boolean oddQuotes, long start, long quotedStart) {
+            this.oddQuotes = oddQuotes;
+            this.start = start;
+            this.quotedStart = quotedStart;
+        }
+    }
+
+    /**
+     * Reads a chunk of the file through positional reads, which could be done by several threads at once.
+     */
+    private static class ChunkChannel implements ReadableByteChannel {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        ChunkChannel(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int limit = dst.limit();
+            if (dst.remaining() > end - position) {
+                dst.limit(dst.position() + (int) (end - position));
+            }
+            try {
+                int count = channel.read(dst, position);
+                if (count > 0) {
+                    position += count;
+                }
+                return count;
+            } finally {
+                dst.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // the file is shared by the chunks and is closed by the reader
+        }
+    }
+}
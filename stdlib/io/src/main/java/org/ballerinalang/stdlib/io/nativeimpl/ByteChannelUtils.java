@@ -41,6 +41,8 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -59,6 +61,9 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private static final String READ_ACCESS_MODE = "r";
     private static final String WRITE_ACCESS_MODE = "w";
     private static final String APPEND_ACCESS_MODE = "a";
+    // direct buffers are reused by the transfers of a thread, since they are expensive to allocate
+    private static final ThreadLocal<ByteBuffer> TRANSFER_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(IOConstants.CHANNEL_BUFFER_SIZE));
 
     private ByteChannelUtils() {
     }
@@ -66,11 +71,11 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     public static Object read(ObjectValue channel, long nBytes) {
         int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
             try {
+                ByteBuffer content = ByteBuffer.wrap(new byte[getReadSize(byteChannel, arraySize)]);
                 byteChannel.read(content);
                 return BValueCreator.createArrayValue(getContentData(content));
             } catch (Exception e) {
@@ -81,6 +86,45 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    private static int getReadSize(Channel byteChannel, int arraySize) throws IOException {
+        if (byteChannel instanceof FileIOChannel) {
+            // the array is sized to the remaining content of the file, so that it is not copied once read. At least a
+            // byte is read, so that the end of the file is detected.
+            long remainingBytes = ((FileIOChannel) byteChannel).remainingBytes();
+            return (int) Math.max(1, Math.min(arraySize, remainingBytes));
+        }
+        return arraySize;
+    }
+
+    public static Object transferTo(ObjectValue channel, ObjectValue dstChannel) {
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel dstByteChannel = (Channel) dstChannel.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            if (byteChannel instanceof FileIOChannel && dstByteChannel instanceof FileIOChannel) {
+                return ((FileIOChannel) byteChannel).transferTo(dstByteChannel.getByteChannel());
+            }
+            return copy(byteChannel, dstByteChannel);
+        } catch (IOException | NonReadableChannelException | NonWritableChannelException e) {
+            String msg = "error occurred while transferring bytes from the channel. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    private static long copy(Channel byteChannel, Channel dstByteChannel) throws IOException {
+        ByteBuffer buffer = TRANSFER_BUFFER.get();
+        long transferred = 0;
+        while (!byteChannel.hasReachedEnd()) {
+            buffer.clear();
+            byteChannel.read(buffer);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                transferred += dstByteChannel.write(buffer);
+            }
+        }
+        return transferred;
+    }
+
     private static byte[] getContentData(final ByteBuffer contentBuffer) {
         int bufferSize = contentBuffer.limit();
         int readPosition = contentBuffer.position();
@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.io.nativeimpl;
 
 import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.XMLElementReader;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -37,6 +38,7 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.XML_ELEMENT_READER_NAME;
 
 /**
  * This class hold Java inter-ops bridging functions for io# *CharacterChannels.
@@ -103,6 +105,31 @@ public class CharacterChannelUtils {
         }
     }
 
+    public static Object initXmlElementReader(ObjectValue iterator, ObjectValue channel, long depth) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+        try {
+            iterator.addNativeData(XML_ELEMENT_READER_NAME, new XMLElementReader(reader, (int) depth));
+        } catch (BallerinaException e) {
+            return IOUtils.createError(e);
+        }
+        return null;
+    }
+
+    public static Object nextXmlElement(ObjectValue iterator) {
+        XMLElementReader reader = (XMLElementReader) iterator.getNativeData(XML_ELEMENT_READER_NAME);
+        try {
+            XMLValue element = reader.next();
+            if (element == null) {
+                // release the reader as soon as the document is read, as the iterator may outlive the channel
+                reader.close();
+            }
+            return element;
+        } catch (BallerinaException e) {
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object close(ObjectValue channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         try {
@@ -18,15 +18,19 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.HandleValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BValueCreator;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
 import org.ballerinalang.stdlib.io.csv.Format;
+import org.ballerinalang.stdlib.io.csv.ParallelRecordReader;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
@@ -35,7 +39,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletionException;
 
+import static org.ballerinalang.stdlib.io.utils.IOConstants.PARALLEL_RECORD_READER_NAME;
 import static org.ballerinalang.stdlib.io.utils.IOConstants.TXT_RECORD_CHANNEL_NAME;
 
 //import org.ballerinalang.jvm.values.ArrayValue;
@@ -49,6 +58,7 @@ public class RecordChannelUtils {
 
     private static final Logger log = LoggerFactory.getLogger(RecordChannelUtils.class);
     private static final String DEFAULT = "default";
+    private static final String READ_ACCESS_MODE = "r";
 
     private RecordChannelUtils() {
     }
@@ -140,4 +150,64 @@ public class RecordChannelUtils {
         }
         return null;
     }
+
+    public static Object initParallelRecordReader(ObjectValue iterator, String path, String fieldSeparator,
+                                                  String recordSeparator, String format, String charset,
+                                                  long skipHeaders, boolean ordered) {
+        try {
+            FileChannel fileChannel = IOUtils.openFileChannelExtended(Paths.get(path), READ_ACCESS_MODE);
+            ParallelRecordReader reader;
+            if (DEFAULT.equals(format)) {
+                reader = new ParallelRecordReader(fileChannel, Charset.forName(charset), recordSeparator,
+                                                  fieldSeparator, (int) skipHeaders, ordered);
+            } else {
+                reader = new ParallelRecordReader(fileChannel, Charset.forName(charset), Format.valueOf(format),
+                                                  (int) skipHeaders, ordered);
+            }
+            iterator.addNativeData(PARALLEL_RECORD_READER_NAME, reader);
+        } catch (BallerinaIOException | IllegalArgumentException e) {
+            return IOUtils.createError(e);
+        } catch (ErrorValue e) {
+            return e;
+        }
+        return null;
+    }
+
+    public static Object nextParallelRecord(ObjectValue iterator) {
+        ParallelRecordReader reader = (ParallelRecordReader) iterator.getNativeData(PARALLEL_RECORD_READER_NAME);
+        try {
+            String[] record = reader.poll();
+            if (record != null) {
+                return createRecord(record);
+            }
+            if (reader.hasReachedEnd()) {
+                return null;
+            }
+        } catch (BallerinaIOException e) {
+            return IOUtils.createError(e);
+        }
+        // the strand yields until the chunk of the next record is parsed, instead of blocking the thread
+        NonBlockingCallback callback = new NonBlockingCallback(Scheduler.getStrand());
+        reader.next().whenComplete((record, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                        error.getCause() : error;
+                callback.notifyFailure(IOUtils.createError(cause));
+            } else {
+                callback.setReturnValues(record != null ? createRecord(record) : null);
+                callback.notifySuccess();
+            }
+        });
+        return null;
+    }
+
+    private static Object createRecord(String[] record) {
+        for (int i = 0; i < record.length; i++) {
+            // blank fields of CSV records are read as null
+            if (record[i] == null) {
+                record[i] = "";
+            }
+        }
+        return BValueCreator.createArrayValue(record);
+    }
 }
@@ -48,11 +48,31 @@ public class IOConstants {
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the XML element reader which will be represented through the native struct.
+     */
+    public static final String XML_ELEMENT_READER_NAME = "xml_element_reader";
+
+    /**
+     * The name of the parallel record reader which will be represented through the native struct.
+     */
+    public static final String PARALLEL_RECORD_READER_NAME = "parallel_record_reader";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
     public static final int CHANNEL_BUFFER_SIZE = 16384;
 
+    /**
+     * The minimum size of a file which will be read through a memory mapped region (1 MB).
+     */
+    public static final long MIN_MAPPED_FILE_SIZE = 1048576;
+
+    /**
+     * The maximum size of a memory mapped region of a file (16 MB).
+     */
+    public static final long MAPPED_REGION_SIZE = 16777216;
+
     public static final BPackage IO_PACKAGE_ID = new BPackage(BALLERINA_BUILTIN_PKG_PREFIX, "io");
 
     /**
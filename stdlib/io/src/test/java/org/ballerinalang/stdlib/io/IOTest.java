@@ -229,6 +229,43 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
     }
 
+    @Test(description = "Test 'transferTo' function in ballerina/io package")
+    public void testTransferTo() throws URISyntaxException, IOException {
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+        String sourceToWrite = currentDirectoryPath + "/transferredFile.txt";
+
+        //File to file transfer
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString(sourceToWrite) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferFile", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 6);
+        Assert.assertEquals(readFile(sourceToWrite), "123456");
+
+        //Content which is not in a file is copied
+        byte[] content = { -1, 46, 77, 90, 38 };
+        args = new BValue[] { new BValueArray(content), new BString(sourceToWrite) };
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferContent", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), content.length);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), content);
+    }
+
+    @Test(description = "Test 'transferTo' function with channels of the wrong mode in ballerina/io package")
+    public void testTransferToWithWrongMode() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+
+        //A channel which is not readable is not transferred
+        byte[] content = { -1, 46, 77, 90, 38 };
+        BValue[] args = { new BString(currentDirectoryPath + "/wrongModeFile.txt"), new BValueArray(content) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferFromWritableFile", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+
+        //A channel is not transferred to a channel which is not writable
+        args = new BValue[] {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString(getAbsoluteFilePath(resourceToRead))
+        };
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferToReadableFile", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+    }
+
     @Test(description = "Test 'writeCharacters' function in ballerina/io package")
     public void testWriteCharacters() {
         String content = "The quick brown fox jumps over the lazy dog";
@@ -386,6 +423,28 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readXmlElements' function in ballerina/io package")
+    public void testReadXmlElements() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        args = new BValue[] { new BInteger(1) };
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements", args);
+        BValueArray elements = (BValueArray) returns[0];
+        Assert.assertEquals(elements.size(), 26);
+        Assert.assertEquals(elements.getRefValue(0).stringValue(), "<CD><TITLE>Empire Burlesque</TITLE>" +
+                "<ARTIST>Bob Dylan</ARTIST><COUNTRY>USA</COUNTRY><COMPANY>Columbia</COMPANY><PRICE>10.90</PRICE>" +
+                "<YEAR>1985</YEAR></CD>");
+        Assert.assertEquals(elements.getRefValue(25).stringValue(), "<CD><TITLE>Unchain my heart</TITLE>" +
+                "<ARTIST>Joe Cocker</ARTIST><COUNTRY>USA</COUNTRY><COMPANY>EMI</COMPANY><PRICE>8.20</PRICE>" +
+                "<YEAR>1987</YEAR></CD>");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
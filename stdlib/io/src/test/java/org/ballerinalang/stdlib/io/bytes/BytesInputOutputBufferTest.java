@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -27,12 +28,16 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.stream.Collectors;
 
 /**
@@ -278,4 +283,39 @@ public class BytesInputOutputBufferTest {
         channel.close();
         channel.getInputStream();
     }
+
+    @Test(description = "Read a large file through memory mapped regions")
+    public void readLargeFile() throws IOException, URISyntaxException {
+        String resourceToRead = "datafiles/io/text/fileThatExceeds2MB.txt";
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading(resourceToRead);
+        FileIOChannel channel = new FileIOChannel(fileChannel);
+        channel.setReadable(true);
+        byte[] expected = Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(resourceToRead)
+                                                               .toURI()));
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(100000);
+        while (!channel.hasReachedEnd()) {
+            buffer.clear();
+            channel.read(buffer);
+            content.write(buffer.array(), 0, buffer.position());
+        }
+        Assert.assertEquals(content.toByteArray(), expected);
+        channel.close();
+    }
+
+    @Test(description = "Transfer the remaining content of a file to another file")
+    public void transferFile() throws IOException, URISyntaxException {
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/text/6charfile.txt");
+        FileIOChannel channel = new FileIOChannel(fileChannel);
+        channel.setReadable(true);
+        String transferredFilePath = currentDirectoryPath + "transfer.txt";
+        Files.deleteIfExists(Paths.get(transferredFilePath));
+        ByteChannel dstChannel = TestUtil.openForReadingAndWriting(transferredFilePath);
+        Assert.assertEquals(read(2, channel).getContent(), "12".getBytes());
+        Assert.assertEquals(channel.transferTo(dstChannel), 4);
+        Assert.assertEquals(channel.remainingBytes(), 0);
+        channel.close();
+        dstChannel.close();
+        Assert.assertEquals(Files.readAllBytes(Paths.get(transferredFilePath)), "3456".getBytes());
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the splitting of files into chunks by {@link ParallelRecordReader}.
+ */
+public class ParallelRecordReaderTest {
+
+    private String currentDirectoryPath = "/tmp/";
+
+    @BeforeSuite
+    public void setup() {
+        currentDirectoryPath = System.getProperty("user.dir") + "/build/";
+    }
+
+    @Test(description = "Returns the records of a later chunk before the first chunk is parsed", timeOut = 60000)
+    public void readUnorderedChunks() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300000; i++) {
+            content.append(i).append(",User").append(i).append(",Colombo\n");
+        }
+        Path path = write("unorderedRecords.csv", content.toString());
+        List<String> expected = readSequentially(path, null, null);
+
+        CompletableFuture<Void> firstChunkReleased = new CompletableFuture<>();
+        ParallelRecordReader reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8,
+                                                               Format.CSV, 0, false) {
+            @Override
+            CompletableFuture<List<String[]>> parse(long start, long end) {
+                CompletableFuture<List<String[]>> chunkRecords = super.parse(start, end);
+                return start == 0 ? firstChunkReleased.thenCompose(released -> chunkRecords) : chunkRecords;
+            }
+        };
+        String[] first = reader.next().get(30, TimeUnit.SECONDS);
+        Assert.assertNotEquals(first[0], "0", "Expected a record of a later chunk before the first chunk.");
+        firstChunkReleased.complete(null);
+
+        List<String> records = new ArrayList<>(readAll(reader));
+        records.add(Arrays.toString(first));
+        Collections.sort(records);
+        Collections.sort(expected);
+        Assert.assertEquals(records, expected);
+    }
+
+    @Test(description = "Splits the records separated by a line break pattern")
+    public void readPatternSeparatedRecords() throws IOException, BallerinaIOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300000; i++) {
+            content.append(i).append("|User").append(i).append("|Colombo\r\n");
+        }
+        Path path = write("patternSeparatedRecords.txt", content.toString());
+        List<String> expected = readSequentially(path, "\\r?\\n", "\\|");
+
+        AtomicInteger chunks = new AtomicInteger();
+        ParallelRecordReader reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8,
+                                                               "\\r?\\n", "\\|", 0, true) {
+            @Override
+            CompletableFuture<List<String[]>> parse(long start, long end) {
+                chunks.incrementAndGet();
+                return super.parse(start, end);
+            }
+        };
+        Assert.assertEquals(readAll(reader), expected);
+        Assert.assertTrue(chunks.get() > 1, "Expected the file to be split into chunks.");
+    }
+
+    @Test(description = "Does not split a literal record separator at a line break which is not the separator")
+    public void readLiteralSeparatedRecords() throws IOException, BallerinaIOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300000; i++) {
+            content.append(i).append(",User\n").append(i).append(",Colombo;\n");
+        }
+        Path path = write("literalSeparatedRecords.txt", content.toString());
+        List<String> expected = readSequentially(path, ";\n", ",");
+
+        ParallelRecordReader reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8,
+                                                               ";\n", ",", 0, true);
+        Assert.assertEquals(readAll(reader), expected);
+    }
+
+    @Test(description = "Reads a quoted field which spans several chunks")
+    public void readLongQuotedField() throws IOException, BallerinaIOException {
+        StringBuilder field = new StringBuilder("\"");
+        while (field.length() < ParallelRecordReader.CHUNK_SIZE * 3) {
+            field.append("Colombo,\"\"LK\"\"\n");
+        }
+        field.append('"');
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            content.append(i).append(',').append(i == 1000 ? field : "User" + i).append(",Colombo\n");
+        }
+        Path path = write("longQuotedField.csv", content.toString());
+        List<String> expected = readSequentially(path, null, null);
+
+        ParallelRecordReader reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8,
+                                                               Format.CSV, 0, true);
+        Assert.assertEquals(readAll(reader), expected);
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        Path path = Paths.get(currentDirectoryPath + fileName);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private List<String> readSequentially(Path path, String recordSeparator, String fieldSeparator)
+            throws IOException, BallerinaIOException {
+        CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(Files.newByteChannel(path)),
+                                                                 StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = recordSeparator == null ?
+                new DelimitedRecordChannel(characterChannel, Format.CSV) :
+                new DelimitedRecordChannel(characterChannel, recordSeparator, fieldSeparator);
+        List<String> records = new ArrayList<>();
+        while (recordChannel.hasNext()) {
+            records.add(Arrays.toString(recordChannel.read()));
+        }
+        recordChannel.close();
+        return records;
+    }
+
+    private List<String> readAll(ParallelRecordReader reader) {
+        List<String> records = new ArrayList<>();
+        String[] record = reader.next().join();
+        while (record != null) {
+            records.add(Arrays.toString(record));
+            record = reader.next().join();
+        }
+        Assert.assertTrue(reader.hasReachedEnd());
+        return records;
+    }
+}
@@ -312,6 +312,40 @@ public class CsvChannelTest {
         BRunUtil.invoke(csvInputOutputProgramFile, "close");
     }
 
+    @Test(description = "Test 'readCsvRecords'")
+    public void readCsvRecordsTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BInteger(1), new BBoolean(true)
+        };
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "readCsvRecords", args);
+        BValueArray records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), 3);
+        Assert.assertEquals(records.getRefValue(0).stringValue(),
+                            "[\"1\", \"Person1\", \"21\", \"3\", \"3.50\", \"Eng\"]");
+        //Blank fields are read as empty strings
+        Assert.assertEquals(records.getRefValue(1).stringValue(), "[\"2\", \"Person2\", \"18\", \"\", \"\", \"Mrk\"]");
+        Assert.assertEquals(records.getRefValue(2).stringValue(), "[\"3\", \"Person3\", \"35\", \"6\", \"7.00\"]");
+
+        args = new BValue[] {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BInteger(0), new BBoolean(false)
+        };
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "readCsvRecords", args);
+        records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), 4);
+        Assert.assertEquals(records.getRefValue(0).stringValue(),
+                            "[\"ID\", \"Name\", \"Age\", \"BeverageAllowance\", \"Total\", \"Department\"]");
+    }
+
+    @Test(description = "Test 'readCsvRecords' of a file which does not exist")
+    public void readCsvRecordsOfMissingFileTest() {
+        BValue[] args = {
+                new BString(currentDirectoryPath + "/missing.csv"), new BInteger(0), new BBoolean(true)
+        };
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "readCsvRecords", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+    }
+
     @Test(description = "Test 'writeDefaultCSVRecords'")
     public void testWriteDefaultCsv() {
         String[] content1 = { "Name", "Email", "Telephone" };
@@ -21,6 +21,8 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
+import org.ballerinalang.stdlib.io.csv.ParallelRecordReader;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -30,7 +32,15 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Tests record I/O functionality.
@@ -144,6 +154,79 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Read records with quoted fields as specified by RFC 4180")
+    public void readQuotedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcQuoted.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User1, \"Admin\"", "WSO2", "07xxxxxx"});
+
+        //Line breaks within quotes are part of the field
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User2\nColombo", null, "123"});
+        Assert.assertFalse(recordChannel.hasNext());
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Reads the chunks of a large file in parallel")
+    public void readRecordsInParallel() throws IOException, BallerinaIOException {
+        StringBuilder content = new StringBuilder("id,name,city\n");
+        for (int i = 0; i < 250000; i++) {
+            //Quoted line breaks should not be taken as a chunk boundary
+            String name = i % 10 == 0 ? "\"User" + i + "\nColombo, \"\"LK\"\"\"" : "User" + i;
+            content.append(i).append(',').append(name).append(",Colombo").append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path path = Paths.get(currentDirectoryPath + "parallelRecords.csv");
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<String> expected = new ArrayList<>();
+        CharacterChannel characterChannel = new CharacterChannel(new MockByteChannel(Files.newByteChannel(path)),
+                                                                 StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+        recordChannel.read();
+        while (recordChannel.hasNext()) {
+            expected.add(Arrays.toString(recordChannel.read()));
+        }
+        recordChannel.close();
+
+        ParallelRecordReader reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8,
+                                                               Format.CSV, 1, true);
+        Assert.assertEquals(readAll(reader), expected);
+
+        //Headers which are not within the first chunk are skipped from the chunks after it
+        int skipHeaders = 200000;
+        reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8, Format.CSV, skipHeaders,
+                                          false);
+        List<String> remaining = readAll(reader);
+        Collections.sort(remaining);
+        List<String> expectedRemaining = new ArrayList<>(expected.subList(skipHeaders - 1, expected.size()));
+        Collections.sort(expectedRemaining);
+        Assert.assertEquals(remaining, expectedRemaining);
+
+        //Unordered records are in the order of the chunks being parsed
+        reader = new ParallelRecordReader(FileChannel.open(path), StandardCharsets.UTF_8, Format.CSV, 1, false);
+        List<String> unordered = readAll(reader);
+        Collections.sort(unordered);
+        Collections.sort(expected);
+        Assert.assertEquals(unordered, expected);
+    }
+
+    private List<String> readAll(ParallelRecordReader reader) {
+        List<String> records = new ArrayList<>();
+        String[] record = reader.next().join();
+        while (record != null) {
+            records.add(Arrays.toString(record));
+            record = reader.next().join();
+        }
+        Assert.assertTrue(reader.hasReachedEnd());
+        return records;
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
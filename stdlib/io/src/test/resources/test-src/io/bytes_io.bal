@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/io;
+import ballerina/java;
 
 io:ReadableByteChannel? rch = ();
 io:WritableByteChannel? wch = ();
@@ -79,3 +80,52 @@ function testBase64EncodeByteChannel(io:ReadableByteChannel contentToBeEncoded)
 function testBase64DecodeByteChannel(io:ReadableByteChannel contentToBeDecoded) returns io:ReadableByteChannel|io:Error {
     return contentToBeDecoded.base64Decode();
 }
+
+function transferFile(string srcFilePath, string dstFilePath) returns @tainted int|io:Error {
+    io:ReadableByteChannel src = check io:openReadableFile(srcFilePath);
+    io:WritableByteChannel dst = check io:openWritableFile(dstFilePath);
+    int|io:Error result = src.transferTo(dst);
+    check src.close();
+    check dst.close();
+    return result;
+}
+
+function transferContent(byte[] content, string dstFilePath) returns @tainted int|io:Error {
+    io:ReadableByteChannel src = check io:createReadableChannel(content);
+    io:WritableByteChannel dst = check io:openWritableFile(dstFilePath);
+    int|io:Error result = src.transferTo(dst);
+    check src.close();
+    check dst.close();
+    return result;
+}
+
+function transferFromWritableFile(string srcFilePath, byte[] content) returns @tainted int|io:Error {
+    io:WritableByteChannel src = check io:openWritableFile(srcFilePath);
+    io:ReadableByteChannel dst = check io:createReadableChannel(content);
+    int|io:Error result = transferFromWritableChannel(src, dst);
+    check src.close();
+    check dst.close();
+    return result;
+}
+
+function transferToReadableFile(string srcFilePath, string dstFilePath) returns @tainted int|io:Error {
+    io:ReadableByteChannel src = check io:openReadableFile(srcFilePath);
+    io:ReadableByteChannel dst = check io:openReadableFile(dstFilePath);
+    int|io:Error result = transferToReadableChannel(src, dst);
+    check src.close();
+    check dst.close();
+    return result;
+}
+
+// The channels of the wrong mode could not be passed through 'transferTo', hence the function is called directly
+function transferFromWritableChannel(io:WritableByteChannel src, io:ReadableByteChannel dst)
+        returns int|io:Error = @java:Method {
+    name: "transferTo",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+function transferToReadableChannel(io:ReadableByteChannel src, io:ReadableByteChannel dst)
+        returns int|io:Error = @java:Method {
+    name: "transferTo",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
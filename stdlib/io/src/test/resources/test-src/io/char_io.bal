@@ -130,6 +130,25 @@ function readXml() returns @tainted xml|error {
     return e;
 }
 
+function readXmlElements(int depth) returns @tainted xml[]|error {
+    var rCha = rch;
+    if(rCha is io:ReadableCharacterChannel){
+        stream<xml, io:Error> elements = rCha.readXmlElements(depth);
+        xml[] result = [];
+        record {| xml value; |}|io:Error? next = elements.next();
+        while (next is record {| xml value; |}) {
+            result.push(next.value);
+            next = elements.next();
+        }
+        if (next is io:Error) {
+            return next;
+        }
+        return result;
+    }
+    io:GenericError e = error(io:GENERIC_ERROR, message = "Character channel not initialized properly");
+    return e;
+}
+
 function writeJson(json content) {
     var wCha = wch;
     if(wCha is io:WritableCharacterChannel){
@@ -121,6 +121,21 @@ function hasNextRecord() returns boolean? {
     }
 }
 
+function readCsvRecords(string filePath, int skipHeaders, boolean ordered) returns @tainted string[][]|error {
+    stream<string[], io:Error> records = check io:readCsvRecords(<@untainted>filePath, skipHeaders = skipHeaders,
+                                                                 ordered = ordered);
+    string[][] result = [];
+    record {| string[] value; |}|io:Error? next = records.next();
+    while (next is record {| string[] value; |}) {
+        result.push(next.value);
+        next = records.next();
+    }
+    if (next is io:Error) {
+        return next;
+    }
+    return result;
+}
+
 //TODO Table remove - Fix
 //function getTable(string filePath, string encoding, io:Separator fieldSeparator) returns @tainted float | error {
 //    var byteChannel = io:openReadableFile(filePath);
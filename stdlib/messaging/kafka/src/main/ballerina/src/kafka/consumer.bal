@@ -69,6 +69,12 @@ import ballerina/java;
 #               performance is required
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer
 # + decoupleProcessing - Decouples processing
+# + dispatchByPartition - Dispatches the records of each partition to a separate resource invocation while the next
+#               records are polled, keeping the order of the records within a partition. The offsets of the processed
+#               records are committed by the listener, hence `autoCommit` should be set to `false`. Commit and seek
+#               operations of the resources are run before the next poll. Concurrent consumers are not supported
+# + maxInFlightBatches - Maximum number of polled batches of records being processed, when dispatching by partition.
+#               This should be a positive integer
 # + secureSocket - Configurations related to SSL/TLS encryption
 # + authenticationConfiguration - Authentication-related configurations for the Kafka consumer
 public type ConsumerConfiguration record {|
@@ -114,11 +120,13 @@ public type ConsumerConfiguration record {|
     int pollingIntervalInMillis?;
     int concurrentConsumers?;
     int defaultApiTimeoutInMillis?;
+    int maxInFlightBatches?;
 
     boolean autoCommit = true;
     boolean checkCRCS = true;
     boolean excludeInternalTopics = true;
     boolean decoupleProcessing = false;
+    boolean dispatchByPartition = false;
 
     SecureSocket secureSocket?;
     AuthenticationConfiguration authenticationConfiguration?;
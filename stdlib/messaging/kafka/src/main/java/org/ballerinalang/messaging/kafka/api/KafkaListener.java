@@ -20,7 +20,8 @@ package org.ballerinalang.messaging.kafka.api;
 
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.ballerinalang.messaging.kafka.impl.KafkaPollCycleFutureListener;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.impl.KafkaPartitionDispatcher;
 
 /**
  * This interface defines listener which can be registered, to retrieve Kafka records returned from single poll cycle.
@@ -41,13 +42,22 @@ public interface KafkaListener {
      *
      * @param records       Kafka records
      * @param kafkaConsumer consumer on which poll is called upon
-     * @param listener      which control the flow of poll cycle
+     * @param listener      which gets notified once the records are processed, to control the flow of poll cycle
      * @param groupID       ID of the consumer group in which the consumer belongs
      */
     void onRecordsReceived(ConsumerRecords records,
                            KafkaConsumer kafkaConsumer,
                            String groupID,
-                           KafkaPollCycleFutureListener listener);
+                           CallableUnitCallback listener);
+
+    /**
+     * When the records are dispatched by partition, it will trigger invocation to this method once, before the first
+     * poll cycle. The records are then processed while the consumer is polled.
+     *
+     * @param kafkaConsumer       consumer on which poll is called upon
+     * @param partitionDispatcher dispatcher which runs the operations of the consumer from the polling thread
+     */
+    void onPartitionDispatchStarted(KafkaConsumer kafkaConsumer, KafkaPartitionDispatcher partitionDispatcher);
 
     /**
      * If there are errors, Kafka connector will trigger this method.
@@ -41,6 +41,7 @@ import java.util.Map;
 
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KAFKA_RESOURCE_ON_MESSAGE;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_PARTITION_DISPATCHER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getResourceParameters;
 
 /**
@@ -54,6 +55,7 @@ public class KafkaListenerImpl implements KafkaListener {
     private ObjectValue service;
     private ObjectValue listener;
     private ResponseCallback callback;
+    private volatile boolean dispatchByPartition = false;
 
     public KafkaListenerImpl(Strand strand, ObjectValue listener, ObjectValue service) {
         this.scheduler = strand.scheduler;
@@ -77,12 +79,26 @@ public class KafkaListenerImpl implements KafkaListener {
      */
     @Override
     public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId,
-                                  KafkaPollCycleFutureListener consumer) {
-        listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
+                                  CallableUnitCallback consumer) {
+        // Records dispatched by partition are received concurrently, after the consumer is set once.
+        if (!dispatchByPartition) {
+            listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
+        }
         executeResource(listener, consumer, records, groupId);
         KafkaMetricsUtil.reportConsume(listener, records);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionDispatchStarted(KafkaConsumer kafkaConsumer,
+                                           KafkaPartitionDispatcher partitionDispatcher) {
+        dispatchByPartition = true;
+        listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
+        listener.addNativeData(NATIVE_PARTITION_DISPATCHER, partitionDispatcher);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -103,7 +119,7 @@ public class KafkaListenerImpl implements KafkaListener {
         }
     }
 
-    private void executeResource(ObjectValue listener, KafkaPollCycleFutureListener consumer, ConsumerRecords records,
+    private void executeResource(ObjectValue listener, CallableUnitCallback consumer, ConsumerRecords records,
                                  String groupId) {
         if (ObserveUtils.isTracingEnabled()) {
             Map<String, Object> properties = getNewObserverContextInProperties(listener);
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.ballerinalang.messaging.kafka.observability.KafkaMetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+
+/**
+ * {@code KafkaPartitionDispatcher} dispatches the records of each partition retrieved in a poll cycle to a separate
+ * resource invocation, so that the partitions are processed in parallel while the next records are polled.
+ * <p>
+ * The records of a partition are dispatched once the previous records of the partition are processed, which keeps
+ * the order of the records within a partition. Polling is paused once the maximum number of polled batches are being
+ * processed. The offsets of the processed records are committed asynchronously, from the polling thread, as the Kafka
+ * consumer does not support multiple thread access. For the same reason, all the consumer operations requested by
+ * the resources are run from the polling thread, before the next poll, and a commit requested by a resource commits
+ * the offsets of the processed records rather than the position of the consumer.
+ */
+public class KafkaPartitionDispatcher implements ConsumerRebalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaPartitionDispatcher.class);
+
+    private static final String METRIC_RECORDS_LAG = "records-lag";
+    private static final String METRIC_TAG_TOPIC = "topic";
+    private static final String METRIC_TAG_PARTITION = "partition";
+    private static final CompletableFuture<Void> PROCESSED = CompletableFuture.completedFuture(null);
+
+    private final KafkaListener kafkaListener;
+    private final KafkaConsumer kafkaConsumer;
+    private final String groupId;
+    private final String serviceId;
+    private final String clientId;
+    private final String bootstrapServers;
+    private final int maxInFlightBatches;
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    // Offsets of the processed records, which are updated once the resource invocations complete.
+    private final Map<TopicPartition, OffsetAndMetadata> processedOffsets = new ConcurrentHashMap<>();
+    // Consumer operations requested by the resources, which are run from the polling thread.
+    private final Queue<ConsumerOperation> consumerOperations = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    // Following are only accessed from the polling thread.
+    private final Map<TopicPartition, CompletableFuture<Void>> lastDispatches = new HashMap<>();
+    private final Map<TopicPartition, Long> polledOffsets = new HashMap<>();
+    private final Map<TopicPartition, Long> committedOffsets = new HashMap<>();
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+
+    public KafkaPartitionDispatcher(KafkaListener kafkaListener, KafkaConsumer kafkaConsumer, String groupId,
+                                    String serviceId, String clientId, String bootstrapServers,
+                                    int maxInFlightBatches) {
+        this.kafkaListener = kafkaListener;
+        this.kafkaConsumer = kafkaConsumer;
+        this.groupId = groupId;
+        this.serviceId = serviceId;
+        this.clientId = clientId;
+        this.bootstrapServers = bootstrapServers;
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    /**
+     * Commits the offsets of the records processed since the last poll cycle, and pauses or resumes fetching the
+     * records depending on the number of polled batches being processed. This is called before each poll.
+     */
+    void beforePoll() {
+        runConsumerOperations();
+        commitAsync(takeProcessedOffsets());
+        if (inFlightBatches.get() >= maxInFlightBatches) {
+            // Partitions are paused rather than skipping the poll, to stay in the consumer group. The partitions
+            // paused by the resources are not resumed along with them.
+            Set<TopicPartition> partitions = new HashSet<>(this.kafkaConsumer.assignment());
+            partitions.removeAll(this.kafkaConsumer.paused());
+            this.kafkaConsumer.pause(partitions);
+            pausedPartitions.addAll(partitions);
+        } else if (!pausedPartitions.isEmpty()) {
+            pausedPartitions.retainAll(this.kafkaConsumer.assignment());
+            this.kafkaConsumer.resume(pausedPartitions);
+            pausedPartitions.clear();
+        }
+        reportMetrics();
+    }
+
+    /**
+     * Dispatches the records of each partition, after the previous records of the same partition are processed.
+     *
+     * @param consumerRecords records retrieved in a poll cycle
+     */
+    void dispatch(ConsumerRecords consumerRecords) {
+        Set<TopicPartition> partitions = consumerRecords.partitions();
+        AtomicInteger remainingPartitions = new AtomicInteger(partitions.size());
+        inFlightBatches.incrementAndGet();
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord> partitionRecords = consumerRecords.records(partition);
+            long nextOffset = partitionRecords.get(partitionRecords.size() - 1).offset() + 1;
+            committedOffsets.putIfAbsent(partition, partitionRecords.get(0).offset());
+            polledOffsets.put(partition, nextOffset);
+
+            ConsumerRecords batch = new ConsumerRecords(Collections.singletonMap(partition, partitionRecords));
+            CompletableFuture<Void> dispatched = lastDispatches.getOrDefault(partition, PROCESSED)
+                    .thenCompose(ignored -> dispatchPartition(batch));
+            dispatched.thenRun(() -> {
+                updateProcessedOffset(partition, new OffsetAndMetadata(nextOffset));
+                if (remainingPartitions.decrementAndGet() == 0) {
+                    inFlightBatches.decrementAndGet();
+                }
+            });
+            lastDispatches.put(partition, dispatched);
+        }
+    }
+
+    /**
+     * Submits an operation of the consumer, requested while the records are processed. The operation is run from the
+     * polling thread before the next poll, and its result is returned to the blocked strand through the callback.
+     *
+     * @param operation operation of the consumer, which returns the result of the Ballerina function
+     * @param callback  callback of the strand which requested the operation
+     */
+    public void submit(Function<KafkaConsumer, Object> operation, NonBlockingCallback callback) {
+        ConsumerOperation consumerOperation = new ConsumerOperation(operation, callback);
+        consumerOperations.add(consumerOperation);
+        // Operations submitted while closing are not run by the polling thread anymore.
+        if (closed.get() && consumerOperations.remove(consumerOperation)) {
+            consumerOperation.reject();
+        }
+    }
+
+    /**
+     * Commits the offsets of the processed records synchronously. The records polled ahead are not committed, as they
+     * are yet to be processed. This is run from the polling thread, as an operation of the consumer.
+     */
+    public void commitProcessedOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = takeProcessedOffsets();
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            this.kafkaConsumer.commitSync(offsets);
+        } catch (KafkaException e) {
+            // The offsets are committed in the next poll cycle instead.
+            offsets.forEach(this::updateProcessedOffset);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the rebalance listener to subscribe the consumer with from the resources, which commits the offsets of
+     * the processed records of the revoked partitions before notifying the given listener.
+     *
+     * @param rebalanceListener listener of the resources, or null if there is none
+     * @return listener of the rebalances of the consumer
+     */
+    public ConsumerRebalanceListener withRebalanceListener(ConsumerRebalanceListener rebalanceListener) {
+        if (rebalanceListener == null) {
+            return this;
+        }
+        return new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                KafkaPartitionDispatcher.this.onPartitionsRevoked(partitions);
+                rebalanceListener.onPartitionsRevoked(partitions);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                KafkaPartitionDispatcher.this.onPartitionsAssigned(partitions);
+                rebalanceListener.onPartitionsAssigned(partitions);
+            }
+        };
+    }
+
+    /**
+     * Rejects the consumer operations which are not run yet, as the consumer is no longer polled. This is called once
+     * the listener is stopped.
+     */
+    void close() {
+        closed.set(true);
+        ConsumerOperation consumerOperation;
+        while ((consumerOperation = consumerOperations.poll()) != null) {
+            consumerOperation.reject();
+        }
+    }
+
+    private void runConsumerOperations() {
+        ConsumerOperation consumerOperation;
+        while ((consumerOperation = consumerOperations.poll()) != null) {
+            consumerOperation.run(kafkaConsumer);
+        }
+    }
+
+    private CompletableFuture<Void> dispatchPartition(ConsumerRecords batch) {
+        CompletableFuture<Void> processed = new CompletableFuture<>();
+        try {
+            this.kafkaListener.onRecordsReceived(batch, kafkaConsumer, groupId,
+                                                 new PartitionCycleListener(processed, serviceId));
+        } catch (RuntimeException e) {
+            // The records are skipped as the resource is not invoked, so that the partition is not blocked.
+            this.kafkaListener.onError(e);
+            processed.complete(null);
+        }
+        return processed;
+    }
+
+    private void updateProcessedOffset(TopicPartition partition, OffsetAndMetadata offset) {
+        processedOffsets.merge(partition, offset,
+                               (previous, next) -> previous.offset() > next.offset() ? previous : next);
+    }
+
+    /**
+     * Removes the offsets of the processed records of the assigned partitions to be committed.
+     */
+    private Map<TopicPartition, OffsetAndMetadata> takeProcessedOffsets() {
+        if (processedOffsets.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Set<TopicPartition> assignment = this.kafkaConsumer.assignment();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> processed : processedOffsets.entrySet()) {
+            TopicPartition partition = processed.getKey();
+            // Offsets updated in the meantime are committed in the next poll cycle.
+            processedOffsets.remove(partition, processed.getValue());
+            // Offsets of the partitions which are revoked can no longer be committed by this consumer.
+            if (assignment.contains(partition)) {
+                offsets.put(partition, processed.getValue());
+                committedOffsets.put(partition, processed.getValue().offset());
+            }
+        }
+        return offsets;
+    }
+
+    private void commitAsync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+        this.kafkaConsumer.commitAsync(offsets, (committed, exception) -> {
+            if (exception != null) {
+                this.kafkaListener.onError(exception);
+            }
+        });
+    }
+
+    /**
+     * Commits the offsets of the processed records of the partitions being revoked, before the partitions are
+     * assigned to another consumer. This is called from the polling thread, during the poll.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = processedOffsets.remove(partition);
+            if (offset != null) {
+                offsets.put(partition, offset);
+            }
+            polledOffsets.remove(partition);
+            committedOffsets.remove(partition);
+            pausedPartitions.remove(partition);
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            this.kafkaConsumer.commitSync(offsets);
+        } catch (KafkaException e) {
+            this.kafkaListener.onError(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        // Records of the assigned partitions are fetched from the committed offsets.
+    }
+
+    private void reportMetrics() {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        KafkaMetricsUtil.reportInFlightBatches(clientId, bootstrapServers, inFlightBatches.get());
+        // Records which are polled but not processed, and the records which are yet to be polled.
+        Map<String, Double> topicLags = new HashMap<>();
+        for (Map.Entry<TopicPartition, Long> polled : polledOffsets.entrySet()) {
+            long processedOffset = committedOffsets.getOrDefault(polled.getKey(), polled.getValue());
+            topicLags.merge(polled.getKey().topic(), (double) (polled.getValue() - processedOffset), Double::sum);
+        }
+        Map<MetricName, ? extends Metric> consumerMetrics = this.kafkaConsumer.metrics();
+        for (Map.Entry<MetricName, ? extends Metric> metric : consumerMetrics.entrySet()) {
+            MetricName metricName = metric.getKey();
+            if (METRIC_RECORDS_LAG.equals(metricName.name()) && metricName.tags().containsKey(METRIC_TAG_PARTITION)) {
+                Object lag = metric.getValue().metricValue();
+                if (lag instanceof Double && !((Double) lag).isNaN()) {
+                    topicLags.merge(metricName.tags().get(METRIC_TAG_TOPIC), (Double) lag, Double::sum);
+                }
+            }
+        }
+        for (Map.Entry<String, Double> topicLag : topicLags.entrySet()) {
+            KafkaMetricsUtil.reportLag(clientId, bootstrapServers, topicLag.getKey(), topicLag.getValue());
+        }
+    }
+
+    /**
+     * {@code ConsumerOperation} is an operation of the consumer requested by a resource, which is run from the polling
+     * thread.
+     */
+    private static class ConsumerOperation {
+
+        private final Function<KafkaConsumer, Object> operation;
+        private final NonBlockingCallback callback;
+
+        ConsumerOperation(Function<KafkaConsumer, Object> operation, NonBlockingCallback callback) {
+            this.operation = operation;
+            this.callback = callback;
+        }
+
+        void run(KafkaConsumer kafkaConsumer) {
+            try {
+                callback.setReturnValues(operation.apply(kafkaConsumer));
+            } catch (RuntimeException e) {
+                // The polling thread keeps polling, regardless of the failures of the operations.
+                callback.setReturnValues(createKafkaError("Failed to run the consumer operation: " + e.getMessage(),
+                                                          CONSUMER_ERROR));
+            }
+            callback.notifySuccess();
+        }
+
+        void reject() {
+            callback.notifyFailure(createKafkaError("Kafka listener is stopped", CONSUMER_ERROR));
+        }
+    }
+
+    /**
+     * {@code PartitionCycleListener} gets notified once the records of a partition are processed by the resource.
+     */
+    private static class PartitionCycleListener implements CallableUnitCallback {
+
+        private final CompletableFuture<Void> processed;
+        private final String serviceId;
+
+        PartitionCycleListener(CompletableFuture<Void> processed, String serviceId) {
+            this.processed = processed;
+            this.serviceId = serviceId;
+        }
+
+        @Override
+        public void notifySuccess() {
+            processed.complete(null);
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            // The records are considered processed as in the other dispatch modes, to move on with the partition.
+            logger.error("Ballerina engine has completed resource invocation with exception for service " +
+                                 serviceId + ". Continuing with the next records of the partition: " +
+                                 error.stringValue());
+            processed.complete(null);
+        }
+    }
+}
@@ -40,6 +40,9 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.BOOTSTRAP_SERVERS;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getClientIdFromProperties;
+
 /**
  * {@code KafkaRecordConsumer} This class represents Runnable flow which periodically poll the remote broker and fetch
  * Kafka records.
@@ -49,11 +52,13 @@ public class KafkaRecordConsumer {
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaRecordConsumer.class);
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
 
     private KafkaConsumer kafkaConsumer;
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
     private boolean decoupleProcessing = true;
+    private KafkaPartitionDispatcher partitionDispatcher;
     private String groupId;
     private KafkaListener kafkaListener;
     private String serviceId;
@@ -71,10 +76,27 @@ public class KafkaRecordConsumer {
         } else {
             this.kafkaConsumer = kafkaConsumer;
         }
+        this.kafkaListener = kafkaListener;
+        this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
+        if (configParams.get(KafkaConstants.ALIAS_DISPATCH_BY_PARTITION) != null) {
+            int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+            if (configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES) != null) {
+                maxInFlightBatches = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES);
+            }
+            this.partitionDispatcher = new KafkaPartitionDispatcher(kafkaListener, this.kafkaConsumer, groupId,
+                                                                    serviceId, getClientIdFromProperties(configParams),
+                                                                    configParams.getProperty(BOOTSTRAP_SERVERS),
+                                                                    maxInFlightBatches);
+            this.kafkaListener.onPartitionDispatchStarted(this.kafkaConsumer, this.partitionDispatcher);
+        }
         List<String> topics = (ArrayList<String>) configParams.get(KafkaConstants.ALIAS_TOPICS);
         // Subscribe Kafka Consumer to given topics.
-        this.kafkaConsumer.subscribe(topics);
-        this.kafkaListener = kafkaListener;
+        if (Objects.isNull(this.partitionDispatcher)) {
+            this.kafkaConsumer.subscribe(topics);
+        } else {
+            // Processed offsets of the revoked partitions are committed during the rebalance.
+            this.kafkaConsumer.subscribe(topics, this.partitionDispatcher);
+        }
         if (configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT) != null) {
             this.pollingTimeout = Duration.ofMillis((Integer) configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT));
         }
@@ -88,7 +110,6 @@ public class KafkaRecordConsumer {
         if (configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING) != null) {
             this.decoupleProcessing = (Boolean) configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING);
         }
-        this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
     }
 
     private void poll() {
@@ -97,6 +118,9 @@ public class KafkaRecordConsumer {
             try {
                 // Make thread-safe as kafka does not support multiple thread access
                 if (!closed.get()) {
+                    if (Objects.nonNull(this.partitionDispatcher)) {
+                        this.partitionDispatcher.beforePoll();
+                    }
                     recordsRetrieved = this.kafkaConsumer.poll(this.pollingTimeout);
                 }
             } catch (WakeupException e) {
@@ -120,6 +144,12 @@ public class KafkaRecordConsumer {
 
     private void processRetrievedRecords(ConsumerRecords consumerRecords) {
         if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
+            // When dispatching by partition, the records of each partition are dispatched once the previous records
+            // of the partition are processed, without suspending the poll cycle.
+            if (Objects.nonNull(this.partitionDispatcher)) {
+                this.partitionDispatcher.dispatch(consumerRecords);
+                return;
+            }
             // When decoupleProcessing == 'true' Kafka records set will be dispatched and processed in
             // Parallel threads.
             // Otherwise dispatching and processing will have single threaded semantics.
@@ -169,5 +199,8 @@ public class KafkaRecordConsumer {
         this.kafkaConsumer.wakeup();
         this.kafkaConsumer.close();
         this.executorService.shutdown();
+        if (Objects.nonNull(this.partitionDispatcher)) {
+            this.partitionDispatcher.close();
+        }
     }
 }
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.messaging.kafka.impl;
 
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
 import org.ballerinalang.messaging.kafka.api.KafkaListener;
@@ -57,10 +58,32 @@ public class KafkaServerConnectorImpl implements KafkaServerConnector {
             throw new KafkaConnectorException(
                     "Number of Concurrent consumers should be a positive integer value greater than zero.");
         }
+        if (configParams.get(KafkaConstants.ALIAS_DISPATCH_BY_PARTITION) != null) {
+            validatePartitionDispatchConfigs(configParams);
+        }
         this.configParams = configParams;
         this.kafkaConsumer = kafkaConsumer;
     }
 
+    private void validatePartitionDispatchConfigs(Properties configParams) throws KafkaConnectorException {
+        // The records of each partition are already processed in parallel, by a single consumer.
+        if (this.numOfConcurrentConsumers > 1) {
+            throw new KafkaConnectorException(
+                    "Concurrent consumers are not supported when dispatching the records by partition.");
+        }
+        Object maxInFlightBatches = configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES);
+        if (maxInFlightBatches != null && (Integer) maxInFlightBatches <= 0) {
+            throw new KafkaConnectorException(
+                    "Maximum number of in-flight batches should be a positive integer value greater than zero.");
+        }
+        // Offsets are committed once the records are processed, hence the offsets should not be auto committed.
+        Object autoCommit = configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
+        if (autoCommit == null || (Boolean) autoCommit) {
+            throw new KafkaConnectorException(
+                    "Auto commit should be disabled when dispatching the records by partition.");
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -54,6 +54,7 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getDefaultApiTi
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntFromLong;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.processKafkaConsumerConfig;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native methods to handle the connection between Ballerina Kafka Consumer and the Kafka Broker.
@@ -72,25 +73,27 @@ public class BrokerConnection {
      */
     public static Object close(ObjectValue consumerObject, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
-        try {
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) { // API timeout should given the priority over the default value
-                closeWithDuration(kafkaConsumer, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                closeWithDuration(kafkaConsumer, defaultApiTimeout);
-            } else {
-                kafkaConsumer.close();
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                // API timeout should given the priority over the default value
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    closeWithDuration(kafkaConsumer, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    closeWithDuration(kafkaConsumer, defaultApiTimeout);
+                } else {
+                    kafkaConsumer.close();
+                }
+                KafkaMetricsUtil.reportConsumerClose(consumerObject);
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_CLOSE);
+                return createKafkaError("Failed to close the connection from Kafka server: " + e.getMessage(),
+                                        CONSUMER_ERROR);
             }
-            KafkaMetricsUtil.reportConsumerClose(consumerObject);
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_CLOSE);
-            return createKafkaError("Failed to close the connection from Kafka server: " + e.getMessage(),
-                                    CONSUMER_ERROR);
-        }
-        return null;
+            return null;
+        });
     }
 
     /**
@@ -135,17 +138,18 @@ public class BrokerConnection {
      */
     public static Object pause(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
 
-        try {
-            kafkaConsumer.pause(partitionList);
-        } catch (IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_PAUSE);
-            return createKafkaError("Failed to pause topic partitions for the consumer: " + e.getMessage(),
-                                    CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.pause(partitionList);
+            } catch (IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_PAUSE);
+                return createKafkaError("Failed to pause topic partitions for the consumer: " + e.getMessage(),
+                                        CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -157,17 +161,18 @@ public class BrokerConnection {
      */
     public static Object resume(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
 
-        try {
-            kafkaConsumer.resume(partitionList);
-        } catch (IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_RESUME);
-            return createKafkaError("Failed to resume topic partitions for the consumer: " + e.getMessage(),
-                                    CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.resume(partitionList);
+            } catch (IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_RESUME);
+                return createKafkaError("Failed to resume topic partitions for the consumer: " + e.getMessage(),
+                                        CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     private static void closeWithDuration(KafkaConsumer kafkaConsumer, long timeout) {
@@ -25,6 +25,7 @@ import org.apache.kafka.common.TopicPartition;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BArray;
+import org.ballerinalang.messaging.kafka.impl.KafkaPartitionDispatcher;
 import org.ballerinalang.messaging.kafka.observability.KafkaMetricsUtil;
 import org.ballerinalang.messaging.kafka.observability.KafkaObservabilityConstants;
 import org.ballerinalang.messaging.kafka.observability.KafkaTracingUtil;
@@ -33,17 +34,19 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DURATION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.DURATION_UNDEFINED_VALUE;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_PARTITION_DISPATCHER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getDefaultApiTimeout;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntFromLong;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getPartitionToMetadataMap;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native methods to handle ballerina kafka consumer commits.
@@ -53,21 +56,29 @@ public class Commit {
     private static final Logger logger = LoggerFactory.getLogger(Commit.class);
 
     /**
-     * Commit messages for the consumer.
+     * Commit messages for the consumer. When the records are dispatched by partition, the consumer is polled ahead of
+     * the records being processed, hence the offsets of the processed records are committed instead of the position.
      *
      * @param consumerObject Kafka consumer object from ballerina.
      * @return {@code ErrorValue}, if there's any error, null otherwise.
      */
     public static Object commit(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
-        try {
-            kafkaConsumer.commitSync();
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_COMMIT);
-            return createKafkaError("Failed to commit offsets: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        KafkaPartitionDispatcher partitionDispatcher =
+                (KafkaPartitionDispatcher) consumerObject.getNativeData(NATIVE_PARTITION_DISPATCHER);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                if (Objects.isNull(partitionDispatcher)) {
+                    kafkaConsumer.commitSync();
+                } else {
+                    partitionDispatcher.commitProcessedOffsets();
+                }
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_COMMIT);
+                return createKafkaError("Failed to commit offsets: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -80,25 +91,27 @@ public class Commit {
      */
     public static Object commitOffset(ObjectValue consumerObject, BArray offsets, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
 
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
         Map<TopicPartition, OffsetAndMetadata> partitionToMetadataMap = getPartitionToMetadataMap(offsets);
-        try {
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) { // API timeout should given the priority over the default value
-                consumerCommitSyncWithDuration(kafkaConsumer, partitionToMetadataMap, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                consumerCommitSyncWithDuration(kafkaConsumer, partitionToMetadataMap, defaultApiTimeout);
-            } else {
-                kafkaConsumer.commitSync(partitionToMetadataMap);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                // API timeout should given the priority over the default value
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    consumerCommitSyncWithDuration(kafkaConsumer, partitionToMetadataMap, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    consumerCommitSyncWithDuration(kafkaConsumer, partitionToMetadataMap, defaultApiTimeout);
+                } else {
+                    kafkaConsumer.commitSync(partitionToMetadataMap);
+                }
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_COMMIT);
+                return createKafkaError("Failed to commit the offset: " + e.getMessage(), CONSUMER_ERROR);
             }
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_COMMIT);
-            return createKafkaError("Failed to commit the offset: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+            return null;
+        });
     }
 
     private static void consumerCommitSyncWithDuration(KafkaConsumer consumer,
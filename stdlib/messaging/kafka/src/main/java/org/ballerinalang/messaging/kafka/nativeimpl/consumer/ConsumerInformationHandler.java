@@ -45,7 +45,6 @@ import java.util.Set;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DURATION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.DURATION_UNDEFINED_VALUE;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.UNCHECKED;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
@@ -54,6 +53,7 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntFromLong;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionRecord;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.populateTopicPartitionRecord;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native methods to handle ballerina kafka consumer subscriptions.
@@ -72,15 +72,16 @@ public class ConsumerInformationHandler {
      */
     public static Object assign(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         List<TopicPartition> partitions = getTopicPartitionList(topicPartitions, logger);
-        try {
-            kafkaConsumer.assign(partitions);
-        } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_ASSIGN);
-            return createKafkaError("Failed to assign topics for the consumer: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.assign(partitions);
+            } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_ASSIGN);
+                return createKafkaError("Failed to assign topics for the consumer: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -91,21 +92,24 @@ public class ConsumerInformationHandler {
      */
     public static Object getAssignment(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         BArray topicPartitionArray =
                 BValueCreator.createArrayValue(new BArrayType(getTopicPartitionRecord().getType()));
-        try {
-            Set<TopicPartition> topicPartitions = kafkaConsumer.assignment();
-            for (TopicPartition partition : topicPartitions) {
-                MapValue<String, Object> tp = populateTopicPartitionRecord(partition.topic(), partition.partition());
-                topicPartitionArray.append(tp);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                Set<TopicPartition> topicPartitions = kafkaConsumer.assignment();
+                for (TopicPartition partition : topicPartitions) {
+                    MapValue<String, Object> tp = populateTopicPartitionRecord(partition.topic(),
+                                                                               partition.partition());
+                    topicPartitionArray.append(tp);
+                }
+                return topicPartitionArray;
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_ASSIGNMENT);
+                return createKafkaError("Failed to retrieve assignment for the consumer: " + e.getMessage(),
+                                        CONSUMER_ERROR);
             }
-            return topicPartitionArray;
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_GET_ASSIGNMENT);
-            return createKafkaError("Failed to retrieve assignment for the consumer: " + e.getMessage(),
-                                    CONSUMER_ERROR);
-        }
+        });
     }
 
     /**
@@ -117,24 +121,25 @@ public class ConsumerInformationHandler {
      */
     public static Object getAvailableTopics(ObjectValue consumerObject, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
-        Map<String, List<PartitionInfo>> topics;
-        try {
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) {
-                topics = getAvailableTopicWithDuration(kafkaConsumer, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                topics = getAvailableTopicWithDuration(kafkaConsumer, defaultApiTimeout);
-            } else {
-                topics = kafkaConsumer.listTopics();
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            Map<String, List<PartitionInfo>> topics;
+            try {
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    topics = getAvailableTopicWithDuration(kafkaConsumer, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    topics = getAvailableTopicWithDuration(kafkaConsumer, defaultApiTimeout);
+                } else {
+                    topics = kafkaConsumer.listTopics();
+                }
+                return getBArrayFromMap(topics);
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_GET_TOPICS);
+                return createKafkaError("Failed to retrieve available topics: " + e.getMessage(), CONSUMER_ERROR);
             }
-            return getBArrayFromMap(topics);
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_GET_TOPICS);
-            return createKafkaError("Failed to retrieve available topics: " + e.getMessage(), CONSUMER_ERROR);
-        }
+        });
     }
 
     /**
@@ -145,21 +150,23 @@ public class ConsumerInformationHandler {
      */
     public static Object getPausedPartitions(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         BArray topicPartitionArray =
                 BValueCreator.createArrayValue(new BArrayType(getTopicPartitionRecord().getType()));
-        try {
-            Set<TopicPartition> pausedPartitions = kafkaConsumer.paused();
-            for (TopicPartition partition : pausedPartitions) {
-                MapValue<String, Object> tp = populateTopicPartitionRecord(partition.topic(), partition.partition());
-                topicPartitionArray.append(tp);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                Set<TopicPartition> pausedPartitions = kafkaConsumer.paused();
+                for (TopicPartition partition : pausedPartitions) {
+                    MapValue<String, Object> tp = populateTopicPartitionRecord(partition.topic(),
+                                                                               partition.partition());
+                    topicPartitionArray.append(tp);
+                }
+                return topicPartitionArray;
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_PAUSED_PARTITIONS);
+                return createKafkaError("Failed to retrieve paused partitions: " + e.getMessage(), CONSUMER_ERROR);
             }
-            return topicPartitionArray;
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_PAUSED_PARTITIONS);
-            return createKafkaError("Failed to retrieve paused partitions: " + e.getMessage(), CONSUMER_ERROR);
-        }
+        });
     }
 
     /**
@@ -172,34 +179,35 @@ public class ConsumerInformationHandler {
      */
     public static Object getTopicPartitions(ObjectValue consumerObject, String topic, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
 
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
 
-        try {
-            List<PartitionInfo> partitionInfoList;
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) {
-                partitionInfoList = getPartitionInfoList(kafkaConsumer, topic, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                partitionInfoList = getPartitionInfoList(kafkaConsumer, topic, defaultApiTimeout);
-            } else {
-                partitionInfoList = kafkaConsumer.partitionsFor(topic);
-            }
-            BArray topicPartitionArray =
-                    BValueCreator.createArrayValue(new BArrayType(getTopicPartitionRecord().getType()));
-            for (PartitionInfo info : partitionInfoList) {
-                MapValue<String, Object> partition = populateTopicPartitionRecord(info.topic(), info.partition());
-                topicPartitionArray.append(partition);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                List<PartitionInfo> partitionInfoList;
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    partitionInfoList = getPartitionInfoList(kafkaConsumer, topic, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    partitionInfoList = getPartitionInfoList(kafkaConsumer, topic, defaultApiTimeout);
+                } else {
+                    partitionInfoList = kafkaConsumer.partitionsFor(topic);
+                }
+                BArray topicPartitionArray =
+                        BValueCreator.createArrayValue(new BArrayType(getTopicPartitionRecord().getType()));
+                for (PartitionInfo info : partitionInfoList) {
+                    MapValue<String, Object> partition = populateTopicPartitionRecord(info.topic(), info.partition());
+                    topicPartitionArray.append(partition);
+                }
+                return topicPartitionArray;
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_TOPIC_PARTITIONS);
+                return KafkaUtils.createKafkaError("Failed to retrieve topic partitions for the consumer: "
+                                                           + e.getMessage(), CONSUMER_ERROR);
             }
-            return topicPartitionArray;
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_TOPIC_PARTITIONS);
-            return KafkaUtils.createKafkaError("Failed to retrieve topic partitions for the consumer: "
-                                                       + e.getMessage(), CONSUMER_ERROR);
-        }
+        });
     }
 
     /**
@@ -210,22 +218,23 @@ public class ConsumerInformationHandler {
      */
     public static Object getSubscription(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
-
-        try {
-            Set<String> subscriptions = kafkaConsumer.subscription();
-            BArray arrayValue = BValueCreator.createArrayValue(stringArrayType);
-            if (!subscriptions.isEmpty()) {
-                for (String subscription : subscriptions) {
-                    arrayValue.append(subscription);
+
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                Set<String> subscriptions = kafkaConsumer.subscription();
+                BArray arrayValue = BValueCreator.createArrayValue(stringArrayType);
+                if (!subscriptions.isEmpty()) {
+                    for (String subscription : subscriptions) {
+                        arrayValue.append(subscription);
+                    }
                 }
+                return arrayValue;
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_SUBSCRIPTION);
+                return createKafkaError("Failed to retrieve subscribed topics: " + e.getMessage(), CONSUMER_ERROR);
             }
-            return arrayValue;
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_SUBSCRIPTION);
-            return createKafkaError("Failed to retrieve subscribed topics: " + e.getMessage(), CONSUMER_ERROR);
-        }
+        });
     }
 
     private static Map<String, List<PartitionInfo>> getAvailableTopicWithDuration(KafkaConsumer kafkaConsumer,
@@ -45,7 +45,6 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTI
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TOPIC;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.DURATION_UNDEFINED_VALUE;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getDefaultApiTimeout;
@@ -54,6 +53,7 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getPartitionOff
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getPartitionOffsetRecord;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.populatePartitionOffsetRecord;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native methods to get different offset values for the ballerina kafka consumer.
@@ -72,27 +72,28 @@ public class GetOffsets {
      */
     public static Object getBeginningOffsets(ObjectValue consumerObject, BArray topicPartitions, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
         List<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
-        Map<TopicPartition, Long> offsetMap;
-        try {
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) {
-                offsetMap = getBeginningOffsetsWithDuration(kafkaConsumer, partitionList, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                offsetMap = getBeginningOffsetsWithDuration(kafkaConsumer, partitionList, defaultApiTimeout);
-            } else {
-                offsetMap = kafkaConsumer.beginningOffsets(partitionList);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            Map<TopicPartition, Long> offsetMap;
+            try {
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    offsetMap = getBeginningOffsetsWithDuration(kafkaConsumer, partitionList, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    offsetMap = getBeginningOffsetsWithDuration(kafkaConsumer, partitionList, defaultApiTimeout);
+                } else {
+                    offsetMap = kafkaConsumer.beginningOffsets(partitionList);
+                }
+                return getPartitionOffsetArrayFromOffsetMap(offsetMap);
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_BEG_OFFSETS);
+                return createKafkaError("Failed to retrieve offsets for the topic partitions: " + e.getMessage(),
+                                        CONSUMER_ERROR);
             }
-            return getPartitionOffsetArrayFromOffsetMap(offsetMap);
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_BEG_OFFSETS);
-            return createKafkaError("Failed to retrieve offsets for the topic partitions: " + e.getMessage(),
-                                    CONSUMER_ERROR);
-        }
+        });
     }
 
     /**
@@ -106,7 +107,6 @@ public class GetOffsets {
     public static Object getCommittedOffset(ObjectValue consumerObject, MapValue<String, Object> topicPartition,
                                             long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
@@ -114,26 +114,28 @@ public class GetOffsets {
         Long partition = topicPartition.getIntValue(ALIAS_PARTITION);
         TopicPartition tp = new TopicPartition(topic, getIntFromLong(partition, logger, ALIAS_PARTITION));
 
-        try {
-            OffsetAndMetadata offsetAndMetadata;
-            MapValue<String, Object> offset = new MapValueImpl<>(getPartitionOffsetRecord().getType());
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) {
-                offsetAndMetadata = getOffsetAndMetadataWithDuration(kafkaConsumer, tp, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                offsetAndMetadata = getOffsetAndMetadataWithDuration(kafkaConsumer, tp, defaultApiTimeout);
-            } else {
-                offsetAndMetadata = kafkaConsumer.committed(tp);
-            }
-            if (Objects.isNull(offsetAndMetadata)) {
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                OffsetAndMetadata offsetAndMetadata;
+                MapValue<String, Object> offset = new MapValueImpl<>(getPartitionOffsetRecord().getType());
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    offsetAndMetadata = getOffsetAndMetadataWithDuration(kafkaConsumer, tp, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    offsetAndMetadata = getOffsetAndMetadataWithDuration(kafkaConsumer, tp, defaultApiTimeout);
+                } else {
+                    offsetAndMetadata = kafkaConsumer.committed(tp);
+                }
+                if (Objects.isNull(offsetAndMetadata)) {
+                    return offset;
+                }
+                offset = populatePartitionOffsetRecord(topicPartition, offsetAndMetadata.offset());
                 return offset;
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_COMMIT_OFFSET);
+                return createKafkaError("Failed to retrieve committed offsets: " + e.getMessage(), CONSUMER_ERROR);
             }
-            offset = populatePartitionOffsetRecord(topicPartition, offsetAndMetadata.offset());
-            return offset;
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_COMMIT_OFFSET);
-            return createKafkaError("Failed to retrieve committed offsets: " + e.getMessage(), CONSUMER_ERROR);
-        }
+        });
     }
 
     /**
@@ -146,29 +148,30 @@ public class GetOffsets {
      */
     public static Object getEndOffsets(ObjectValue consumerObject, BArray topicPartitions, long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
-        Map<TopicPartition, Long> offsetMap;
-
-        try {
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) {
-                offsetMap = getEndOffsetsWithDuration(kafkaConsumer, partitionList, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                offsetMap = getEndOffsetsWithDuration(kafkaConsumer, partitionList, defaultApiTimeout);
-            } else {
-                offsetMap = kafkaConsumer.endOffsets(partitionList);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            Map<TopicPartition, Long> offsetMap;
+
+            try {
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    offsetMap = getEndOffsetsWithDuration(kafkaConsumer, partitionList, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    offsetMap = getEndOffsetsWithDuration(kafkaConsumer, partitionList, defaultApiTimeout);
+                } else {
+                    offsetMap = kafkaConsumer.endOffsets(partitionList);
+                }
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_END_OFFSETS);
+                return createKafkaError("Failed to retrieve end offsets for the consumer: " + e.getMessage(),
+                                        CONSUMER_ERROR);
             }
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_END_OFFSETS);
-            return createKafkaError("Failed to retrieve end offsets for the consumer: " + e.getMessage(),
-                                    CONSUMER_ERROR);
-        }
-
-        return getPartitionOffsetArrayFromOffsetMap(offsetMap);
+
+            return getPartitionOffsetArrayFromOffsetMap(offsetMap);
+        });
     }
 
     /**
@@ -182,7 +185,6 @@ public class GetOffsets {
     public static Object getPositionOffset(ObjectValue consumerObject, MapValue<String, Object> topicPartition,
                                            long duration) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
         int defaultApiTimeout = getDefaultApiTimeout(consumerProperties);
         int apiTimeout = getIntFromLong(duration, logger, ALIAS_DURATION);
@@ -190,21 +192,23 @@ public class GetOffsets {
         Long partition = topicPartition.getIntValue(ALIAS_PARTITION);
         TopicPartition tp = new TopicPartition(topic, getIntFromLong(partition, logger, ALIAS_PARTITION));
 
-        try {
-            long position;
-            if (apiTimeout > DURATION_UNDEFINED_VALUE) {
-                position = getPositionWithDuration(kafkaConsumer, tp, apiTimeout);
-            } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
-                position = getPositionWithDuration(kafkaConsumer, tp, defaultApiTimeout);
-            } else {
-                position = kafkaConsumer.position(tp);
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                long position;
+                if (apiTimeout > DURATION_UNDEFINED_VALUE) {
+                    position = getPositionWithDuration(kafkaConsumer, tp, apiTimeout);
+                } else if (defaultApiTimeout > DURATION_UNDEFINED_VALUE) {
+                    position = getPositionWithDuration(kafkaConsumer, tp, defaultApiTimeout);
+                } else {
+                    position = kafkaConsumer.position(tp);
+                }
+                return position;
+            } catch (IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_GET_POSITION_OFFSET);
+                return createKafkaError("Failed to retrieve position offset: " + e.getMessage(), CONSUMER_ERROR);
             }
-            return position;
-        } catch (IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_GET_POSITION_OFFSET);
-            return createKafkaError("Failed to retrieve position offset: " + e.getMessage(), CONSUMER_ERROR);
-        }
+        });
     }
 
     private static Map<TopicPartition, Long> getBeginningOffsetsWithDuration(KafkaConsumer consumer,
@@ -20,31 +20,26 @@ package org.ballerinalang.messaging.kafka.nativeimpl.consumer;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
 import org.ballerinalang.jvm.scheduling.Scheduler;
-import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BArray;
 import org.ballerinalang.jvm.values.api.BValueCreator;
-import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.ballerinalang.messaging.kafka.observability.KafkaMetricsUtil;
 import org.ballerinalang.messaging.kafka.observability.KafkaObservabilityConstants;
 import org.ballerinalang.messaging.kafka.observability.KafkaTracingUtil;
 
 import java.time.Duration;
 
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TOPIC;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_VALUE;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_KEY_DESERIALIZER_TYPE_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_VALUE_DESERIALIZER_TYPE_CONFIG;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getConsumerRecord;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.populateConsumerRecord;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native function polls the broker to retrieve messages within given timeout.
@@ -59,32 +54,30 @@ public class Poll {
      * @return Ballerina {@code ConsumerRecords[]} after the polling.
      */
     public static Object poll(ObjectValue consumerObject, long timeout) {
-        Strand strand = Scheduler.getStrand();
-        KafkaTracingUtil.traceResourceInvocation(strand, consumerObject);
-        NonBlockingCallback callback = new NonBlockingCallback(strand);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
+        KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
         String keyType = consumerObject.getStringValue(CONSUMER_KEY_DESERIALIZER_TYPE_CONFIG);
         String valueType = consumerObject.getStringValue(CONSUMER_VALUE_DESERIALIZER_TYPE_CONFIG);
         Duration duration = Duration.ofMillis(timeout);
-        BArray consumerRecordsArray = BValueCreator.createArrayValue(new BArrayType(getConsumerRecord().getType()));
-        try {
-            ConsumerRecords recordsRetrieved = kafkaConsumer.poll(duration);
-            if (!recordsRetrieved.isEmpty()) {
-                for (Object record : recordsRetrieved) {
-                    MapValue<String, Object> recordValue = populateConsumerRecord((ConsumerRecord) record, keyType,
-                                                                                  valueType);
-                    consumerRecordsArray.append(recordValue);
-                    KafkaMetricsUtil.reportConsume(consumerObject, recordValue.getStringValue(ALIAS_TOPIC),
-                                                   recordValue.get(ALIAS_VALUE));
+        MapValue<String, Object> consumerRecordType = getConsumerRecord();
+        BArray consumerRecordsArray = BValueCreator.createArrayValue(new BArrayType(consumerRecordType.getType()));
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                ConsumerRecords recordsRetrieved = kafkaConsumer.poll(duration);
+                if (!recordsRetrieved.isEmpty()) {
+                    for (Object record : recordsRetrieved) {
+                        ConsumerRecord kafkaRecord = (ConsumerRecord) record;
+                        MapValue<String, Object> recordValue = populateConsumerRecord(consumerRecordType, kafkaRecord,
+                                                                                      keyType, valueType);
+                        consumerRecordsArray.append(recordValue);
+                        KafkaMetricsUtil.reportConsume(consumerObject, kafkaRecord.topic(),
+                                                       kafkaRecord.serializedValueSize());
+                    }
                 }
+                return consumerRecordsArray;
+            } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_POLL);
+                return createKafkaError("Failed to poll from the Kafka server: " + e.getMessage(), CONSUMER_ERROR);
             }
-            callback.setReturnValues(consumerRecordsArray);
-        } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_POLL);
-            callback.notifyFailure(createKafkaError("Failed to poll from the Kafka server: " + e.getMessage(),
-                                                    CONSUMER_ERROR));
-        }
-        callback.notifySuccess();
-        return null;
+        });
     }
 }
@@ -18,7 +18,6 @@
 
 package org.ballerinalang.messaging.kafka.nativeimpl.consumer;
 
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.TopicPartition;
 import org.ballerinalang.jvm.scheduling.Scheduler;
@@ -35,10 +34,10 @@ import java.util.ArrayList;
 
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createTopicPartitionFromPartitionOffset;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native methods to handle ballerina kafka consumer seek operations.
@@ -56,17 +55,18 @@ public class Seek {
      */
     public static Object seek(ObjectValue consumerObject, MapValue<String, Object> partitionOffset) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         TopicPartition topicPartition = createTopicPartitionFromPartitionOffset(partitionOffset);
         Long offset = partitionOffset.getIntValue(ALIAS_OFFSET);
 
-        try {
-            kafkaConsumer.seek(topicPartition, offset);
-        } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SEEK);
-            return createKafkaError("Failed to seek the consumer: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.seek(topicPartition, offset);
+            } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SEEK);
+                return createKafkaError("Failed to seek the consumer: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -78,15 +78,17 @@ public class Seek {
      */
     public static Object seekToBeginning(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
-        try {
-            kafkaConsumer.seekToBeginning(partitionList);
-        } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SEEK_BEG);
-            return createKafkaError("Failed to seek the consumer to the beginning: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.seekToBeginning(partitionList);
+            } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SEEK_BEG);
+                return createKafkaError("Failed to seek the consumer to the beginning: " + e.getMessage(),
+                                        CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -98,14 +100,15 @@ public class Seek {
      */
     public static Object seekToEnd(ObjectValue consumerObject, BArray topicPartitions) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
-        try {
-            kafkaConsumer.seekToEnd(partitionList);
-        } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SEEK_END);
-            return createKafkaError("Failed to seek the consumer to the end: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.seekToEnd(partitionList);
+            } catch (IllegalStateException | IllegalArgumentException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SEEK_END);
+                return createKafkaError("Failed to seek the consumer to the end: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 }
@@ -19,7 +19,6 @@
 package org.ballerinalang.messaging.kafka.nativeimpl.consumer;
 
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.TopicPartition;
 import org.ballerinalang.jvm.scheduling.Scheduler;
@@ -30,7 +29,6 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BArray;
 import org.ballerinalang.jvm.values.api.BValueCreator;
-import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.ballerinalang.messaging.kafka.observability.KafkaMetricsUtil;
 import org.ballerinalang.messaging.kafka.observability.KafkaObservabilityConstants;
 import org.ballerinalang.messaging.kafka.observability.KafkaTracingUtil;
@@ -43,12 +41,13 @@ import java.util.Set;
 import java.util.regex.Pattern;
 
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
-import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getRebalanceListener;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getStringListFromStringBArray;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicNamesString;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionRecord;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.populateTopicPartitionRecord;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.runConsumerOperation;
 
 /**
  * Native methods to handle subscription of the ballerina kafka consumer.
@@ -65,18 +64,20 @@ public class SubscriptionHandler {
      */
     public static Object subscribe(ObjectValue consumerObject, BArray topics) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         List<String> topicsList = getStringListFromStringBArray(topics);
-        try {
-            kafkaConsumer.subscribe(topicsList);
-            Set<String> subscribedTopics = kafkaConsumer.subscription();
-            KafkaMetricsUtil.reportBulkSubscription(consumerObject, subscribedTopics);
-        } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SUBSCRIBE);
-            return createKafkaError("Failed to subscribe to the provided topics: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        console.println(KafkaConstants.SUBSCRIBED_TOPICS + getTopicNamesString(topicsList));
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.subscribe(topicsList, getRebalanceListener(consumerObject, null));
+                Set<String> subscribedTopics = kafkaConsumer.subscription();
+                KafkaMetricsUtil.reportBulkSubscription(consumerObject, subscribedTopics);
+            } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SUBSCRIBE);
+                return createKafkaError("Failed to subscribe to the provided topics: " + e.getMessage(),
+                                        CONSUMER_ERROR);
+            }
+            console.println(KafkaConstants.SUBSCRIBED_TOPICS + getTopicNamesString(topicsList));
+            return null;
+        });
     }
 
     /**
@@ -88,17 +89,18 @@ public class SubscriptionHandler {
      */
     public static Object subscribeToPattern(ObjectValue consumerObject, String topicRegex) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
-        try {
-            kafkaConsumer.subscribe(Pattern.compile(topicRegex));
-            Set<String> topicsList = kafkaConsumer.subscription();
-            KafkaMetricsUtil.reportBulkSubscription(consumerObject, topicsList);
-        } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_SUBSCRIBE_PATTERN);
-            return createKafkaError("Failed to unsubscribe from the topics: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.subscribe(Pattern.compile(topicRegex), getRebalanceListener(consumerObject, null));
+                Set<String> topicsList = kafkaConsumer.subscription();
+                KafkaMetricsUtil.reportBulkSubscription(consumerObject, topicsList);
+            } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_SUBSCRIBE_PATTERN);
+                return createKafkaError("Failed to unsubscribe from the topics: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -114,25 +116,23 @@ public class SubscriptionHandler {
                                                          FPValue onPartitionsRevoked, FPValue onPartitionsAssigned) {
         Strand strand = Scheduler.getStrand();
         KafkaTracingUtil.traceResourceInvocation(strand, consumerObject);
-        NonBlockingCallback callback = new NonBlockingCallback(strand);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         List<String> topicsList = getStringListFromStringBArray(topics);
         ConsumerRebalanceListener consumer = new SubscriptionHandler.KafkaRebalanceListener(strand, strand.scheduler,
                                                                                             onPartitionsRevoked,
                                                                                             onPartitionsAssigned,
                                                                                             consumerObject);
-        try {
-            kafkaConsumer.subscribe(topicsList, consumer);
-            Set<String> subscribedTopics = kafkaConsumer.subscription();
-            KafkaMetricsUtil.reportBulkSubscription(consumerObject, subscribedTopics);
-        } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject,
-                                                 KafkaObservabilityConstants.ERROR_TYPE_SUBSCRIBE_PARTITION_REBALANCE);
-            callback.notifyFailure(createKafkaError("Failed to subscribe the consumer: " + e.getMessage(),
-                                                    CONSUMER_ERROR));
-        }
-        callback.notifySuccess();
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                kafkaConsumer.subscribe(topicsList, getRebalanceListener(consumerObject, consumer));
+                Set<String> subscribedTopics = kafkaConsumer.subscription();
+                KafkaMetricsUtil.reportBulkSubscription(consumerObject, subscribedTopics);
+            } catch (IllegalArgumentException | IllegalStateException | KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(
+                        consumerObject, KafkaObservabilityConstants.ERROR_TYPE_SUBSCRIBE_PARTITION_REBALANCE);
+                return createKafkaError("Failed to subscribe the consumer: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -143,16 +143,18 @@ public class SubscriptionHandler {
      */
     public static Object unsubscribe(ObjectValue consumerObject) {
         KafkaTracingUtil.traceResourceInvocation(Scheduler.getStrand(), consumerObject);
-        KafkaConsumer kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
-        try {
-            Set<String> topics = kafkaConsumer.subscription();
-            kafkaConsumer.unsubscribe();
-            KafkaMetricsUtil.reportBulkUnsubscription(consumerObject, topics);
-        } catch (KafkaException e) {
-            KafkaMetricsUtil.reportConsumerError(consumerObject, KafkaObservabilityConstants.ERROR_TYPE_UNSUBSCRIBE);
-            return createKafkaError("Failed to unsubscribe the consumer: " + e.getMessage(), CONSUMER_ERROR);
-        }
-        return null;
+        return runConsumerOperation(consumerObject, kafkaConsumer -> {
+            try {
+                Set<String> topics = kafkaConsumer.subscription();
+                kafkaConsumer.unsubscribe();
+                KafkaMetricsUtil.reportBulkUnsubscription(consumerObject, topics);
+            } catch (KafkaException e) {
+                KafkaMetricsUtil.reportConsumerError(consumerObject,
+                                                     KafkaObservabilityConstants.ERROR_TYPE_UNSUBSCRIBE);
+                return createKafkaError("Failed to unsubscribe the consumer: " + e.getMessage(), CONSUMER_ERROR);
+            }
+            return null;
+        });
     }
 
     /**
@@ -234,6 +234,25 @@ public class KafkaMetricsUtil {
         reportConsume(observerContext, size);
     }
 
+    /**
+     * Reports a message consumption of a consumer, with the size of the message as received from the broker.
+     *
+     * @param consumerObject Consumer object.
+     * @param topic          Subject that the consumer receives the message from.
+     * @param size           Size in bytes of the serialized value of the received Kafka record.
+     */
+    public static void reportConsume(ObjectValue consumerObject, String topic, int size) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_CONSUMER,
+                                                                        KafkaUtils.getClientId(consumerObject),
+                                                                        KafkaUtils.getBootstrapServers(consumerObject),
+                                                                        topic);
+        // A record without a value has no serialized size.
+        reportConsume(observerContext, Math.max(size, 0));
+    }
+
     /**
      * Reports a consumer consuming a record of messages.
      *
@@ -250,6 +269,41 @@ public class KafkaMetricsUtil {
         }
     }
 
+    /**
+     * Reports the number of polled batches of records which are being processed by a consumer.
+     *
+     * @param clientId         Client ID of the consumer.
+     * @param bootstrapServers Bootstrap servers of the consumer.
+     * @param inFlightBatches  Number of batches being processed.
+     */
+    public static void reportInFlightBatches(String clientId, String bootstrapServers, int inFlightBatches) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_CONSUMER,
+                                                                        clientId, bootstrapServers);
+        setGauge(observerContext, KafkaObservabilityConstants.METRIC_IN_FLIGHT_BATCHES[0],
+                 KafkaObservabilityConstants.METRIC_IN_FLIGHT_BATCHES[1], inFlightBatches);
+    }
+
+    /**
+     * Reports the number of records of a topic which are yet to be polled or processed by a consumer.
+     *
+     * @param clientId         Client ID of the consumer.
+     * @param bootstrapServers Bootstrap servers of the consumer.
+     * @param topic            Topic that the consumer receives the records from.
+     * @param lag              Number of records which are not processed.
+     */
+    public static void reportLag(String clientId, String bootstrapServers, String topic, double lag) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        KafkaObserverContext observerContext = new KafkaObserverContext(KafkaObservabilityConstants.CONTEXT_CONSUMER,
+                                                                        clientId, bootstrapServers, topic);
+        setGauge(observerContext, KafkaObservabilityConstants.METRIC_LAG[0],
+                 KafkaObservabilityConstants.METRIC_LAG[1], lag);
+    }
+
     /**
      * Reports an error generated by a producer. This method is called when the URL/subject of the current producer is
      * unknown. e.g. when a Kafka connection doesn't exist for a producer.
@@ -376,7 +430,7 @@ public class KafkaMetricsUtil {
                 .decrement();
     }
 
-    private static void setGauge(KafkaObserverContext observerContext, String name, String desc, int value) {
+    private static void setGauge(KafkaObserverContext observerContext, String name, String desc, double value) {
         if (metricRegistry == null) {
             return;
         }
@@ -40,6 +40,9 @@ public class KafkaObservabilityConstants {
     static final String[] METRIC_DELIVERED = {"delivered", "Number of messages successfully received by consumer"};
     static final String[] METRIC_CONSUMED_SIZE = {"consumed_size", "Total size in bytes of messages consumed"};
     static final String[] METRIC_ACK = {"acknowledgements", "Total number of acknowledgements received"};
+    static final String[] METRIC_IN_FLIGHT_BATCHES = {"in_flight_batches",
+            "Number of polled batches of records being processed"};
+    static final String[] METRIC_LAG = {"lag", "Number of records of a topic which are not processed yet"};
 
     static final String TAG_URL = "url";
     static final String TAG_TOPIC = "topic";
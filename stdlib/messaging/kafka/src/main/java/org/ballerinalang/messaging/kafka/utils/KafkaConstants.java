@@ -52,6 +52,7 @@ public class KafkaConstants {
     public static final String NATIVE_CONSUMER = "KafkaConsumer";
     public static final String NATIVE_PRODUCER = "KafkaProducer";
     public static final String NATIVE_CONSUMER_CONFIG = "KafkaConsumerConfig";
+    public static final String NATIVE_PARTITION_DISPATCHER = "KafkaPartitionDispatcher";
     public static final String NATIVE_PRODUCER_CONFIG = "KafkaProducerConfig";
     public static final String CONNECTOR_ID = "connectorId";
 
@@ -91,6 +92,8 @@ public class KafkaConstants {
     public static final String ALIAS_POLLING_TIMEOUT = "pollingTimeoutInMillis";
     public static final String ALIAS_POLLING_INTERVAL = "pollingIntervalInMillis";
     public static final String ALIAS_DECOUPLE_PROCESSING = "decoupleProcessing";
+    public static final String ALIAS_DISPATCH_BY_PARTITION = "dispatchByPartition";
+    public static final String ALIAS_MAX_IN_FLIGHT_BATCHES = "maxInFlightBatches";
     public static final String ALIAS_TOPIC = "topic";
     public static final String ALIAS_PARTITION = "partition";
     public static final String ALIAS_OFFSET = "offset";
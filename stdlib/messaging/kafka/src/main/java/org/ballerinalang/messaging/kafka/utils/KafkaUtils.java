@@ -20,9 +20,12 @@ package org.ballerinalang.messaging.kafka.utils;
 
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.internals.NoOpConsumerRebalanceListener;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.TopicPartition;
@@ -31,6 +34,7 @@ import org.apache.kafka.common.config.SslConfigs;
 import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.values.MapValue;
@@ -38,6 +42,8 @@ import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BArray;
 import org.ballerinalang.jvm.values.api.BError;
 import org.ballerinalang.jvm.values.api.BValueCreator;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.ballerinalang.messaging.kafka.impl.KafkaPartitionDispatcher;
 import org.ballerinalang.messaging.kafka.observability.KafkaMetricsUtil;
 import org.ballerinalang.messaging.kafka.observability.KafkaObservabilityConstants;
 import org.slf4j.Logger;
@@ -48,12 +54,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.function.Function;
 
 import static org.ballerinalang.jvm.BallerinaValues.createRecord;
 import static org.ballerinalang.messaging.kafka.utils.AvroUtils.handleAvroConsumer;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ADDITIONAL_PROPERTIES_MAP_FIELD;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_CONCURRENT_CONSUMERS;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DECOUPLE_PROCESSING;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DISPATCH_BY_PARTITION;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_INTERVAL;
@@ -70,6 +79,8 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_KE
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_VALUE_DESERIALIZER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_VALUE_DESERIALIZER_TYPE_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KEYSTORE_CONFIG;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_PARTITION_DISPATCHER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PASSWORD;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PRODUCER_KEY_SERIALIZER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PRODUCER_KEY_SERIALIZER_TYPE_CONFIG;
@@ -96,27 +107,33 @@ public class KafkaUtils {
     public static Object[] getResourceParameters(ObjectValue service, ObjectValue listener,
                                                  ConsumerRecords records, String groupId) {
 
-        BArray consumerRecordsArray = BValueCreator.createArrayValue(new BArrayType(getConsumerRecord().getType()));
+        // Records are populated using the types of these records, instead of creating a record per Kafka record.
+        MapValue<String, Object> consumerRecordType = getConsumerRecord();
+        BArray consumerRecordsArray = BValueCreator.createArrayValue(new BArrayType(consumerRecordType.getType()));
         String keyType = listener.getStringValue(CONSUMER_KEY_DESERIALIZER_TYPE_CONFIG);
         String valueType = listener.getStringValue(KafkaConstants.CONSUMER_VALUE_DESERIALIZER_TYPE_CONFIG);
 
         if (service.getType().getAttachedFunctions()[0].getParameterType().length == 2) {
             for (Object record : records) {
-                MapValue<String, Object> consumerRecord = populateConsumerRecord((ConsumerRecord) record, keyType,
+                MapValue<String, Object> consumerRecord = populateConsumerRecord(consumerRecordType,
+                                                                                 (ConsumerRecord) record, keyType,
                                                                                  valueType);
                 consumerRecordsArray.append(consumerRecord);
             }
             return new Object[]{listener, true, consumerRecordsArray, true, null, false, null, false};
         } else {
+            MapValue<String, Object> topicPartitionType = getTopicPartitionRecord();
+            MapValue<String, Object> partitionOffsetType = getPartitionOffsetRecord();
             BArray partitionOffsetsArray =
-                    BValueCreator.createArrayValue(new BArrayType(getPartitionOffsetRecord().getType()));
+                    BValueCreator.createArrayValue(new BArrayType(partitionOffsetType.getType()));
             for (Object record : records) {
                 ConsumerRecord kafkaRecord = (ConsumerRecord) record;
-                MapValue<String, Object> consumerRecord = populateConsumerRecord(kafkaRecord, keyType, valueType);
-                MapValue<String, Object> topicPartition = populateTopicPartitionRecord(kafkaRecord.topic(),
-                                                                                       kafkaRecord.partition());
-                MapValue<String, Object> partitionOffset = populatePartitionOffsetRecord(topicPartition,
-                                                                                         kafkaRecord.offset());
+                MapValue<String, Object> consumerRecord = populateConsumerRecord(consumerRecordType, kafkaRecord,
+                                                                                 keyType, valueType);
+                MapValue<String, Object> topicPartition = createRecord(topicPartitionType, kafkaRecord.topic(),
+                                                                       kafkaRecord.partition());
+                MapValue<String, Object> partitionOffset = createRecord(partitionOffsetType, topicPartition,
+                                                                        kafkaRecord.offset());
                 consumerRecordsArray.append(consumerRecord);
                 partitionOffsetsArray.append(partitionOffset);
             }
@@ -205,6 +222,7 @@ public class KafkaUtils {
         addIntParamIfPresent(ALIAS_POLLING_TIMEOUT, configurations, properties, ALIAS_POLLING_TIMEOUT);
         addIntParamIfPresent(ALIAS_POLLING_INTERVAL, configurations, properties, ALIAS_POLLING_INTERVAL);
         addIntParamIfPresent(ALIAS_CONCURRENT_CONSUMERS, configurations, properties, ALIAS_CONCURRENT_CONSUMERS);
+        addIntParamIfPresent(ALIAS_MAX_IN_FLIGHT_BATCHES, configurations, properties, ALIAS_MAX_IN_FLIGHT_BATCHES);
 
         addBooleanParamIfPresent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, configurations, properties,
                                  KafkaConstants.CONSUMER_ENABLE_AUTO_COMMIT_CONFIG, true);
@@ -215,6 +233,8 @@ public class KafkaUtils {
 
         addBooleanParamIfPresent(ALIAS_DECOUPLE_PROCESSING, configurations, properties,
                                  ALIAS_DECOUPLE_PROCESSING, false);
+        addBooleanParamIfPresent(ALIAS_DISPATCH_BY_PARTITION, configurations, properties,
+                                 ALIAS_DISPATCH_BY_PARTITION, false);
         if (Objects.nonNull(configurations.get(SECURE_SOCKET))) {
             processSslProperties(configurations, properties);
         }
@@ -563,13 +583,30 @@ public class KafkaUtils {
 
     public static MapValue<String, Object> populateConsumerRecord(ConsumerRecord record, String keyType,
                                                                   String valueType) {
+        return populateConsumerRecord(getConsumerRecord(), record, keyType, valueType);
+    }
+
+    /**
+     * Populate the {@code ConsumerRecord} record type in Ballerina, with the type of the given record. This allows
+     * the records retrieved from a poll to be populated without creating a {@code ConsumerRecord} for each of them
+     * to get the type.
+     *
+     * @param consumerRecordType record of the {@code ConsumerRecord} type
+     * @param record             Kafka record
+     * @param keyType            deserializer type of the key
+     * @param valueType          deserializer type of the value
+     * @return {@code MapValue} of the record
+     */
+    public static MapValue<String, Object> populateConsumerRecord(MapValue<String, Object> consumerRecordType,
+                                                                  ConsumerRecord record, String keyType,
+                                                                  String valueType) {
         Object key = null;
         if (Objects.nonNull(record.key())) {
             key = getBValues(record.key(), keyType);
         }
 
         Object value = getBValues(record.value(), valueType);
-        return createRecord(getConsumerRecord(), key, value, record.offset(), record.partition(), record.timestamp(),
+        return createRecord(consumerRecordType, key, value, record.offset(), record.partition(), record.timestamp(),
                             record.topic());
     }
 
@@ -624,6 +661,43 @@ public class KafkaUtils {
         return createKafkaRecord(KafkaConstants.TOPIC_PARTITION_STRUCT_NAME);
     }
 
+    /**
+     * Runs an operation of the Kafka consumer of a ballerina kafka consumer. When the records of a listener are
+     * dispatched by partition, the consumer is polled while the resources are running, hence the operation is run
+     * from the polling thread and the strand is blocked until then.
+     *
+     * @param consumerObject Kafka consumer object from ballerina.
+     * @param operation      Operation of the consumer, which returns the result of the ballerina function.
+     * @return Result of the operation, or null if the operation is run from the polling thread.
+     */
+    public static Object runConsumerOperation(ObjectValue consumerObject, Function<KafkaConsumer, Object> operation) {
+        KafkaPartitionDispatcher partitionDispatcher =
+                (KafkaPartitionDispatcher) consumerObject.getNativeData(NATIVE_PARTITION_DISPATCHER);
+        if (Objects.isNull(partitionDispatcher)) {
+            return operation.apply((KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER));
+        }
+        partitionDispatcher.submit(operation, new NonBlockingCallback(Scheduler.getStrand()));
+        return null;
+    }
+
+    /**
+     * Returns the rebalance listener to subscribe the consumer with. When the records are dispatched by partition, the
+     * processed offsets of the revoked partitions are committed before the given listener is notified.
+     *
+     * @param consumerObject    Kafka consumer object from ballerina.
+     * @param rebalanceListener Listener of the rebalances, or null if there is none.
+     * @return Listener of the rebalances of the consumer.
+     */
+    public static ConsumerRebalanceListener getRebalanceListener(ObjectValue consumerObject,
+                                                                 ConsumerRebalanceListener rebalanceListener) {
+        KafkaPartitionDispatcher partitionDispatcher =
+                (KafkaPartitionDispatcher) consumerObject.getNativeData(NATIVE_PARTITION_DISPATCHER);
+        if (Objects.nonNull(partitionDispatcher)) {
+            return partitionDispatcher.withRebalanceListener(rebalanceListener);
+        }
+        return Objects.isNull(rebalanceListener) ? new NoOpConsumerRebalanceListener() : rebalanceListener;
+    }
+
     public static BError createKafkaError(String message, String reason) {
         MapValue<String, Object> detail = createKafkaDetailRecord(message);
         return BValueCreator.createErrorValue(StringUtils.fromString(reason), detail);
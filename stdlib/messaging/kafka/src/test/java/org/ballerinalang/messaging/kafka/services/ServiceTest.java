@@ -87,6 +87,59 @@ public class ServiceTest {
         }
     }
 
+    @Test(description = "Test dispatching the records of each partition to a service in order")
+    public void testPartitionDispatchService() {
+        String balFile = "partition_dispatch_service.bal";
+        compileResult = BCompileUtil.compileOffline(true, getResourcePath(Paths.get(TEST_SRC, TEST_SERVICES, balFile)));
+        String topic = "partition-dispatch-test";
+        String message = "test_string";
+        kafkaCluster.createTopic(topic, 3, 1);
+        for (int i = 0; i < 100; i++) {
+            kafkaCluster.sendMessage(topic, message);
+        }
+
+        try {
+            await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> {
+                BValue[] returnBValues = BRunUtil.invoke(compileResult, "testGetResult");
+                Assert.assertEquals(returnBValues.length, 1);
+                Assert.assertTrue(returnBValues[0] instanceof BInteger);
+                return (((BInteger) returnBValues[0]).intValue() == 100);
+            });
+        } catch (Throwable e) {
+            Assert.fail(e.getMessage());
+        }
+        BValue[] returnBValues = BRunUtil.invoke(compileResult, "testGetInOrder");
+        Assert.assertEquals(returnBValues.length, 1);
+        Assert.assertTrue(((BBoolean) returnBValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test committing and querying the consumer from a service while the records are " +
+            "dispatched by partition")
+    public void testPartitionDispatchCommitService() {
+        String balFile = "partition_dispatch_commit_service.bal";
+        compileResult = BCompileUtil.compileOffline(true, getResourcePath(Paths.get(TEST_SRC, TEST_SERVICES, balFile)));
+        String topic = "partition-dispatch-commit-test";
+        String message = "test_string";
+        kafkaCluster.createTopic(topic, 3, 1);
+        for (int i = 0; i < 100; i++) {
+            kafkaCluster.sendMessage(topic, message);
+        }
+
+        try {
+            await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> {
+                BValue[] returnBValues = BRunUtil.invoke(compileResult, "testGetResult");
+                Assert.assertEquals(returnBValues.length, 1);
+                Assert.assertTrue(returnBValues[0] instanceof BInteger);
+                return (((BInteger) returnBValues[0]).intValue() == 100);
+            });
+        } catch (Throwable e) {
+            Assert.fail(e.getMessage());
+        }
+        BValue[] returnBValues = BRunUtil.invoke(compileResult, "testGetCommitFailed");
+        Assert.assertEquals(returnBValues.length, 1);
+        Assert.assertFalse(((BBoolean) returnBValues[0]).booleanValue());
+    }
+
     @Test(description = "Test endpoint bind to a service")
     public void testAdvancedService() {
         String balFile = "advanced_service.bal";
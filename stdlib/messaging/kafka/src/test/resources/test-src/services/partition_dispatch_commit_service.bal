@@ -0,0 +1,79 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/kafka;
+
+string topic = "partition-dispatch-commit-test";
+
+kafka:ConsumerConfiguration consumerConfigs = {
+    bootstrapServers: "localhost:14141",
+    groupId: "partition-dispatch-commit-test-group",
+    clientId: "partition-dispatch-commit-consumer",
+    offsetReset: "earliest",
+    topics: [topic],
+    pollingIntervalInMillis: 10,
+    maxPollRecords: 5,
+    autoCommit: false,
+    dispatchByPartition: true,
+    maxInFlightBatches: 4
+};
+
+listener kafka:Consumer kafkaConsumer = new (consumerConfigs);
+
+int count = 0;
+boolean commitFailed = false;
+
+service kafkaTestService on kafkaConsumer {
+    resource function onMessage(kafka:Consumer consumer, kafka:ConsumerRecord[] records) {
+        kafka:ConsumerRecord lastRecord = records[records.length() - 1];
+        kafka:TopicPartition partition = {
+            topic: lastRecord.topic,
+            partition: lastRecord.partition
+        };
+        // The consumer is committed and queried while the next records are polled.
+        var commitResult = consumer->commit();
+        var assignment = consumer->getAssignment();
+        var position = consumer->getPositionOffset(partition);
+        // Records which are not processed yet are not committed, the first records of a partition are not committed
+        // at all.
+        boolean processedCommitted = true;
+        if (records[0].offset > 0) {
+            var committedOffset = consumer->getCommittedOffset(partition);
+            processedCommitted = committedOffset is kafka:PartitionOffset &&
+                committedOffset.offset <= records[0].offset;
+        }
+        kafka:PartitionOffset offset = {
+            partition: partition,
+            offset: lastRecord.offset + 1
+        };
+        var commitOffsetResult = consumer->commitOffset([offset]);
+        lock {
+            if (commitResult is error || commitOffsetResult is error || assignment is error || position is error ||
+                    !processedCommitted) {
+                commitFailed = true;
+            }
+            count += records.length();
+        }
+    }
+}
+
+public function testGetResult() returns int {
+    return count;
+}
+
+public function testGetCommitFailed() returns boolean {
+    return commitFailed;
+}
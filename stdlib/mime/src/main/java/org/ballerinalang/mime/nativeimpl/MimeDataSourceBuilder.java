@@ -37,7 +37,9 @@ import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 import static org.ballerinalang.mime.util.EntityBodyHandler.isStreamingRequired;
 import static org.ballerinalang.mime.util.MimeConstants.CHARSET;
@@ -106,6 +108,11 @@ public class MimeDataSourceBuilder extends AbstractGetPayloadHandler {
                 // If the value is already a JSON, then return as it is.
                 if (isJSON(dataSource)) {
                     result = (RefValue) dataSource;
+                } else if (isByteArray(dataSource)) {
+                    // Parse the payload from its bytes, without decoding it to a string first.
+                    byte[] payload = ((ArrayValue) dataSource).getBytes();
+                    result = (RefValue) JSONParser.parse(new ByteArrayInputStream(payload),
+                                                         StandardCharsets.UTF_8.name());
                 } else {
                     // Else, build the JSON from the string representation of the payload.
                     String payload = MimeUtil.getMessageAsString(dataSource);
@@ -134,6 +141,10 @@ public class MimeDataSourceBuilder extends AbstractGetPayloadHandler {
         return result;
     }
 
+    private static boolean isByteArray(Object value) {
+        return value instanceof ArrayValue && ((ArrayValue) value).getElementType().getTag() == TypeTags.BYTE;
+    }
+
     private static boolean isJSON(Object value) {
         // If the value is string, it could represent any type of payload.
         // Therefore it needs to be parsed as JSON.
@@ -18,28 +18,37 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
 
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * Timers are run on the {@link TimerWheel}, which dispatches the services directly to the Ballerina scheduler. Runs
+ * are scheduled at a fixed rate from the first run. As the wheel expires the timeouts on its ticks, the runs which are
+ * due by then are caught up on expiry, hence intervals shorter than a tick do not lose runs. Runs which are missed by
+ * more than the misfire threshold of the appointments, such as while the timer is paused, are skipped and counted as
+ * done.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
+    private static final long MISFIRE_THRESHOLD = Long.parseLong(QUARTZ_MISFIRE_THRESHOLD_VALUE);
+
     private long interval, delay;
 
+    // Following are guarded by this timer.
+    private TimerWheel.Timeout timeout;
+    private long firstRunTime;
+    private long runs;
+    private boolean paused;
+
     /**
      * Creates a Timer object.
      *
@@ -73,15 +82,60 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() {
+        cancelTimeout();
+        this.firstRunTime = currentTimeMillis() + this.getDelay();
+        this.runs = 0;
+        this.paused = false;
+        scheduleNextRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        cancelTimeout();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (this.timeout != null) {
+            cancelTimeout();
+            this.paused = true;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (this.paused) {
+            this.paused = false;
+            scheduleNextRun();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addService(ServiceInformation service) {
+        super.addService(service);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void removeService(String serviceName) {
+        super.removeService(serviceName);
+    }
+
     /**
      * Gets the interval of this Timer.
      *
@@ -119,49 +173,64 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
-     *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * Schedule the next run of this Timer on the timer wheel, unless the maximum number of runs are done.
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void scheduleNextRun() {
+        if (this.getMaxRuns() > 0 && this.runs >= this.getMaxRuns()) {
+            this.timeout = null;
+            return;
         }
+        // Runs which are already due, such as when the timer is resumed, are run on the next tick of the wheel.
+        long nextRunTime = this.firstRunTime + this.runs * this.getInterval();
+        this.timeout = TimerWheel.getInstance().schedule(this::run, nextRunTime - currentTimeMillis());
+    }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+    private void run(TimerWheel.Timeout expiredTimeout) {
+        long dueRuns;
+        List<ServiceInformation> services;
+        synchronized (this) {
+            // The timer is stopped, paused or restarted after the timeout has expired.
+            if (expiredTimeout != this.timeout) {
+                return;
+            }
+            long currentTime = currentTimeMillis();
+            // Runs which are missed by more than the misfire threshold are skipped and counted as done.
+            this.runs = Math.max(this.runs, getRunsUntil(currentTime - MISFIRE_THRESHOLD - 1));
+            dueRuns = getRunsUntil(currentTime) - this.runs;
+            if (this.getMaxRuns() > 0) {
+                dueRuns = Math.max(Math.min(dueRuns, this.getMaxRuns() - this.runs), 0);
+            }
+            this.runs += dueRuns;
+            scheduleNextRun();
+            // Services are attached and detached while the timer runs.
+            services = new ArrayList<>(this.getServicesMap().values());
+        }
+        for (long run = 0; run < dueRuns; run++) {
+            for (ServiceInformation serviceInformation : services) {
+                executeService(serviceInformation);
+            }
+        }
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+    /**
+     * Gets the number of runs which are scheduled at or before the given time.
+     */
+    private long getRunsUntil(long time) {
+        return Math.max(Math.floorDiv(time - this.firstRunTime, this.getInterval()) + 1, 0);
+    }
+
+    void executeService(ServiceInformation serviceInformation) {
+        TaskExecutor.executeFunction(serviceInformation);
+    }
+
+    private void cancelTimeout() {
+        if (this.timeout != null) {
+            this.timeout.cancel();
+            this.timeout = null;
         }
-        return simpleScheduleBuilder;
+    }
+
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
     }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.objects;
+
+import org.ballerinalang.jvm.util.RuntimeUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel which runs the timeouts of the timers.
+ * <p>
+ * Timeouts are hashed to the buckets of the wheel by their deadline, and a single thread expires the timeouts of a
+ * bucket on each tick. Scheduling and cancelling a timeout only adds it to a queue, which the thread drains before
+ * each tick, hence both are O(1) and do not contend with each other.
+ *
+ * @since 2.0.0
+ */
+public class TimerWheel {
+
+    private static final long TICK_DURATION = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final long startTime = System.nanoTime();
+    // Only accessed from the worker thread.
+    private long tick;
+
+    private static class TimerWheelHelper {
+        private static final TimerWheel INSTANCE = new TimerWheel();
+    }
+
+    private TimerWheel() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+    }
+
+    public static TimerWheel getInstance() {
+        return TimerWheelHelper.INSTANCE;
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task        Task to run, which gets the timeout it is run for.
+     * @param delayMillis Delay in milliseconds after which the task runs.
+     * @return the timeout, which can be used to cancel the task.
+     */
+    public Timeout schedule(Consumer<Timeout> task, long delayMillis) {
+        if (started.compareAndSet(false, true)) {
+            Thread worker = new Thread(this::runWorker, "ballerina-task-timer");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void runWorker() {
+        tick = (System.nanoTime() - startTime) / TICK_DURATION;
+        while (true) {
+            waitForNextTick();
+            removeCancelledTimeouts();
+            transferPendingTimeouts();
+            wheel[(int) (tick & WHEEL_MASK)].expireTimeouts();
+            tick++;
+        }
+    }
+
+    private void waitForNextTick() {
+        long deadline = TICK_DURATION * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTimeMillis = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999999);
+            if (sleepTimeMillis <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(sleepTimeMillis);
+            } catch (InterruptedException e) {
+                // The worker runs as long as the runtime does, hence it is not interrupted to stop.
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() == Timeout.ST_CANCELLED) {
+                continue;
+            }
+            long calculatedTick = timeout.deadline / TICK_DURATION;
+            timeout.remainingRounds = (calculatedTick - tick) / WHEEL_SIZE;
+            // Timeouts which are already due are expired on the current tick.
+            long expiryTick = Math.max(calculatedTick, tick);
+            wheel[(int) (expiryTick & WHEEL_MASK)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Timeout of a task scheduled on the wheel.
+     */
+    public static class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final TimerWheel timerWheel;
+        private final Consumer<Timeout> task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // Following are only accessed from the worker thread.
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(TimerWheel timerWheel, Consumer<Timeout> task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task, unless it has already run.
+         *
+         * @return true if the task is cancelled.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // The timeout is removed from its bucket on the next tick.
+            timerWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                task.accept(this);
+            } catch (RuntimeException e) {
+                // A failing task should not stop the other timeouts from being expired.
+                RuntimeUtils.printCrashLog(e);
+            }
+        }
+    }
+
+    /**
+     * Bucket of the wheel, which is a doubly linked list of the timeouts hashed to it.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state.get() == Timeout.ST_CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.objects;
+
+import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for running the timers on the timer wheel.
+ */
+@Test
+public class TimerTest {
+
+    @Test(description = "Tests a timer which stops after the maximum number of runs")
+    public void testMaxRuns() throws SchedulingException, InterruptedException {
+        CountingTimer timer = new CountingTimer(0, 20, 5);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRuns() == 5);
+        Thread.sleep(200);
+        Assert.assertEquals(timer.getRuns(), 5);
+    }
+
+    @Test(description = "Tests a timer with an interval shorter than a tick of the wheel")
+    public void testSmallInterval() throws SchedulingException, InterruptedException {
+        CountingTimer timer = new CountingTimer(0, 1, 300);
+        timer.start();
+        // Runs which are due within a tick of the wheel are caught up, rather than skipped.
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRuns() == 300);
+        Thread.sleep(100);
+        Assert.assertEquals(timer.getRuns(), 300);
+    }
+
+    @Test(description = "Tests the number of runs of a timer over a period")
+    public void testRunsOverPeriod() throws SchedulingException, InterruptedException {
+        CountingTimer timer = new CountingTimer(0, 3);
+        long startTime = System.nanoTime();
+        timer.start();
+        Thread.sleep(600);
+        timer.stop();
+        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        int runs = timer.getRuns();
+        // Runs are late by at most a couple of ticks of the wheel.
+        Assert.assertTrue(runs <= elapsedTime / 3 + 1, runs + " runs in " + elapsedTime + " milliseconds");
+        Assert.assertTrue(runs >= (elapsedTime - 50) / 3, runs + " runs in " + elapsedTime + " milliseconds");
+        Thread.sleep(100);
+        Assert.assertEquals(timer.getRuns(), runs);
+    }
+
+    @Test(description = "Tests pausing and resuming a timer")
+    public void testPauseAndResume() throws SchedulingException, InterruptedException {
+        CountingTimer timer = new CountingTimer(0, 50, 20);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRuns() >= 3);
+        timer.pause();
+        int runs = timer.getRuns();
+        Thread.sleep(300);
+        Assert.assertEquals(timer.getRuns(), runs);
+
+        // Runs missed while the timer is paused are caught up, as they are within the misfire threshold.
+        timer.resume();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRuns() == 20);
+        Thread.sleep(200);
+        Assert.assertEquals(timer.getRuns(), 20);
+    }
+
+    @Test(description = "Tests stopping a timer")
+    public void testStop() throws SchedulingException, InterruptedException {
+        CountingTimer timer = new CountingTimer(0, 20);
+        timer.start();
+        await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> timer.getRuns() >= 2);
+        timer.stop();
+        int runs = timer.getRuns();
+        Thread.sleep(200);
+        Assert.assertEquals(timer.getRuns(), runs);
+    }
+
+    /**
+     * Timer which counts its runs, instead of dispatching the service to the Ballerina scheduler.
+     */
+    private static class CountingTimer extends Timer {
+
+        private final AtomicInteger runs = new AtomicInteger();
+
+        CountingTimer(long delay, long interval) throws SchedulingException {
+            super(delay, interval);
+            this.getServicesMap().put("countingService", new ServiceInformation(null, null));
+        }
+
+        CountingTimer(long delay, long interval, long maxRuns) throws SchedulingException {
+            super(delay, interval, maxRuns);
+            this.getServicesMap().put("countingService", new ServiceInformation(null, null));
+        }
+
+        @Override
+        void executeService(ServiceInformation serviceInformation) {
+            runs.incrementAndGet();
+        }
+
+        int getRuns() {
+            return runs.get();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.objects;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the timer wheel which runs the timers.
+ */
+@Test
+public class TimerWheelTest {
+
+    @Test(description = "Tests cancelling the timeouts before they expire")
+    public void testCancelTimeouts() throws InterruptedException {
+        AtomicInteger expiredTimeouts = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(500);
+        List<TimerWheel.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            timeouts.add(TimerWheel.getInstance().schedule(timeout -> {
+                expiredTimeouts.incrementAndGet();
+                latch.countDown();
+            }, 100 + i % 50));
+        }
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            Assert.assertTrue(timeouts.get(i).cancel());
+        }
+        Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+        // Cancelled timeouts are not expired later either.
+        Thread.sleep(200);
+        Assert.assertEquals(expiredTimeouts.get(), 500);
+        Assert.assertFalse(timeouts.get(0).cancel());
+        Assert.assertFalse(timeouts.get(1).cancel());
+    }
+
+    @Test(description = "Tests expiring a timeout which is due after multiple rounds of the wheel")
+    public void testExpireAfterMultipleRounds() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.nanoTime();
+        // The wheel of 512 ticks of 10 milliseconds completes a round in 5.12 seconds.
+        TimerWheel.getInstance().schedule(timeout -> latch.countDown(), 6000);
+        Assert.assertFalse(latch.await(5500, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        Assert.assertTrue(elapsedTime >= 6000, "Timeout expired after " + elapsedTime + " milliseconds");
+    }
+
+    @Test(description = "Tests expiring the timeouts which are already due")
+    public void testExpireDueTimeouts() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        TimerWheel.getInstance().schedule(timeout -> latch.countDown(), 0);
+        TimerWheel.getInstance().schedule(timeout -> latch.countDown(), -100);
+        Assert.assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+    }
+}
@@ -26,6 +26,7 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.net.http.BasePathTrie;
 import org.ballerinalang.net.http.HTTPServicesRegistry;
 import org.ballerinalang.net.http.HttpResource;
 import org.ballerinalang.net.http.HttpService;
@@ -38,7 +39,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.BALLERINA;
 import static org.ballerinalang.net.websub.WebSubSubscriberConstants.RESOURCE_NAME_ON_INTENT_VERIFICATION;
@@ -137,18 +137,17 @@ public class WebSubServicesRegistry extends HTTPServicesRegistry {
         String hostName = httpService.getHostName();
         if (servicesMapByHost.get(hostName) == null) {
             servicesByBasePath = new ConcurrentHashMap<>();
-            sortedServiceURIs = new CopyOnWriteArrayList<>();
-            servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+            basePaths = new BasePathTrie();
+            servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, basePaths));
         } else {
             servicesByBasePath = getServicesByHost(hostName);
-            sortedServiceURIs = getSortedServiceURIsByHost(hostName);
+            basePaths = getBasePathsByHost(hostName);
         }
         servicesByBasePath.put(httpService.getBasePath(), httpService);
         logger.info("Service deployed : " + service.getType().getName() + " with context " + httpService.getBasePath());
 
         //basePath will get cached after registering service
-        sortedServiceURIs.add(httpService.getBasePath());
-        sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        basePaths.add(httpService.getBasePath());
 
         if (topicIdentifier != null) {
             // i.e., extension config exists
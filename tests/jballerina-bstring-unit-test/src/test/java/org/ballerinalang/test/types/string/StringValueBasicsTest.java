@@ -48,6 +48,11 @@ public class StringValueBasicsTest extends BStringTestCommons {
         testAndAssert("nonBMPLength", 5);
     }
 
+    @Test
+    public void testConcatNonBMPStringsInLoop() {
+        testAndAssert("concatNonBMPInLoop", 250);
+    }
+
     @Test
     public void testRecordStringValue() {
         testAndAssert("recordStringValue", 5);
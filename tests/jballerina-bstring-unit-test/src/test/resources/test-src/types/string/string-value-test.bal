@@ -25,6 +25,17 @@ function nonBMPLength() returns (int) {
     return smiley.length();
 }
 
+function concatNonBMPInLoop() returns int {
+    string s = "";
+    foreach int i in 0 ..< 50 {
+        s = s + "h😀llo";
+    }
+    if (s[246] != "😀" || s.substring(245, 250) != "h😀llo") {
+        return -1;
+    }
+    return s.length();
+}
+
 function recordStringValue() returns int {
     string smiley = "h😀llo";
     record {| string myField; |} r = {myField: smiley};
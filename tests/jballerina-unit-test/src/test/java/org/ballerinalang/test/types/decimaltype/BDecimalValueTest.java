@@ -131,6 +131,33 @@ public class BDecimalValueTest {
                 "Invalid decimal value returned.");
     }
 
+    @Test(description = "Test the scale and the string value of decimal arithmetic results")
+    public void testDecimalArithmeticScale() {
+        BValue[] returns = BRunUtil.invoke(result, "testDecimalArithmeticScale");
+        Assert.assertEquals(returns.length, 8);
+        String[] expected = {"3.305", "3.0", "6.600", "-1.105"};
+        for (int i = 0; i < expected.length; i++) {
+            // BigDecimal equality compares the scale as well
+            Assert.assertEquals(((BDecimal) returns[i]).decimalValue(), new BigDecimal(expected[i]),
+                    "Invalid decimal value returned.");
+            Assert.assertEquals(returns[i + expected.length].stringValue(), expected[i],
+                    "Invalid string value returned.");
+        }
+    }
+
+    @Test(description = "Test decimal arithmetic with results beyond the long range")
+    public void testDecimalArithmeticBeyondLongRange() {
+        BValue[] returns = BRunUtil.invoke(result, "testDecimalArithmeticBeyondLongRange");
+        Assert.assertEquals(returns.length, 3);
+        BigDecimal a = new BigDecimal("9223372036854775807", MathContext.DECIMAL128);
+        BigDecimal b = new BigDecimal("922337203685477580.7", MathContext.DECIMAL128);
+        Assert.assertEquals(((BDecimal) returns[0]).decimalValue().compareTo(a.add(b, MathContext.DECIMAL128)), 0);
+        Assert.assertEquals(((BDecimal) returns[1]).decimalValue().compareTo(
+                a.negate().subtract(b, MathContext.DECIMAL128)), 0);
+        Assert.assertEquals(((BDecimal) returns[2]).decimalValue().compareTo(
+                a.multiply(b, MathContext.DECIMAL128)), 0);
+    }
+
     @Test(description = "Test decimal modulus")
     public void testDecimalModulus() {
         BValue[] returns = BRunUtil.invoke(result, "testDecimalModulus");
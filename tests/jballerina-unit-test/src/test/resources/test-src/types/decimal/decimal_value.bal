@@ -72,6 +72,27 @@ function testDecimalModulus() returns (decimal) {
     return a % b; // EXPECTED: 1.465
 }
 
+// Decimal arithmetic keeps the scale of the operands.
+function testDecimalArithmeticScale() returns [decimal, decimal, decimal, decimal, string, string, string, string] {
+    decimal a = 1.10;
+    decimal b = 2.205;
+    decimal c = 6.0;
+    decimal d = 2;
+    decimal sum = a + b; // EXPECTED: 3.305
+    decimal quotient = c / d; // EXPECTED: 3.0
+    decimal product = a * c; // EXPECTED: 6.600
+    decimal difference = a - b; // EXPECTED: -1.105
+    return [sum, quotient, product, difference, sum.toString(), quotient.toString(), product.toString(),
+            difference.toString()];
+}
+
+// Decimal arithmetic with results beyond the long range.
+function testDecimalArithmeticBeyondLongRange() returns [decimal, decimal, decimal] {
+    decimal a = 9223372036854775807;
+    decimal b = 922337203685477580.7;
+    return [a + b, -a - b, a * b];
+}
+
 // Decimal negation.
 function testDecimalNegation() returns (decimal) {
     decimal a = 4.565;